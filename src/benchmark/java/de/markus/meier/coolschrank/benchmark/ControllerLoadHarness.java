@@ -0,0 +1,375 @@
+package de.markus.meier.coolschrank.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import de.markus.meier.coolschrank.CoolschrankApplication;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.ConfigurableApplicationContext;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.ByteBufFlux;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Load-tests the fridge, shopping list and user endpoints end to end and checks the results against a stored baseline.
+ * The application runs with the {@code fridge-simulator} profile, so the remote fridge API is an in-process stand-in.
+ * After seeding fridges, shopping lists and users, each mix of requests is sent at a fixed arrival rate. Latency is
+ * measured from the time a request was due rather than the time it was sent, so a stalled server is charged for the
+ * requests queued behind it (no coordinated omission). Failed requests are charged with their latency as well, and
+ * only successful requests count towards the throughput.
+ * <p>
+ * With {@code update-baseline=true} the results are stored as the new baseline. Otherwise the run fails with exit code 1
+ * if there is no baseline, or if a mix lost more throughput or gained more p99 latency than the threshold allows, or
+ * its error rate grew by more than the error threshold, compared to the baseline. The baseline is kept in
+ * src/benchmark/resources so it survives {@code mvn clean} and can be committed, but baselines are only comparable on
+ * the same machine with the same options. No baseline is shipped with the repository, so the first run on a machine
+ * must record one with {@code update-baseline=true}.
+ * <p>
+ * Run with
+ * {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark.main=de.markus.meier.coolschrank.benchmark.ControllerLoadHarness
+ * -Dbenchmark.args="mixes=read-heavy,refresh-heavy,create-heavy rate=200 duration=30s warmup=10s threshold=0.2"},
+ * after recording the baseline with the same arguments plus {@code update-baseline=true}.
+ */
+public final class ControllerLoadHarness {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private static final int INVENTORY_SIZE = 10;
+
+    /**
+     * The share of each operation in a mix, in the order of {@link Operation}.
+     */
+    private static final Map<String, int[]> MIXES = Map.of(
+            "read-heavy", new int[]{30, 40, 15, 8, 4, 1, 1, 1},
+            "refresh-heavy", new int[]{10, 15, 5, 40, 25, 2, 2, 1},
+            "create-heavy", new int[]{10, 10, 5, 10, 5, 20, 25, 15});
+
+    private ControllerLoadHarness() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = new HashMap<>(Map.of(
+                "mixes", "read-heavy,refresh-heavy,create-heavy",
+                "rate", "200",
+                "duration", "30s",
+                "warmup", "10s",
+                "fridges", "50",
+                "upstream-latency", "5ms",
+                "upstream-p99", "20ms",
+                "baseline", "src/benchmark/resources/load-baseline.json",
+                "threshold", "0.2",
+                "update-baseline", "false"));
+        options.put("error-threshold", "0.01");
+        for (String arg : args) {
+            String[] option = arg.split("=", 2);
+            options.put(option[0], option[1]);
+        }
+        int rate = Integer.parseInt(options.get("rate"));
+        Duration duration = DurationStyle.detectAndParse(options.get("duration"));
+        Duration warmup = DurationStyle.detectAndParse(options.get("warmup"));
+        File baselineFile = new File(options.get("baseline"));
+        double threshold = Double.parseDouble(options.get("threshold"));
+        double errorThreshold = Double.parseDouble(options.get("error-threshold"));
+        boolean updateBaseline = Boolean.parseBoolean(options.get("update-baseline"));
+        if (!updateBaseline && !baselineFile.exists()) {
+            System.out.println("No baseline at " + baselineFile + ", record one with update-baseline=true");
+            System.exit(1);
+        }
+
+        Map<String, Result> results = new LinkedHashMap<>();
+        try (ConfigurableApplicationContext application = start(options)) {
+            int port = Integer.parseInt(application.getEnvironment().getProperty("local.server.port"));
+            ConnectionProvider connectionProvider = ConnectionProvider.builder("load")
+                    .maxConnections(1000)
+                    .pendingAcquireMaxCount(-1)
+                    .build();
+            LoopResources loopResources = LoopResources.create("load");
+            try {
+                HttpClient httpClient = HttpClient.create(connectionProvider)
+                        .runOn(loopResources)
+                        .baseUrl("http://localhost:" + port)
+                        .headers(headers -> headers.set(HttpHeaderNames.CONTENT_TYPE, "application/json"))
+                        .responseTimeout(Duration.ofSeconds(60));
+                Fixture fixture = seed(httpClient, Integer.parseInt(options.get("fridges")));
+                for (String mix : options.get("mixes").split(",")) {
+                    if (!MIXES.containsKey(mix)) {
+                        throw new IllegalArgumentException("Unknown mix " + mix + ", expected one of " + MIXES.keySet());
+                    }
+                    results.put(mix, drive(httpClient, fixture, MIXES.get(mix), rate, warmup, duration));
+                }
+            } finally {
+                connectionProvider.disposeLater().block();
+                loopResources.disposeLater().block();
+            }
+        }
+
+        Map<String, Result> baseline = updateBaseline
+                ? Map.of()
+                : OBJECT_MAPPER.readValue(baselineFile, new TypeReference<Map<String, Result>>() {
+                });
+        boolean regressed = false;
+        System.out.printf("%n%-14s %10s %9s %9s %9s %9s %8s %7s   %s%n",
+                "mix", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms", "errors", "error%", "baseline");
+        for (Map.Entry<String, Result> entry : results.entrySet()) {
+            Result result = entry.getValue();
+            Result expected = baseline.get(entry.getKey());
+            String verdict = "none";
+            if (expected != null) {
+                boolean slower = result.throughput() < expected.throughput() * (1 - threshold);
+                boolean laggier = result.p99() > expected.p99() * (1 + threshold);
+                boolean failing = result.errorRate() > expected.errorRate() + errorThreshold;
+                regressed |= slower || laggier || failing;
+                verdict = String.format("%.1f req/s, p99 %.1f ms, %.2f%% errors: %s", expected.throughput(), expected.p99(),
+                        expected.errorRate() * 100, slower || laggier || failing ? "REGRESSED" : "ok");
+            } else if (!updateBaseline) {
+                regressed = true;
+                verdict = "missing from the baseline";
+            }
+            System.out.printf("%-14s %s   %s%n", entry.getKey(), result, verdict);
+        }
+        if (updateBaseline) {
+            File parent = baselineFile.getAbsoluteFile().getParentFile();
+            if (parent != null) {
+                parent.mkdirs();
+            }
+            OBJECT_MAPPER.writeValue(baselineFile, results);
+            System.out.println("Baseline written to " + baselineFile);
+        } else if (regressed) {
+            System.out.printf("Regression beyond %.0f%% (errors %.0f%% points) against %s%n", threshold * 100, errorThreshold * 100, baselineFile);
+            System.exit(1);
+        }
+    }
+
+    private static ConfigurableApplicationContext start(Map<String, String> options) {
+        return new SpringApplicationBuilder(CoolschrankApplication.class)
+                .profiles("fridge-simulator")
+                .run("--server.port=0",
+                        "--fridge.simulator.latency-median=" + options.get("upstream-latency"),
+                        "--fridge.simulator.latency-p99=" + options.get("upstream-p99"),
+                        "--fridge.simulator.inventory-size=" + INVENTORY_SIZE,
+                        "--fridge.simulator.auto-create=true",
+                        "--spring.datasource.url=jdbc:h2:mem:controller-load",
+                        "--logging.level.root=WARN");
+    }
+
+    /**
+     * Creates the fridges, one shopping list and one user per fridge that the mixes work on.
+     */
+    private static Fixture seed(HttpClient httpClient, int fridges) {
+        Fixture fixture = new Fixture();
+        for (int i = 0; i < fridges; i++) {
+            String fridgeId = send(httpClient, HttpMethod.POST, "/fridge/create", null).block().body();
+            JsonNode shoppingList = json(send(httpClient, HttpMethod.POST, "/shoppingList/create/fridge/" + fridgeId, null).block());
+            String userId = send(httpClient, HttpMethod.POST, "/user/", user(fridgeId)).block().body();
+            fixture.fridgeIds.add(fridgeId);
+            fixture.shoppingListIds.add(shoppingList.get("id").asLong());
+            fixture.userIds.add(Long.parseLong(userId));
+        }
+        return fixture;
+    }
+
+    /**
+     * Sends requests of the mix at a fixed rate and records the latency of those due within the measurement window,
+     * whether they succeeded or failed.
+     */
+    private static Result drive(HttpClient httpClient, Fixture fixture, int[] mix, int rate, Duration warmup, Duration duration) {
+        Operation[] operations = Operation.values();
+        int totalWeight = 0;
+        for (int weight : mix) {
+            totalWeight += weight;
+        }
+        int[] weights = mix;
+        int total = totalWeight;
+
+        long periodNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long requests = (warmup.toNanos() + duration.toNanos()) / periodNanos;
+        long firstMeasured = warmup.toNanos() / periodNanos;
+        Histogram latencies = new ConcurrentHistogram(TimeUnit.MINUTES.toMicros(1), 3);
+        AtomicLong successes = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        long start = System.nanoTime();
+        Flux.interval(Duration.ofNanos(periodNanos))
+                .take(requests)
+                .flatMap(tick -> {
+                    long due = start + tick * periodNanos;
+                    Operation operation = pick(operations, weights, total);
+                    return operation.send(httpClient, fixture)
+                            .map(Response::status)
+                            .onErrorReturn(-1)
+                            .doOnNext(status -> {
+                                if (tick < firstMeasured) {
+                                    return;
+                                }
+                                latencies.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - due), latencies.getHighestTrackableValue()));
+                                if (status < 200 || status >= 300) {
+                                    errors.incrementAndGet();
+                                } else {
+                                    successes.incrementAndGet();
+                                }
+                            });
+                }, Integer.MAX_VALUE)
+                .blockLast();
+        long measured = latencies.getTotalCount();
+        return new Result(successes.get() / (double) duration.toSeconds(),
+                latencies.getValueAtPercentile(50) / 1000.0, latencies.getValueAtPercentile(99) / 1000.0,
+                latencies.getValueAtPercentile(99.9) / 1000.0, latencies.getMaxValue() / 1000.0, errors.get(),
+                measured == 0 ? 0 : errors.get() / (double) measured);
+    }
+
+    private static Operation pick(Operation[] operations, int[] weights, int total) {
+        int ticket = ThreadLocalRandom.current().nextInt(total);
+        for (int i = 0; i < weights.length; i++) {
+            ticket -= weights[i];
+            if (ticket < 0) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    private static Mono<Response> send(HttpClient httpClient, HttpMethod method, String uri, Object body) {
+        HttpClient.RequestSender request = httpClient.request(method).uri(uri);
+        HttpClient.ResponseReceiver<?> receiver = body == null ? request : request.send(ByteBufFlux.fromString(Mono.fromCallable(() -> OBJECT_MAPPER.writeValueAsString(body))));
+        return receiver.responseSingle((response, content) -> content.asString()
+                .defaultIfEmpty("")
+                .map(text -> new Response(response.status().code(), text)));
+    }
+
+    private static JsonNode json(Response response) {
+        try {
+            return OBJECT_MAPPER.readTree(response.body());
+        } catch (IOException e) {
+            throw new IllegalStateException("Unexpected response " + response.status() + ": " + response.body(), e);
+        }
+    }
+
+    private static Map<String, Object> user(String fridgeId) {
+        return Map.of("username", "load-" + System.nanoTime(), "password", "secret", "fridgeId", fridgeId);
+    }
+
+    /**
+     * The requests of the mixes. Creations use fresh fridge IDs, which the simulator creates on first read.
+     */
+    private enum Operation {
+        GET_FRIDGE {
+            @Override
+            Mono<Response> send(HttpClient httpClient, Fixture fixture) {
+                return ControllerLoadHarness.send(httpClient, HttpMethod.GET, "/fridge/" + fixture.fridgeId(), null);
+            }
+        },
+        GET_SHOPPING_LIST {
+            @Override
+            Mono<Response> send(HttpClient httpClient, Fixture fixture) {
+                return ControllerLoadHarness.send(httpClient, HttpMethod.GET, "/shoppingList/" + fixture.shoppingListId(), null);
+            }
+        },
+        GET_USER {
+            @Override
+            Mono<Response> send(HttpClient httpClient, Fixture fixture) {
+                return ControllerLoadHarness.send(httpClient, HttpMethod.GET, "/user/" + fixture.userId(), null);
+            }
+        },
+        REFRESH_SHOPPING_LIST {
+            @Override
+            Mono<Response> send(HttpClient httpClient, Fixture fixture) {
+                int index = fixture.index();
+                return ControllerLoadHarness.send(httpClient, HttpMethod.PUT,
+                        "/shoppingList/update/" + fixture.shoppingListIds.get(index) + "/fridge/" + fixture.fridgeIds.get(index), null);
+            }
+        },
+        UPDATE_INVENTORY {
+            @Override
+            Mono<Response> send(HttpClient httpClient, Fixture fixture) {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                int itemId = 1 + random.nextInt(INVENTORY_SIZE);
+                Map<String, Object> item = Map.of("id", itemId, "name", "Item " + itemId, "actual", random.nextInt(6), "target", 5);
+                return ControllerLoadHarness.send(httpClient, HttpMethod.PUT, "/fridge/updateInventory/" + fixture.fridgeId(), item);
+            }
+        },
+        CREATE_FRIDGE {
+            @Override
+            Mono<Response> send(HttpClient httpClient, Fixture fixture) {
+                return ControllerLoadHarness.send(httpClient, HttpMethod.POST, "/fridge/create", null);
+            }
+        },
+        CREATE_SHOPPING_LIST {
+            @Override
+            Mono<Response> send(HttpClient httpClient, Fixture fixture) {
+                return ControllerLoadHarness.send(httpClient, HttpMethod.POST, "/shoppingList/create/fridge/load-" + fixture.newId(), null);
+            }
+        },
+        CREATE_USER {
+            @Override
+            Mono<Response> send(HttpClient httpClient, Fixture fixture) {
+                return ControllerLoadHarness.send(httpClient, HttpMethod.POST, "/user/", user(fixture.fridgeId()));
+            }
+        };
+
+        abstract Mono<Response> send(HttpClient httpClient, Fixture fixture);
+    }
+
+    /**
+     * The seeded fridges with their shopping lists and users.
+     */
+    private static final class Fixture {
+
+        private final List<String> fridgeIds = new ArrayList<>();
+
+        private final List<Long> shoppingListIds = new ArrayList<>();
+
+        private final List<Long> userIds = new ArrayList<>();
+
+        private final AtomicLong nextId = new AtomicLong();
+
+        int index() {
+            return ThreadLocalRandom.current().nextInt(fridgeIds.size());
+        }
+
+        String fridgeId() {
+            return fridgeIds.get(index());
+        }
+
+        long shoppingListId() {
+            return shoppingListIds.get(index());
+        }
+
+        long userId() {
+            return userIds.get(index());
+        }
+
+        long newId() {
+            return nextId.incrementAndGet();
+        }
+    }
+
+    private record Response(int status, String body) {
+    }
+
+    private record Result(double throughput, double p50, double p99, double p999, double max, long errors, double errorRate) {
+        @Override
+        public String toString() {
+            return String.format("%10.1f %9.1f %9.1f %9.1f %9.1f %8d %6.2f%%", throughput, p50, p99, p999, max, errors, errorRate * 100);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package de.markus.meier.coolschrank.benchmark;
+
+import de.markus.meier.coolschrank.CoolschrankApplication;
+import de.markus.meier.coolschrank.model.dto.FridgeDto;
+import de.markus.meier.coolschrank.model.dto.FridgeInventoryDto;
+import de.markus.meier.coolschrank.service.FridgeSnapshotCache;
+import de.markus.meier.coolschrank.service.ShoppingListService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code createShoppingList} for fridges of different sizes against the in-memory database.
+ * The fridges are served from the snapshot cache, so no remote call is made.
+ * Besides the latency, the number of prepared JDBC statements and of entity inserts and updates per shopping list
+ * is printed at the end of each trial.
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="CreateShoppingListBenchmark"}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CreateShoppingListBenchmark {
+
+    @Param({"10", "500", "5000"})
+    public int inventorySize;
+
+    private ConfigurableApplicationContext context;
+
+    private ShoppingListService shoppingListService;
+
+    private FridgeSnapshotCache fridgeSnapshotCache;
+
+    private Statistics statistics;
+
+    private List<FridgeInventoryDto> inventory;
+
+    private long fridgeCount;
+
+    @Setup
+    public void setup() {
+        context = new SpringApplicationBuilder(CoolschrankApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:create-benchmark",
+                        "--spring.jpa.properties.hibernate.generate_statistics=true",
+                        "--fridge.api.cache.fresh-for=1h",
+                        "--logging.level.root=WARN");
+        shoppingListService = context.getBean(ShoppingListService.class);
+        fridgeSnapshotCache = context.getBean(FridgeSnapshotCache.class);
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+        inventory = new ArrayList<>();
+        for (long i = 0; i < inventorySize; i++) {
+            inventory.add(new FridgeInventoryDto(i, "Item " + i, 0f, 5f));
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void nextFridge() {
+        String fridgeId = "fridge-" + fridgeCount++;
+        fridgeSnapshotCache.put(fridgeId, new FridgeDto(fridgeId, inventory), null);
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.out.printf("%n%d items: %.1f prepared statements, %.1f entity inserts, %.1f entity updates per shopping list%n",
+                inventorySize,
+                statistics.getPrepareStatementCount() / (double) fridgeCount,
+                statistics.getEntityInsertCount() / (double) fridgeCount,
+                statistics.getEntityUpdateCount() / (double) fridgeCount);
+        context.close();
+    }
+
+    @Benchmark
+    public Object createShoppingList() {
+        return shoppingListService.createShoppingList("fridge-" + (fridgeCount - 1));
+    }
+}
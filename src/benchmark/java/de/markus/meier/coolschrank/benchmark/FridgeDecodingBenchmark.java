@@ -0,0 +1,86 @@
+package de.markus.meier.coolschrank.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import de.markus.meier.coolschrank.model.dto.FridgeDto;
+import de.markus.meier.coolschrank.model.dto.FridgeInventoryDto;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.StringDecoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the former decoding of remote fridge responses (buffer the body as a string, then parse it with
+ * a new object mapper) with decoding straight from the network buffers through the shared Jackson codec.
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="FridgeDecodingBenchmark -prof gc"}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class FridgeDecodingBenchmark {
+
+    private static final int MAX_IN_MEMORY_SIZE = 16 * 1024 * 1024;
+
+    private static final int CHUNK_SIZE = 8 * 1024;
+
+    @Param({"10", "1000", "50000"})
+    public int inventorySize;
+
+    private final NettyDataBufferFactory bufferFactory = new NettyDataBufferFactory(UnpooledByteBufAllocator.DEFAULT);
+
+    private List<byte[]> chunks;
+
+    private StringDecoder stringDecoder;
+
+    private Jackson2JsonDecoder sharedDecoder;
+
+    @Setup
+    public void setup() throws IOException {
+        List<FridgeInventoryDto> inventory = new ArrayList<>();
+        for (long i = 0; i < inventorySize; i++) {
+            inventory.add(new FridgeInventoryDto(i, "Item " + i, i % 7, 5f));
+        }
+        byte[] json = new ObjectMapper().writeValueAsBytes(new FridgeDto("XXX", inventory));
+        chunks = new ArrayList<>();
+        for (int offset = 0; offset < json.length; offset += CHUNK_SIZE) {
+            chunks.add(Arrays.copyOfRange(json, offset, Math.min(json.length, offset + CHUNK_SIZE)));
+        }
+
+        stringDecoder = StringDecoder.allMimeTypes();
+        stringDecoder.setMaxInMemorySize(MAX_IN_MEMORY_SIZE);
+        sharedDecoder = new Jackson2JsonDecoder(Jackson2ObjectMapperBuilder.json().modulesToInstall(new BlackbirdModule()).build());
+        sharedDecoder.setMaxInMemorySize(MAX_IN_MEMORY_SIZE);
+    }
+
+    @Benchmark
+    public FridgeDto stringThenNewObjectMapper() throws IOException {
+        String response = stringDecoder.decodeToMono(body(), ResolvableType.forClass(String.class), MediaType.APPLICATION_JSON, Collections.emptyMap()).block();
+        ObjectMapper objectMapper = new ObjectMapper();
+        return objectMapper.readValue(response, FridgeDto.class);
+    }
+
+    @Benchmark
+    public Object sharedCodec() {
+        return sharedDecoder.decodeToMono(body(), ResolvableType.forClass(FridgeDto.class), MediaType.APPLICATION_JSON, Collections.emptyMap()).block();
+    }
+
+    private Flux<DataBuffer> body() {
+        return Flux.fromIterable(chunks).map(bufferFactory::wrap);
+    }
+}
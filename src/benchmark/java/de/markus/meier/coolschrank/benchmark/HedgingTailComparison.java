@@ -0,0 +1,144 @@
+package de.markus.meier.coolschrank.benchmark;
+
+import de.markus.meier.coolschrank.CoolschrankApplication;
+import de.markus.meier.coolschrank.model.dto.FridgeLatencyStatsDto;
+import de.markus.meier.coolschrank.service.FridgeService;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.ConfigurableApplicationContext;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compares the tail latency of {@code GET /fridge/{id}} with and without hedged reads against an upstream stub
+ * that answers most requests quickly and a small fraction slowly. Every request reads a fridge of its own and the
+ * snapshot cache is disabled, so each request makes a remote read that is neither cached nor coalesced.
+ * Both modes run in the same JVM one after the other; pass {@code modes=hedged,single} to check the order does not
+ * matter.
+ * <p>
+ * Run with
+ * {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark.main=de.markus.meier.coolschrank.benchmark.HedgingTailComparison
+ * -Dbenchmark.args="clients=4 duration=30s warmup=10s latency=5ms slow-fraction=0.02 slow-latency=200ms"}.
+ */
+public final class HedgingTailComparison {
+
+    private static final String SINGLE = "single";
+
+    private static final String HEDGED = "hedged";
+
+    private HedgingTailComparison() {
+    }
+
+    public static void main(String[] args) {
+        Map<String, String> options = new HashMap<>(Map.of(
+                "clients", "4",
+                "modes", SINGLE + "," + HEDGED,
+                "duration", "30s",
+                "warmup", "10s",
+                "latency", "5ms",
+                "slow-fraction", "0.02",
+                "slow-latency", "200ms"));
+        for (String arg : args) {
+            String[] option = arg.split("=", 2);
+            options.put(option[0], option[1]);
+        }
+        int clients = Integer.parseInt(options.get("clients"));
+        Duration duration = DurationStyle.detectAndParse(options.get("duration"));
+        Duration warmup = DurationStyle.detectAndParse(options.get("warmup"));
+
+        List<String> report = new ArrayList<>();
+        try (SlowFridgeUpstream upstream = new SlowFridgeUpstream(DurationStyle.detectAndParse(options.get("latency")),
+                Double.parseDouble(options.get("slow-fraction")), DurationStyle.detectAndParse(options.get("slow-latency")))) {
+            for (String mode : options.get("modes").split(",")) {
+                boolean hedging = HEDGED.equals(mode);
+                try (ConfigurableApplicationContext application = start(hedging, upstream.baseUrl())) {
+                    int port = Integer.parseInt(application.getEnvironment().getProperty("local.server.port"));
+                    Result result = drive(port, clients, warmup, duration);
+                    FridgeLatencyStatsDto stats = application.getBean(FridgeService.class).getLatencyStats();
+                    report.add(String.format("%-8s %s %10.1f %9d %9d", mode, result,
+                            stats.getHedgeDelayMillis(), stats.getHedgedCallCount(), stats.getHedgeWonCount()));
+                }
+            }
+        }
+        System.out.printf("%n%-8s %10s %9s %9s %9s %9s %8s %10s %9s %9s%n",
+                "mode", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms", "errors", "delay ms", "hedged", "won");
+        report.forEach(System.out::println);
+    }
+
+    private static ConfigurableApplicationContext start(boolean hedging, String upstreamBaseUrl) {
+        return new SpringApplicationBuilder(CoolschrankApplication.class)
+                .run("--server.port=0",
+                        "--fridge.api.base-url=" + upstreamBaseUrl,
+                        "--fridge.api.cache.fresh-for=0s",
+                        "--fridge.api.hedging.enabled=" + hedging,
+                        "--fridge.api.hedging.window=2s",
+                        "--spring.datasource.url=jdbc:h2:mem:hedging-" + hedging,
+                        "--logging.level.root=WARN");
+    }
+
+    private static Result drive(int port, int clients, Duration warmup, Duration duration) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("load")
+                .maxConnections(clients)
+                .pendingAcquireMaxCount(-1)
+                .build();
+        LoopResources loopResources = LoopResources.create("load");
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .runOn(loopResources)
+                .baseUrl("http://localhost:" + port)
+                .responseTimeout(Duration.ofSeconds(60));
+
+        Histogram latencies = new ConcurrentHistogram(TimeUnit.MINUTES.toMicros(1), 3);
+        AtomicLong errors = new AtomicLong();
+        AtomicLong requests = new AtomicLong();
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long measureUntil = measureFrom + duration.toNanos();
+        try {
+            Flux.range(0, clients)
+                    .flatMap(client -> Mono.defer(() -> {
+                                long start = System.nanoTime();
+                                return httpClient.get()
+                                        .uri("/fridge/hedge-" + requests.incrementAndGet())
+                                        .responseSingle((response, body) -> body.then(Mono.just(response.status().code())))
+                                        .doOnNext(status -> {
+                                            if (status != 200) {
+                                                errors.incrementAndGet();
+                                            } else if (start >= measureFrom && start < measureUntil) {
+                                                latencies.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+                                            }
+                                        })
+                                        .onErrorResume(e -> {
+                                            errors.incrementAndGet();
+                                            return Mono.empty();
+                                        });
+                            })
+                            .repeat(() -> System.nanoTime() < measureUntil), clients)
+                    .blockLast();
+        } finally {
+            connectionProvider.disposeLater().block();
+            loopResources.disposeLater().block();
+        }
+        return new Result(latencies.getTotalCount() / (double) duration.toSeconds(),
+                latencies.getValueAtPercentile(50) / 1000.0, latencies.getValueAtPercentile(99) / 1000.0,
+                latencies.getValueAtPercentile(99.9) / 1000.0, latencies.getMaxValue() / 1000.0, errors.get());
+    }
+
+    private record Result(double throughput, double p50, double p99, double p999, double max, long errors) {
+        @Override
+        public String toString() {
+            return String.format("%10.1f %9.1f %9.1f %9.1f %9.1f %8d", throughput, p50, p99, p999, max, errors);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package de.markus.meier.coolschrank.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import de.markus.meier.coolschrank.model.dto.FridgeDto;
+import de.markus.meier.coolschrank.model.dto.FridgeInventoryDto;
+import de.markus.meier.coolschrank.model.dto.ShoppingInventoryDto;
+import de.markus.meier.coolschrank.model.dto.ShoppingListDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures JSON serialization and deserialization of {@link FridgeDto} and {@link ShoppingListDto} with an object
+ * mapper configured like the application's shared one.
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="JsonCodecBenchmark -prof gc"}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JsonCodecBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    public int inventorySize;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().modulesToInstall(new BlackbirdModule()).build();
+
+    private FridgeDto fridge;
+
+    private ShoppingListDto shoppingList;
+
+    private byte[] fridgeJson;
+
+    private byte[] shoppingListJson;
+
+    @Setup
+    public void setup() throws IOException {
+        List<FridgeInventoryDto> inventory = new ArrayList<>();
+        List<ShoppingInventoryDto> items = new ArrayList<>();
+        for (long i = 0; i < inventorySize; i++) {
+            inventory.add(new FridgeInventoryDto(i, "Item " + i, i % 7, 5f));
+            items.add(new ShoppingInventoryDto(i, 1_000_000L + i, "Item " + i, i % 5));
+        }
+        fridge = new FridgeDto("fridge", inventory);
+        shoppingList = new ShoppingListDto(1L, "fridge", items);
+        fridgeJson = objectMapper.writeValueAsBytes(fridge);
+        shoppingListJson = objectMapper.writeValueAsBytes(shoppingList);
+    }
+
+    @Benchmark
+    public byte[] writeFridge() throws IOException {
+        return objectMapper.writeValueAsBytes(fridge);
+    }
+
+    @Benchmark
+    public FridgeDto readFridge() throws IOException {
+        return objectMapper.readValue(fridgeJson, FridgeDto.class);
+    }
+
+    @Benchmark
+    public byte[] writeShoppingList() throws IOException {
+        return objectMapper.writeValueAsBytes(shoppingList);
+    }
+
+    @Benchmark
+    public ShoppingListDto readShoppingList() throws IOException {
+        return objectMapper.readValue(shoppingListJson, ShoppingListDto.class);
+    }
+}
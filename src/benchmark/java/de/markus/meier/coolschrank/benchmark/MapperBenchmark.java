@@ -0,0 +1,64 @@
+package de.markus.meier.coolschrank.benchmark;
+
+import de.markus.meier.coolschrank.model.dto.ShoppingListDto;
+import de.markus.meier.coolschrank.model.dto.UserDto;
+import de.markus.meier.coolschrank.model.model.ShoppingInventoryEntity;
+import de.markus.meier.coolschrank.model.model.ShoppingListEntity;
+import de.markus.meier.coolschrank.model.model.UserEntity;
+import de.markus.meier.coolschrank.util.ShoppingListMapper;
+import de.markus.meier.coolschrank.util.UserMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the entity to DTO mapping of {@link ShoppingListMapper} by shopping list size and of {@link UserMapper}.
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="MapperBenchmark -prof gc"}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MapperBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class ShoppingListState {
+
+        @Param({"10", "1000", "10000"})
+        public int inventorySize;
+
+        private final ShoppingListMapper shoppingListMapper = new ShoppingListMapper();
+
+        private ShoppingListEntity shoppingListEntity;
+
+        @Setup
+        public void setup() {
+            List<ShoppingInventoryEntity> items = new ArrayList<>();
+            for (long i = 0; i < inventorySize; i++) {
+                items.add(new ShoppingInventoryEntity(i, 1_000_000L + i, "Item " + i, i % 5));
+            }
+            shoppingListEntity = new ShoppingListEntity(1L, "fridge", items);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class UserState {
+
+        private final UserMapper userMapper = new UserMapper();
+
+        private final UserEntity userEntity = new UserEntity("Markus", "test123", "fridge");
+    }
+
+    @Benchmark
+    public ShoppingListDto toShoppingListDto(ShoppingListState state) {
+        return state.shoppingListMapper.toShoppingListDto(state.shoppingListEntity);
+    }
+
+    @Benchmark
+    public UserDto toUserDto(UserState state) {
+        return state.userMapper.toUserDto(state.userEntity);
+    }
+}
@@ -0,0 +1,93 @@
+package de.markus.meier.coolschrank.benchmark;
+
+import de.markus.meier.coolschrank.model.dto.FridgeInventoryDto;
+import de.markus.meier.coolschrank.model.model.ShoppingInventoryEntity;
+import de.markus.meier.coolschrank.util.ShoppingListReconciler;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the former nested-loop reconciliation of a shopping list with the fridge inventory
+ * with the single-pass {@link ShoppingListReconciler}. Every fourth position is new, every tenth item is gone.
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="ReconciliationBenchmark -prof gc"}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ReconciliationBenchmark {
+
+    private static final long FIRST_ID = 1_000_000L;
+
+    @Param({"1000", "10000", "30000"})
+    public int inventorySize;
+
+    private final ShoppingListReconciler shoppingListReconciler = new ShoppingListReconciler();
+
+    private List<FridgeInventoryDto> inventory;
+
+    private List<ShoppingInventoryEntity> shoppingInventoryEntityList;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        inventory = new ArrayList<>();
+        shoppingInventoryEntityList = new ArrayList<>();
+        for (long i = 0; i < inventorySize; i++) {
+            inventory.add(new FridgeInventoryDto(FIRST_ID + i, "Item " + i, random.nextInt(5), 5f));
+            if (i % 4 != 0) {
+                shoppingInventoryEntityList.add(new ShoppingInventoryEntity(i, FIRST_ID + i, "Item " + i, 1f));
+            }
+            if (i % 10 == 0) {
+                shoppingInventoryEntityList.add(new ShoppingInventoryEntity(i, FIRST_ID + inventorySize + i, "Gone " + i, 1f));
+            }
+        }
+        Collections.shuffle(inventory, random);
+        Collections.shuffle(shoppingInventoryEntityList, random);
+    }
+
+    /**
+     * The former reconciliation: complete the list, then update every item, each with nested loops.
+     * IDs are compared with equals here, the former == never matched IDs outside the Long cache.
+     */
+    @Benchmark
+    public int nestedLoops() {
+        List<ShoppingInventoryEntity> items = new ArrayList<>(shoppingInventoryEntityList);
+        boolean exist = false;
+        for (FridgeInventoryDto fridgeInvetoryAPIDto : inventory) {
+            for (ShoppingInventoryEntity shoppingInventoryAPIEntity : items) {
+                if (Objects.equals(shoppingInventoryAPIEntity.getFridgeInventoryId(), fridgeInvetoryAPIDto.getId())) {
+                    exist = true;
+                }
+            }
+            if (!exist) {
+                float sum = fridgeInvetoryAPIDto.getTarget() - fridgeInvetoryAPIDto.getActual();
+                if (sum > 0) {
+                    items.add(new ShoppingInventoryEntity(fridgeInvetoryAPIDto.getId(), fridgeInvetoryAPIDto.getName(), sum));
+                }
+            }
+            exist = false;
+        }
+        for (ShoppingInventoryEntity shoppingInventoryAPIEntity : items) {
+            for (FridgeInventoryDto fridgeInvetoryAPIDto : inventory) {
+                if (Objects.equals(shoppingInventoryAPIEntity.getFridgeInventoryId(), fridgeInvetoryAPIDto.getId())) {
+                    shoppingInventoryAPIEntity.setAmount(fridgeInvetoryAPIDto.getTarget() - fridgeInvetoryAPIDto.getActual());
+                }
+            }
+        }
+        return items.size();
+    }
+
+    @Benchmark
+    public ShoppingListReconciler.Reconciliation hashJoin() {
+        return shoppingListReconciler.reconcile(shoppingInventoryEntityList, inventory);
+    }
+}
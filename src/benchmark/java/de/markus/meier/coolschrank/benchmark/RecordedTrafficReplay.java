@@ -0,0 +1,121 @@
+package de.markus.meier.coolschrank.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.markus.meier.coolschrank.CoolschrankApplication;
+import de.markus.meier.coolschrank.model.dto.FridgeInventoryDto;
+import de.markus.meier.coolschrank.service.FridgeService;
+import de.markus.meier.coolschrank.simulator.FridgeTrafficFile;
+import de.markus.meier.coolschrank.simulator.FridgeTrafficReplayServer;
+import de.markus.meier.coolschrank.simulator.RecordedExchange;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Replays a traffic recording of the remote fridge API through {@link FridgeService}.
+ * The application runs with the {@code fridge-replay} profile, so the upstream answers exactly as recorded, and every
+ * recorded request is issued again as the service call that caused it, at its recorded offset divided by the speed.
+ * The latency of the service calls is reported, so two builds can be compared under identical traffic.
+ * Recordings are made with the {@code fridge-recording} profile; hedged and revalidating reads are replayed as
+ * ordinary reads.
+ * <p>
+ * Run with
+ * {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark.main=de.markus.meier.coolschrank.benchmark.RecordedTrafficReplay
+ * -Dbenchmark.args="file=fridge-traffic.jsonl.gz speed=1"}.
+ */
+public final class RecordedTrafficReplay {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private RecordedTrafficReplay() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = new HashMap<>(Map.of(
+                "file", "fridge-traffic.jsonl.gz",
+                "speed", "1"));
+        for (String arg : args) {
+            String[] option = arg.split("=", 2);
+            options.put(option[0], option[1]);
+        }
+        double speed = Double.parseDouble(options.get("speed"));
+        List<RecordedExchange> recording = FridgeTrafficFile.read(Path.of(options.get("file")), OBJECT_MAPPER);
+
+        try (ConfigurableApplicationContext application = start(options.get("file"), speed)) {
+            FridgeService fridgeService = application.getBean(FridgeService.class);
+            Histogram latencies = new ConcurrentHistogram(TimeUnit.MINUTES.toMicros(1), 3);
+            AtomicLong errors = new AtomicLong();
+            long start = System.nanoTime();
+            Flux.fromIterable(recording)
+                    .flatMap(exchange -> Mono.delay(Duration.ofNanos((long) (exchange.getOffsetMicros() * 1000 / speed)))
+                            .then(Mono.defer(() -> {
+                                long callStart = System.nanoTime();
+                                return call(fridgeService, exchange)
+                                        .then(Mono.fromRunnable(() -> latencies.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - callStart))))
+                                        .onErrorResume(e -> {
+                                            errors.incrementAndGet();
+                                            return Mono.empty();
+                                        });
+                            })), Integer.MAX_VALUE)
+                    .blockLast();
+            double seconds = (System.nanoTime() - start) / 1e9;
+            FridgeTrafficReplayServer replayServer = application.getBean(FridgeTrafficReplayServer.class);
+
+            System.out.printf("%n%9s %9s %9s %9s %9s %9s %8s %10s%n",
+                    "calls", "seconds", "p50 ms", "p99 ms", "p99.9 ms", "max ms", "errors", "unmatched");
+            System.out.printf("%9d %9.1f %9.1f %9.1f %9.1f %9.1f %8d %10d%n", recording.size(), seconds,
+                    latencies.getValueAtPercentile(50) / 1000.0, latencies.getValueAtPercentile(99) / 1000.0,
+                    latencies.getValueAtPercentile(99.9) / 1000.0, latencies.getMaxValue() / 1000.0,
+                    errors.get(), replayServer.getUnmatchedCount());
+        }
+    }
+
+    private static ConfigurableApplicationContext start(String file, double speed) {
+        return new SpringApplicationBuilder(CoolschrankApplication.class)
+                .run("--server.port=0",
+                        "--spring.profiles.active=fridge-replay",
+                        "--fridge.traffic.replay-file=" + file,
+                        "--fridge.traffic.replay-speed=" + speed,
+                        "--spring.datasource.url=jdbc:h2:mem:replay",
+                        "--logging.level.root=WARN");
+    }
+
+    /**
+     * Issues the service call that sent the recorded request.
+     */
+    private static Mono<?> call(FridgeService fridgeService, RecordedExchange exchange) {
+        String[] path = exchange.getPath().split("/");
+        if (path.length == 2) {
+            return fridgeService.createFridgeReactive();
+        }
+        if ("GET".equals(exchange.getMethod())) {
+            return fridgeService.getFridgeReactive(path[2]);
+        }
+        FridgeInventoryDto item = read(exchange.getRequestBody());
+        return path.length == 4
+                ? fridgeService.addFridgeInventoryReactive(item, path[2])
+                : fridgeService.upDateFridgeInventoryReactive(item, path[2]);
+    }
+
+    private static FridgeInventoryDto read(String body) {
+        try {
+            return OBJECT_MAPPER.readValue(body, FridgeInventoryDto.class);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
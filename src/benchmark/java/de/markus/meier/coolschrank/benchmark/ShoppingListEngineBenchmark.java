@@ -0,0 +1,80 @@
+package de.markus.meier.coolschrank.benchmark;
+
+import de.markus.meier.coolschrank.model.dto.FridgeInventoryDto;
+import de.markus.meier.coolschrank.model.model.ShoppingInventoryEntity;
+import de.markus.meier.coolschrank.model.model.ShoppingListEntity;
+import de.markus.meier.coolschrank.service.ShoppingListChangeTracker;
+import de.markus.meier.coolschrank.service.ShoppingListService;
+import de.markus.meier.coolschrank.util.ShoppingListReconciler;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the in-memory steps of the shopping list engine: {@link ShoppingListService#checkAndCompleteList},
+ * the fingerprint that skips unchanged fridges, and the reconcile-and-apply step of
+ * {@code autoUpdateShoppingList}. Every fourth position has no item yet, every tenth item is gone.
+ * The list is copied on every invocation, since both operations change it.
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="ShoppingListEngineBenchmark -prof gc"}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ShoppingListEngineBenchmark {
+
+    private static final long FIRST_ID = 1_000_000L;
+
+    @Param({"10", "1000", "10000"})
+    public int inventorySize;
+
+    private final ShoppingListReconciler shoppingListReconciler = new ShoppingListReconciler();
+
+    private final ShoppingListService shoppingListService = new ShoppingListService(null, null, null, null, null,
+            shoppingListReconciler, null, null, null, null, null);
+
+    private List<FridgeInventoryDto> inventory;
+
+    private List<ShoppingInventoryEntity> shoppingInventoryEntityList;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        inventory = new ArrayList<>();
+        shoppingInventoryEntityList = new ArrayList<>();
+        for (long i = 0; i < inventorySize; i++) {
+            inventory.add(new FridgeInventoryDto(FIRST_ID + i, "Item " + i, random.nextInt(5), 5f));
+            if (i % 4 != 0) {
+                shoppingInventoryEntityList.add(new ShoppingInventoryEntity(i, FIRST_ID + i, "Item " + i, 1f));
+            }
+            if (i % 10 == 0) {
+                shoppingInventoryEntityList.add(new ShoppingInventoryEntity(i, FIRST_ID + inventorySize + i, "Gone " + i, 1f));
+            }
+        }
+        Collections.shuffle(inventory, random);
+        Collections.shuffle(shoppingInventoryEntityList, random);
+    }
+
+    @Benchmark
+    public List<ShoppingInventoryEntity> checkAndCompleteList() {
+        return shoppingListService.checkAndCompleteList(new ArrayList<>(shoppingInventoryEntityList), inventory);
+    }
+
+    @Benchmark
+    public long fingerprint() {
+        return ShoppingListChangeTracker.fingerprint("fridge", inventory);
+    }
+
+    @Benchmark
+    public ShoppingListEntity reconcileAndApply() {
+        ShoppingListEntity shoppingListEntity = new ShoppingListEntity(1L, "fridge", new ArrayList<>(shoppingInventoryEntityList));
+        shoppingListReconciler.reconcile(shoppingListEntity.getShoppingInventoryEntityList(), inventory).applyTo(shoppingListEntity);
+        return shoppingListEntity;
+    }
+}
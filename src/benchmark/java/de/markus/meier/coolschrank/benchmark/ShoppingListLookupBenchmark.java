@@ -0,0 +1,94 @@
+package de.markus.meier.coolschrank.benchmark;
+
+import de.markus.meier.coolschrank.CoolschrankApplication;
+import de.markus.meier.coolschrank.model.model.ShoppingListEntity;
+import de.markus.meier.coolschrank.repository.ShoppingListRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the former existence check of {@code POST /shoppingList/create/fridge/{id}} (load every shopping list
+ * and compare the fridge IDs) with the derived query on the unique fridge ID index, and measures how fast the
+ * constraint rejects a second shopping list for the same fridge.
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="ShoppingListLookupBenchmark"}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+public class ShoppingListLookupBenchmark {
+
+    private static final int BATCH_SIZE = 10_000;
+
+    @Param({"1000", "100000", "1000000"})
+    public int storedLists;
+
+    private ConfigurableApplicationContext context;
+
+    private ShoppingListRepository shoppingListRepository;
+
+    private String existingFridgeId;
+
+    @Setup
+    public void setup() {
+        context = new SpringApplicationBuilder(CoolschrankApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:lookup-benchmark",
+                        "--logging.level.root=WARN");
+        shoppingListRepository = context.getBean(ShoppingListRepository.class);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        for (int offset = 0; offset < storedLists; offset += BATCH_SIZE) {
+            List<Object[]> batch = new ArrayList<>();
+            for (int i = offset; i < Math.min(storedLists, offset + BATCH_SIZE); i++) {
+                batch.add(new Object[]{"fridge-" + i});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO shopping_list_entity (id, fridge_id) VALUES (NEXT VALUE FOR shopping_list_seq, ?)", batch);
+        }
+        existingFridgeId = "fridge-" + (storedLists / 2);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public boolean findAllScanMiss() {
+        for (ShoppingListEntity shoppingListEntity : shoppingListRepository.findAll()) {
+            if (shoppingListEntity.getFridgeId().equals("unknown")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean existsByFridgeIdMiss() {
+        return shoppingListRepository.existsByFridgeId("unknown");
+    }
+
+    @Benchmark
+    public boolean existsByFridgeIdHit() {
+        return shoppingListRepository.existsByFridgeId(existingFridgeId);
+    }
+
+    @Benchmark
+    public boolean duplicateInsertRejected() {
+        try {
+            shoppingListRepository.save(new ShoppingListEntity(null, existingFridgeId, new ArrayList<>()));
+            return false;
+        } catch (DataIntegrityViolationException e) {
+            return true;
+        }
+    }
+}
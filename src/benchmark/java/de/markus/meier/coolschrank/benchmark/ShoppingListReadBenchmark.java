@@ -0,0 +1,72 @@
+package de.markus.meier.coolschrank.benchmark;
+
+import de.markus.meier.coolschrank.CoolschrankApplication;
+import de.markus.meier.coolschrank.model.dto.ShoppingListDto;
+import de.markus.meier.coolschrank.model.model.ShoppingInventoryEntity;
+import de.markus.meier.coolschrank.model.model.ShoppingListEntity;
+import de.markus.meier.coolschrank.repository.ShoppingListRepository;
+import de.markus.meier.coolschrank.util.ShoppingListMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the two ways of reading {@code GET /shoppingList/{id}}: loading the entities with their items and
+ * mapping them, and projecting the rows straight into DTOs.
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="ShoppingListReadBenchmark -prof gc"}
+ * to see the allocation per read next to the latency.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ShoppingListReadBenchmark {
+
+    @Param({"1000", "10000"})
+    public int items;
+
+    private ConfigurableApplicationContext context;
+
+    private ShoppingListRepository shoppingListRepository;
+
+    private ShoppingListMapper shoppingListMapper;
+
+    private Long shoppingListId;
+
+    @Setup
+    public void setup() {
+        context = new SpringApplicationBuilder(CoolschrankApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:read-benchmark",
+                        "--logging.level.root=WARN");
+        shoppingListRepository = context.getBean(ShoppingListRepository.class);
+        shoppingListMapper = context.getBean(ShoppingListMapper.class);
+        List<ShoppingInventoryEntity> shoppingInventoryEntityList = new ArrayList<>();
+        for (long i = 0; i < items; i++) {
+            shoppingInventoryEntityList.add(new ShoppingInventoryEntity(i, "Item " + i, 5f));
+        }
+        shoppingListId = shoppingListRepository.save(new ShoppingListEntity(null, "fridge", shoppingInventoryEntityList)).getId();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ShoppingListDto entityGraph() {
+        return shoppingListMapper.toShoppingListDto(shoppingListRepository.findWithItemsById(shoppingListId).get());
+    }
+
+    @Benchmark
+    public ShoppingListDto dtoProjection() {
+        return shoppingListRepository.findDtoById(shoppingListId).get();
+    }
+}
@@ -0,0 +1,73 @@
+package de.markus.meier.coolschrank.benchmark;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.LoopResources;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A stand-in for the remote fridge API that answers every {@code GET /fridge/{id}} after a fixed latency,
+ * optionally with a fraction of responses delayed by a much longer latency to produce a tail.
+ * The delay is scheduled without blocking, so the stub itself never limits the number of concurrent calls.
+ */
+public final class SlowFridgeUpstream implements AutoCloseable {
+
+    private final LoopResources loopResources = LoopResources.create("upstream");
+
+    private final DisposableServer server;
+
+    /**
+     * Starts the stub on a free local port.
+     *
+     * @param latency The time every response is delayed by.
+     */
+    public SlowFridgeUpstream(Duration latency) {
+        this(latency, 0, latency);
+    }
+
+    /**
+     * Starts the stub on a free local port with a latency tail.
+     *
+     * @param latency      The time most responses are delayed by.
+     * @param slowFraction The fraction of responses, between 0 and 1, delayed by the slow latency instead.
+     * @param slowLatency  The time the slow responses are delayed by.
+     */
+    public SlowFridgeUpstream(Duration latency, double slowFraction, Duration slowLatency) {
+        this.server = HttpServer.create()
+                .host("localhost")
+                .port(0)
+                .runOn(loopResources)
+                .route(routes -> routes.get("/fridge/{id}", (request, response) -> Mono.delay(
+                                ThreadLocalRandom.current().nextDouble() < slowFraction ? slowLatency : latency)
+                        .then(response.header(HttpHeaderNames.CONTENT_TYPE, "application/json")
+                                .sendString(Mono.just(fridge(request.param("id"))))
+                                .then())))
+                .bindNow();
+    }
+
+    /**
+     * Returns the base URL to configure as {@code fridge.api.base-url}.
+     *
+     * @return The base URL of the stub.
+     */
+    public String baseUrl() {
+        return "http://localhost:" + server.port();
+    }
+
+    @Override
+    public void close() {
+        server.disposeNow();
+        loopResources.dispose();
+    }
+
+    private static String fridge(String id) {
+        return "{\"id\":\"" + id + "\",\"inventory\":["
+                + "{\"id\":1,\"name\":\"Milk\",\"actual\":1.0,\"target\":3.0},"
+                + "{\"id\":2,\"name\":\"Butter\",\"actual\":0.0,\"target\":1.0},"
+                + "{\"id\":3,\"name\":\"Eggs\",\"actual\":4.0,\"target\":10.0}]}";
+    }
+}
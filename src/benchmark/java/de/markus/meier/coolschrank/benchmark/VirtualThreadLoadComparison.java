@@ -0,0 +1,182 @@
+package de.markus.meier.coolschrank.benchmark;
+
+import de.markus.meier.coolschrank.CoolschrankApplication;
+import de.markus.meier.coolschrank.model.dto.FridgeResilienceStatsDto;
+import de.markus.meier.coolschrank.service.FridgeApiResilience;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.ConfigurableApplicationContext;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compares the platform-thread Tomcat pool with the {@code virtual-threads} profile under closed-loop load.
+ * Every client calls {@code GET /fridge/{id}} for its own fridge back to back; the snapshot cache is disabled,
+ * so each request blocks on the slow upstream. Application, upstream stub and clients share one JVM, so the
+ * reported peak thread count and heap include the stub and the clients, which are the same in both modes.
+ * The outbound connection pool and the bulkhead are sized to the largest client count and the circuit breaker only
+ * opens if every call fails, so neither the pool nor the guards around the fridge API reject the load the comparison
+ * is about. The request deadline is longer than
+ * the whole run, so requests queued behind the server's threads are not cut off either. Calls the bulkhead or the
+ * deadline still reject are reported next to the errors, so a guard limiting the run shows up as such.
+ * <p>
+ * Run on Java 21 with
+ * {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark.main=de.markus.meier.coolschrank.benchmark.VirtualThreadLoadComparison
+ * -Dbenchmark.args="clients=200,2000,20000 duration=30s warmup=10s latency=250ms"}.
+ * Each client holds three sockets, so 20,000 clients need a file descriptor limit of about 100,000.
+ */
+public final class VirtualThreadLoadComparison {
+
+    private static final String PLATFORM = "platform";
+
+    private static final String VIRTUAL = "virtual";
+
+    private static final Duration RESPONSE_TIMEOUT = Duration.ofSeconds(60);
+
+    private VirtualThreadLoadComparison() {
+    }
+
+    public static void main(String[] args) {
+        Map<String, String> options = new HashMap<>(Map.of(
+                "clients", "200,2000,20000",
+                "modes", PLATFORM + "," + VIRTUAL,
+                "duration", "30s",
+                "warmup", "10s",
+                "latency", "250ms"));
+        for (String arg : args) {
+            String[] option = arg.split("=", 2);
+            options.put(option[0], option[1]);
+        }
+        int[] clients = Arrays.stream(options.get("clients").split(",")).mapToInt(Integer::parseInt).toArray();
+        Duration duration = DurationStyle.detectAndParse(options.get("duration"));
+        Duration warmup = DurationStyle.detectAndParse(options.get("warmup"));
+        int maxClients = Arrays.stream(clients).max().orElse(0);
+
+        List<String> report = new ArrayList<>();
+        try (SlowFridgeUpstream upstream = new SlowFridgeUpstream(DurationStyle.detectAndParse(options.get("latency")))) {
+            for (String mode : options.get("modes").split(",")) {
+                if (VIRTUAL.equals(mode) && Runtime.version().feature() < 21) {
+                    report.add(String.format("%-9s skipped, needs Java 21", mode));
+                    continue;
+                }
+                Duration budget = warmup.plus(duration).plus(RESPONSE_TIMEOUT);
+                try (ConfigurableApplicationContext application = start(mode, upstream.baseUrl(), maxClients, budget)) {
+                    int port = Integer.parseInt(application.getEnvironment().getProperty("local.server.port"));
+                    FridgeApiResilience fridgeApiResilience = application.getBean(FridgeApiResilience.class);
+                    for (int clientCount : clients) {
+                        report.add(String.format("%-9s %s", mode, drive(port, fridgeApiResilience, clientCount, warmup, duration)));
+                    }
+                }
+            }
+        }
+        System.out.printf("%n%-9s %8s %10s %9s %9s %9s %8s %9s %9s %8s %9s%n",
+                "mode", "clients", "req/s", "p50 ms", "p99 ms", "max ms", "errors", "deadline", "bulkhead", "threads", "heap MB");
+        report.forEach(System.out::println);
+    }
+
+    private static ConfigurableApplicationContext start(String mode, String upstreamBaseUrl, int maxClients, Duration budget) {
+        return new SpringApplicationBuilder(CoolschrankApplication.class)
+                .profiles(VIRTUAL.equals(mode) ? "virtual-threads" : "default")
+                .run("--server.port=0",
+                        "--server.tomcat.max-connections=25000",
+                        "--server.tomcat.accept-count=1000",
+                        "--fridge.api.base-url=" + upstreamBaseUrl,
+                        "--fridge.api.cache.fresh-for=0s",
+                        "--fridge.api.pool.max-connections=" + maxClients,
+                        "--fridge.api.pool.pending-acquire-max-count=" + maxClients,
+                        "--fridge.api.pool.pending-acquire-timeout=" + budget.toMillis() + "ms",
+                        "--fridge.api.resilience.max-concurrent-calls=" + maxClients,
+                        "--fridge.api.resilience.failure-rate-threshold=100",
+                        "--request.deadline.default-budget=" + budget.toMillis() + "ms",
+                        "--spring.datasource.url=jdbc:h2:mem:load-" + mode,
+                        "--logging.level.root=WARN");
+    }
+
+    private static Result drive(int port, FridgeApiResilience fridgeApiResilience, int clients, Duration warmup, Duration duration) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("load")
+                .maxConnections(clients)
+                .pendingAcquireMaxCount(-1)
+                .build();
+        LoopResources loopResources = LoopResources.create("load");
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .runOn(loopResources)
+                .baseUrl("http://localhost:" + port)
+                .responseTimeout(RESPONSE_TIMEOUT);
+
+        Histogram latencies = new ConcurrentHistogram(TimeUnit.MINUTES.toMicros(1), 3);
+        AtomicLong errors = new AtomicLong();
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        AtomicLong peakHeap = new AtomicLong();
+        System.gc();
+        threads.resetPeakThreadCount();
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(() -> peakHeap.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max),
+                0, 100, TimeUnit.MILLISECONDS);
+
+        FridgeResilienceStatsDto guardsBefore = fridgeApiResilience.stats();
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long measureUntil = measureFrom + duration.toNanos();
+        try {
+            Flux.range(0, clients)
+                    .flatMap(client -> Mono.defer(() -> {
+                                long start = System.nanoTime();
+                                return httpClient.get()
+                                        .uri("/fridge/load-" + client)
+                                        .responseSingle((response, body) -> body.then(Mono.just(response.status().code())))
+                                        .doOnNext(status -> {
+                                            if (status != 200) {
+                                                errors.incrementAndGet();
+                                            } else if (start >= measureFrom && start < measureUntil) {
+                                                latencies.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+                                            }
+                                        })
+                                        .onErrorResume(e -> {
+                                            errors.incrementAndGet();
+                                            return Mono.empty();
+                                        });
+                            })
+                            .repeat(() -> System.nanoTime() < measureUntil), clients)
+                    .blockLast();
+        } finally {
+            sampler.shutdownNow();
+            connectionProvider.disposeLater().block();
+            loopResources.disposeLater().block();
+        }
+        FridgeResilienceStatsDto guardsAfter = fridgeApiResilience.stats();
+        return new Result(clients, latencies.getTotalCount() / (double) duration.toSeconds(),
+                latencies.getValueAtPercentile(50) / 1000.0, latencies.getValueAtPercentile(99) / 1000.0,
+                latencies.getMaxValue() / 1000.0, errors.get(),
+                guardsAfter.getDeadlineExceededCount() - guardsBefore.getDeadlineExceededCount(),
+                guardsAfter.getBulkheadRejectedCount() - guardsBefore.getBulkheadRejectedCount(),
+                threads.getPeakThreadCount(), peakHeap.get() / (1024 * 1024));
+    }
+
+    private record Result(int clients, double throughput, double p50, double p99, double max, long errors,
+                          long deadlineExceeded, long bulkheadRejected, int peakThreads, long peakHeapMb) {
+        @Override
+        public String toString() {
+            return String.format("%8d %10.1f %9.1f %9.1f %9.1f %8d %9d %9d %8d %9d",
+                    clients, throughput, p50, p99, max, errors, deadlineExceeded, bulkheadRejected, peakThreads, peakHeapMb);
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package de.markus.meier.coolschrank;
 
 import org.springframework.boot.SpringApplication;
+import de.markus.meier.coolschrank.config.FridgeApiProperties;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
 @SpringBootApplication
 @EnableJpaRepositories
+@EnableConfigurationProperties(FridgeApiProperties.class)
 public class CoolschrankApplication {
 
 	public static void main(String[] args) {
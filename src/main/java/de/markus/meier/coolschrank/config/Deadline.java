@@ -0,0 +1,117 @@
+package de.markus.meier.coolschrank.config;
+
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * The Deadline class represents the point in time by which a request must be answered.
+ * It is set once per request and travels with the request: in the Reactor context of reactive pipelines and in a
+ * thread-local for the blocking serving modes. Outbound calls use the remaining budget as their timeout, so a
+ * request never waits on the remote API longer than its own budget allows.
+ */
+public final class Deadline {
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private final long expiresAt;
+
+    private Deadline(long expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * Creates a deadline the given budget from now.
+     *
+     * @param budget The time the request may take.
+     * @return The deadline.
+     */
+    public static Deadline after(Duration budget) {
+        return new Deadline(System.nanoTime() + budget.toNanos());
+    }
+
+    /**
+     * Retrieves the time left until the deadline.
+     *
+     * @return The remaining budget, negative if the deadline has passed.
+     */
+    public Duration remaining() {
+        return Duration.ofNanos(expiresAt - System.nanoTime());
+    }
+
+    /**
+     * Checks if the deadline has passed.
+     *
+     * @return true if no budget is left, false otherwise.
+     */
+    public boolean isExpired() {
+        return expiresAt - System.nanoTime() <= 0;
+    }
+
+    /**
+     * Binds a deadline to the calling thread, or unbinds it if null is given.
+     *
+     * @param deadline The deadline of the request handled by the calling thread.
+     */
+    public static void setCurrent(Deadline deadline) {
+        if (deadline == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(deadline);
+        }
+    }
+
+    /**
+     * Retrieves the deadline bound to the calling thread.
+     *
+     * @return The deadline, or null if the thread is not handling a request with a deadline.
+     */
+    public static Deadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Carries the deadline bound to the calling thread into the Reactor context of a pipeline,
+     * so it reaches the outbound call even if the pipeline switches threads.
+     *
+     * @param call The pipeline.
+     * @param <T>  The type of the result.
+     * @return The pipeline with the deadline in its context.
+     */
+    public static <T> Mono<T> propagate(Mono<T> call) {
+        Deadline deadline = CURRENT.get();
+        return deadline == null ? call : call.contextWrite(Context.of(Deadline.class, deadline));
+    }
+
+    /**
+     * Limits a pipeline to the remaining budget of the deadline in its Reactor context. A pipeline without a deadline
+     * is returned unchanged, one whose deadline has passed fails without being subscribed.
+     *
+     * @param call The pipeline.
+     * @param <T>  The type of the result.
+     * @return The pipeline failing with an {@link ExceededException} once the deadline passes.
+     */
+    public static <T> Mono<T> within(Mono<T> call) {
+        return Mono.deferContextual(context -> context.<Deadline>getOrEmpty(Deadline.class)
+                .map(deadline -> deadline.isExpired()
+                        ? Mono.<T>error(new ExceededException())
+                        : call.timeout(deadline.remaining(), Mono.error(ExceededException::new)))
+                .orElse(call));
+    }
+
+    /**
+     * The ExceededException signals that a pipeline was cut off by the deadline of its request, as opposed to a
+     * timeout of the call itself.
+     */
+    public static class ExceededException extends TimeoutException {
+
+        /**
+         * Constructs a new ExceededException.
+         */
+        public ExceededException() {
+            super("The request deadline has passed");
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package de.markus.meier.coolschrank.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Sets the deadline of every request in the servlet serving modes and binds it to the handling thread.
+ * The budget is the configured default, shortened by the {@value #REQUEST_TIMEOUT_HEADER} header in milliseconds
+ * if a client or gateway sends a smaller one.
+ */
+@Component
+@Profile("!reactive")
+public class DeadlineFilter extends OncePerRequestFilter {
+
+    /**
+     * The request header carrying the budget of the caller in milliseconds.
+     */
+    public static final String REQUEST_TIMEOUT_HEADER = "X-Request-Timeout";
+
+    private final Duration defaultBudget;
+
+    /**
+     * Constructs a new DeadlineFilter with the specified default budget.
+     *
+     * @param defaultBudget the budget of a request that does not send a smaller one
+     */
+    public DeadlineFilter(@Value("${request.deadline.default-budget:3s}") Duration defaultBudget) {
+        this.defaultBudget = defaultBudget;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        Deadline.setCurrent(Deadline.after(budget(defaultBudget, request.getHeader(REQUEST_TIMEOUT_HEADER))));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Deadline.setCurrent(null);
+        }
+    }
+
+    /**
+     * Computes the budget of a request from the default and the requested budget in milliseconds.
+     * A missing, malformed or larger requested budget leaves the default in place.
+     *
+     * @param defaultBudget the configured default budget
+     * @param requestTimeout the value of the {@value #REQUEST_TIMEOUT_HEADER} header, or null
+     * @return the budget of the request
+     */
+    static Duration budget(Duration defaultBudget, String requestTimeout) {
+        if (requestTimeout == null) {
+            return defaultBudget;
+        }
+        try {
+            Duration requested = Duration.ofMillis(Long.parseLong(requestTimeout.trim()));
+            return requested.compareTo(defaultBudget) < 0 ? requested : defaultBudget;
+        } catch (NumberFormatException e) {
+            return defaultBudget;
+        }
+    }
+}
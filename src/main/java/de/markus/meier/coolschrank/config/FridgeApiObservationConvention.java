@@ -0,0 +1,94 @@
+package de.markus.meier.coolschrank.config;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.reactive.function.client.ClientRequestObservationContext;
+import org.springframework.web.reactive.function.client.DefaultClientRequestObservationConvention;
+
+import java.util.regex.Pattern;
+
+/**
+ * Names the {@code http.client.requests} observations of the calls to the remote fridge API.
+ * The fridge service builds complete URLs, so the default URI tag would hold every fridge and item ID. This
+ * convention replaces the IDs with placeholders, drops the base URL and adds an {@code operation} tag naming the call:
+ * {@code create_fridge}, {@code get_fridge}, {@code add_item}, {@code update_item} or {@code other}.
+ */
+public class FridgeApiObservationConvention extends DefaultClientRequestObservationConvention {
+
+    private static final Pattern ITEM_ID = Pattern.compile("/item/[^/?]+");
+
+    private static final Pattern FRIDGE_ID = Pattern.compile("/fridge/[^/?]+");
+
+    private static final Pattern QUERY = Pattern.compile("\\?.*");
+
+    private final FridgeApiProperties fridgeApiProperties;
+
+    /**
+     * Constructs a new FridgeApiObservationConvention.
+     *
+     * @param fridgeApiProperties the settings of the remote fridge API, whose base URL is dropped from the URI tag
+     */
+    public FridgeApiObservationConvention(FridgeApiProperties fridgeApiProperties) {
+        this.fridgeApiProperties = fridgeApiProperties;
+    }
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ClientRequestObservationContext context) {
+        return super.getLowCardinalityKeyValues(context).and(KeyValue.of("operation", operation(context)));
+    }
+
+    @Override
+    protected KeyValue uri(ClientRequestObservationContext context) {
+        String uriTemplate = context.getUriTemplate();
+        if (uriTemplate == null) {
+            return super.uri(context);
+        }
+        return KeyValue.of("uri", template(uriTemplate));
+    }
+
+    /**
+     * Replaces the IDs of a fridge API URL with placeholders and drops its base URL and query.
+     *
+     * @param uri the URL of the call
+     * @return the path of the call, such as {@code /fridge/{id}/item}
+     */
+    public String template(String uri) {
+        String baseUrl = fridgeApiProperties.getBaseUrl();
+        String path = uri.startsWith(baseUrl) ? uri.substring(baseUrl.length()) : uri;
+        path = QUERY.matcher(path).replaceFirst("");
+        path = ITEM_ID.matcher(path).replaceFirst("/item/{itemId}");
+        return FRIDGE_ID.matcher(path).replaceFirst("/fridge/{id}");
+    }
+
+    private String operation(ClientRequestObservationContext context) {
+        if (context.getRequest() == null || context.getUriTemplate() == null) {
+            return "other";
+        }
+        return operation(context.getRequest().method(), context.getUriTemplate());
+    }
+
+    /**
+     * Names the operation of a call to the fridge API.
+     *
+     * @param method the HTTP method of the call
+     * @param url the URL of the call
+     * @return {@code create_fridge}, {@code get_fridge}, {@code add_item}, {@code update_item} or {@code other}
+     */
+    public String operation(HttpMethod method, String url) {
+        String uri = template(url);
+        if (HttpMethod.POST.equals(method) && uri.equals("/fridge")) {
+            return "create_fridge";
+        }
+        if (HttpMethod.GET.equals(method) && uri.equals("/fridge/{id}")) {
+            return "get_fridge";
+        }
+        if (HttpMethod.POST.equals(method) && uri.equals("/fridge/{id}/item")) {
+            return "add_item";
+        }
+        if (HttpMethod.POST.equals(method) && uri.equals("/fridge/{id}/item/{itemId}")) {
+            return "update_item";
+        }
+        return "other";
+    }
+}
@@ -0,0 +1,175 @@
+package de.markus.meier.coolschrank.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * The FridgeApiProperties class holds the configuration for talking to the remote fridge API.
+ * All values are bound from the {@code fridge.api} prefix.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "fridge.api")
+public class FridgeApiProperties {
+
+    /**
+     * The base URL of the remote fridge API, without a trailing slash.
+     */
+    private String baseUrl = "https://innovations.rola.com/build/rola/coolschrank/ongoing/application";
+
+    /**
+     * The settings of the fridge snapshot cache.
+     */
+    private Cache cache = new Cache();
+
+    /**
+     * The settings of the circuit breaker and bulkhead around outbound calls.
+     */
+    private Resilience resilience = new Resilience();
+
+    /**
+     * The settings of hedged fridge reads.
+     */
+    private Hedging hedging = new Hedging();
+
+    /**
+     * The settings of the outbound connection pool.
+     */
+    private Pool pool = new Pool();
+
+    /**
+     * The Cache class holds the settings of the fridge snapshot cache.
+     */
+    @Getter
+    @Setter
+    public static class Cache {
+        /**
+         * The maximum number of fridges kept in the cache.
+         */
+        private long maximumSize = 1_000;
+        /**
+         * How long a snapshot is served without asking the remote API again.
+         */
+        private Duration freshFor = Duration.ofSeconds(30);
+        /**
+         * How long a snapshot is kept for revalidation before it is evicted.
+         */
+        private Duration expireAfter = Duration.ofMinutes(10);
+    }
+
+    /**
+     * The Resilience class holds the settings of the circuit breaker and bulkhead around outbound calls.
+     */
+    @Getter
+    @Setter
+    public static class Resilience {
+        /**
+         * How long a single outbound call may take before it fails.
+         */
+        private Duration timeout = Duration.ofSeconds(5);
+        /**
+         * The maximum number of outbound calls in flight, further calls are rejected immediately.
+         */
+        private int maxConcurrentCalls = 50;
+        /**
+         * The failure rate in percent at which the circuit breaker opens.
+         */
+        private float failureRateThreshold = 50;
+        /**
+         * The number of recent calls the failure rate is computed over.
+         */
+        private int slidingWindowSize = 20;
+        /**
+         * The minimum number of calls before the failure rate is evaluated.
+         */
+        private int minimumNumberOfCalls = 10;
+        /**
+         * How long the circuit breaker stays open before it lets trial calls through.
+         */
+        private Duration waitDurationInOpenState = Duration.ofSeconds(30);
+        /**
+         * The number of trial calls permitted while the circuit breaker is half open.
+         */
+        private int permittedNumberOfCallsInHalfOpenState = 3;
+    }
+
+    /**
+     * The Hedging class holds the settings of hedged fridge reads. A hedged read sends a second request once the
+     * first one has taken longer than the configured percentile of recent reads and uses whichever answers first.
+     */
+    @Getter
+    @Setter
+    public static class Hedging {
+        /**
+         * Whether fridge reads are hedged.
+         */
+        private boolean enabled = false;
+        /**
+         * The percentile of recent read latencies after which the second request is sent.
+         */
+        private double percentile = 95;
+        /**
+         * The lower bound of the hedge delay, so fast reads are never doubled.
+         */
+        private Duration minDelay = Duration.ofMillis(10);
+        /**
+         * The window over which the read latencies are observed.
+         */
+        private Duration window = Duration.ofSeconds(10);
+        /**
+         * The minimum number of reads in a window before hedging starts.
+         */
+        private long minimumSamples = 100;
+    }
+
+    /**
+     * The Pool class holds the settings of the connection pool shared by all outbound calls to the remote fridge API.
+     */
+    @Getter
+    @Setter
+    public static class Pool {
+        /**
+         * The maximum number of open connections per remote address.
+         */
+        private int maxConnections = 100;
+        /**
+         * The maximum number of calls waiting for a connection, further calls fail immediately.
+         */
+        private int pendingAcquireMaxCount = 200;
+        /**
+         * How long a call waits for a connection before it fails.
+         */
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(2);
+        /**
+         * How long an idle connection is kept open.
+         */
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+        /**
+         * How long a connection is used before it is replaced, so load balancers can rebalance.
+         */
+        private Duration maxLifeTime = Duration.ofMinutes(5);
+        /**
+         * How often idle and expired connections are closed in the background.
+         */
+        private Duration evictionInterval = Duration.ofSeconds(30);
+        /**
+         * How long opening a connection may take.
+         */
+        private Duration connectTimeout = Duration.ofSeconds(2);
+        /**
+         * Whether responses are requested gzip-compressed.
+         */
+        private boolean compress = true;
+        /**
+         * Whether HTTP/2 is negotiated on TLS connections, falling back to HTTP/1.1 if the remote API does not offer it.
+         */
+        private boolean http2 = true;
+        /**
+         * Whether the event loops, DNS resolver and native transport are initialized at startup instead of on the first call.
+         */
+        private boolean warmUp = true;
+    }
+}
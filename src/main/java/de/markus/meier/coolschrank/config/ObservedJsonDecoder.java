@@ -0,0 +1,58 @@
+package de.markus.meier.coolschrank.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.markus.meier.coolschrank.service.ServiceTracing;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.lang.Nullable;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The ObservedJsonDecoder class decodes JSON responses like the shared Jackson codec and traces every decoding of a
+ * complete body as the {@code fridge.decode} stage. Only the decoding is traced, the time waiting for the body
+ * to arrive belongs to the outbound call.
+ */
+public class ObservedJsonDecoder extends Jackson2JsonDecoder {
+
+    /**
+     * The hint carrying the Reactor context of the decoded pipeline to the decoding of the joined body.
+     */
+    private static final String CONTEXT_HINT = ObservedJsonDecoder.class.getName() + ".CONTEXT";
+
+    private final ServiceTracing serviceTracing;
+
+    /**
+     * Constructs a new ObservedJsonDecoder decoding with the specified object mapper.
+     *
+     * @param objectMapper   the shared object mapper
+     * @param serviceTracing the tracing of the decoding stage
+     */
+    public ObservedJsonDecoder(ObjectMapper objectMapper, ServiceTracing serviceTracing) {
+        super(objectMapper);
+        this.serviceTracing = serviceTracing;
+    }
+
+    @Override
+    public Mono<Object> decodeToMono(Publisher<DataBuffer> input, ResolvableType elementType,
+                                     @Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
+        return Mono.deferContextual(context -> {
+            Map<String, Object> contextHints = hints == null ? new HashMap<>() : new HashMap<>(hints);
+            contextHints.put(CONTEXT_HINT, context);
+            return super.decodeToMono(input, elementType, mimeType, contextHints);
+        });
+    }
+
+    @Override
+    public Object decode(DataBuffer dataBuffer, ResolvableType targetType,
+                         @Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
+        ContextView context = hints == null ? null : (ContextView) hints.get(CONTEXT_HINT);
+        return serviceTracing.stage("fridge.decode", context, () -> super.decode(dataBuffer, targetType, mimeType, hints));
+    }
+}
@@ -0,0 +1,40 @@
+package de.markus.meier.coolschrank.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Sets the deadline of every request in the reactive serving mode and writes it to the Reactor context of the
+ * request. The budget is computed like in {@link DeadlineFilter}.
+ */
+@Component
+@Profile("reactive")
+public class ReactiveDeadlineFilter implements WebFilter {
+
+    private final Duration defaultBudget;
+
+    /**
+     * Constructs a new ReactiveDeadlineFilter with the specified default budget.
+     *
+     * @param defaultBudget the budget of a request that does not send a smaller one
+     */
+    public ReactiveDeadlineFilter(@Value("${request.deadline.default-budget:3s}") Duration defaultBudget) {
+        this.defaultBudget = defaultBudget;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        return Mono.defer(() -> {
+            String requestTimeout = exchange.getRequest().getHeaders().getFirst(DeadlineFilter.REQUEST_TIMEOUT_HEADER);
+            Deadline deadline = Deadline.after(DeadlineFilter.budget(defaultBudget, requestTimeout));
+            return chain.filter(exchange).contextWrite(context -> context.put(Deadline.class, deadline));
+        });
+    }
+}
@@ -0,0 +1,43 @@
+package de.markus.meier.coolschrank.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Guards the {@code virtual-threads} profile. The virtual-thread executor is only compiled by a build on Java 21 or
+ * newer, so on an older build or runtime the profile would silently keep the platform-thread pool. The startup fails
+ * instead, naming what is missing.
+ */
+@Configuration
+@Profile("virtual-threads")
+public class VirtualThreadSupportCheck {
+
+    static final String VIRTUAL_THREAD_CONFIG = "de.markus.meier.coolschrank.config.VirtualThreadConfig";
+
+    /**
+     * Constructs a new VirtualThreadSupportCheck and checks the running JVM and the build.
+     *
+     * @throws IllegalStateException if virtual threads are not available
+     */
+    public VirtualThreadSupportCheck() {
+        check(Runtime.version().feature(), ClassUtils.isPresent(VIRTUAL_THREAD_CONFIG, getClass().getClassLoader()));
+    }
+
+    /**
+     * Checks that virtual threads can be used.
+     *
+     * @param javaVersion the feature version of the running JVM
+     * @param compiled    whether the virtual-thread configuration was compiled into the build
+     * @throws IllegalStateException if virtual threads are not available
+     */
+    static void check(int javaVersion, boolean compiled) {
+        if (javaVersion < 21) {
+            throw new IllegalStateException("The virtual-threads profile needs Java 21 or newer, running on Java " + javaVersion);
+        }
+        if (!compiled) {
+            throw new IllegalStateException("The virtual-threads profile needs a build on Java 21 or newer, "
+                    + VIRTUAL_THREAD_CONFIG + " was not compiled");
+        }
+    }
+}
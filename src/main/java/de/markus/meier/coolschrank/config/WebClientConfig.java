@@ -0,0 +1,124 @@
+package de.markus.meier.coolschrank.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import de.markus.meier.coolschrank.jfr.FridgeCallEventFilter;
+import de.markus.meier.coolschrank.service.FridgeConnectionPoolMetrics;
+import de.markus.meier.coolschrank.service.ServiceTracing;
+import de.markus.meier.coolschrank.simulator.FridgeApiStandIn;
+import de.markus.meier.coolschrank.simulator.FridgeTrafficRecorder;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.web.reactive.function.client.WebClientCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Configuration of the web client used for the remote fridge API.
+ * The client is built from the auto-configured builder, so responses are decoded straight from the
+ * network buffers by the application's shared Jackson codec instead of being buffered as strings first.
+ * All outbound calls share one connection pool sized by the {@code fridge.api.pool} settings.
+ * The builder's observation support traces every call below the current stage and sends its trace context upstream.
+ */
+@Configuration
+public class WebClientConfig {
+
+    /**
+     * Registers the Blackbird module with the shared object mapper, which replaces reflective
+     * property access with generated accessors.
+     *
+     * @return the Blackbird module
+     */
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    /**
+     * Tags the client metrics of the remote fridge API calls by operation, with the IDs removed from the URI tag.
+     *
+     * @param fridgeApiProperties the settings of the remote fridge API
+     * @return the observation convention of the web client
+     */
+    @Bean
+    public FridgeApiObservationConvention fridgeApiObservationConvention(FridgeApiProperties fridgeApiProperties) {
+        return new FridgeApiObservationConvention(fridgeApiProperties);
+    }
+
+    /**
+     * Emits a flight recorder event for every call to the remote fridge API while a recording is running.
+     *
+     * @param fridgeApiObservationConvention the convention naming the operation and URI of a call
+     * @return the customizer installing the event filter on the web client builder
+     */
+    @Bean
+    public WebClientCustomizer fridgeCallEventCustomizer(FridgeApiObservationConvention fridgeApiObservationConvention) {
+        return webClientBuilder -> webClientBuilder.filter(new FridgeCallEventFilter(fridgeApiObservationConvention));
+    }
+
+    /**
+     * Creates the connection pool shared by all outbound calls to the remote fridge API.
+     * Idle and expired connections are closed in the background, so a call never picks up a connection the remote
+     * side has already dropped.
+     *
+     * @param fridgeApiProperties the settings of the remote fridge API
+     * @param fridgeConnectionPoolMetrics the collector of the pool metrics
+     * @return the connection pool
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider fridgeConnectionProvider(FridgeApiProperties fridgeApiProperties, FridgeConnectionPoolMetrics fridgeConnectionPoolMetrics) {
+        FridgeApiProperties.Pool pool = fridgeApiProperties.getPool();
+        return ConnectionProvider.builder("fridge-api")
+                .maxConnections(pool.getMaxConnections())
+                .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+                .maxIdleTime(pool.getMaxIdleTime())
+                .maxLifeTime(pool.getMaxLifeTime())
+                .evictInBackground(pool.getEvictionInterval())
+                .metrics(true, () -> fridgeConnectionPoolMetrics)
+                .build();
+    }
+
+    /**
+     * Creates the shared web client for the remote fridge API.
+     *
+     * @param webClientBuilder the auto-configured builder carrying the shared codecs
+     * @param fridgeConnectionProvider the shared connection pool
+     * @param fridgeApiProperties the settings of the remote fridge API
+     * @param fridgeConnectionPoolMetrics the collector of the connection acquire latency
+     * @param fridgeApiStandIn the local stand-in for the remote API, started first if present so the base URL points at it
+     * @param fridgeTrafficRecorder the recorder of the exchanges with the remote API, if recording is active
+     * @param objectMapper the shared object mapper
+     * @param serviceTracing the tracing of the response decoding
+     * @return the web client
+     */
+    @Bean
+    public WebClient fridgeWebClient(WebClient.Builder webClientBuilder, ConnectionProvider fridgeConnectionProvider,
+                                     FridgeApiProperties fridgeApiProperties, FridgeConnectionPoolMetrics fridgeConnectionPoolMetrics,
+                                     ObjectProvider<FridgeApiStandIn> fridgeApiStandIn, ObjectProvider<FridgeTrafficRecorder> fridgeTrafficRecorder,
+                                     ObjectMapper objectMapper, ServiceTracing serviceTracing) {
+        // Resolving the stand-in first lets it point the base URL at itself before the protocol is chosen.
+        fridgeApiStandIn.getIfAvailable();
+        FridgeApiProperties.Pool pool = fridgeApiProperties.getPool();
+        // HTTP/2 is only negotiated through TLS, a plain-text base URL such as a local stand-in keeps HTTP/1.1.
+        boolean http2 = pool.isHttp2() && fridgeApiProperties.getBaseUrl().startsWith("https:");
+        HttpClient httpClient = HttpClient.create(fridgeConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) pool.getConnectTimeout().toMillis())
+                .compress(pool.isCompress())
+                .protocol(http2 ? new HttpProtocol[]{HttpProtocol.H2, HttpProtocol.HTTP11} : new HttpProtocol[]{HttpProtocol.HTTP11})
+                .mapConnect(fridgeConnectionPoolMetrics::timeAcquire);
+        if (pool.isWarmUp()) {
+            httpClient.warmup().block();
+        }
+        fridgeTrafficRecorder.ifAvailable(webClientBuilder::filter);
+        return webClientBuilder.clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(configurer -> configurer.defaultCodecs().jackson2JsonDecoder(new ObservedJsonDecoder(objectMapper, serviceTracing)))
+                .build();
+    }
+}
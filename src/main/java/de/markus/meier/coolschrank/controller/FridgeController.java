@@ -1,10 +1,15 @@
 package de.markus.meier.coolschrank.controller;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import de.markus.meier.coolschrank.model.dto.ConnectionPoolStatsDto;
+import de.markus.meier.coolschrank.model.dto.FridgeCacheStatsDto;
+import de.markus.meier.coolschrank.model.dto.FridgeCoalescingStatsDto;
 import de.markus.meier.coolschrank.model.dto.FridgeDto;
 import de.markus.meier.coolschrank.model.dto.FridgeInventoryDto;
+import de.markus.meier.coolschrank.model.dto.FridgeLatencyStatsDto;
+import de.markus.meier.coolschrank.model.dto.FridgeResilienceStatsDto;
 import de.markus.meier.coolschrank.service.FridgeService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -14,6 +19,7 @@ import org.springframework.web.reactive.function.client.WebClientResponseExcepti
  * *RestController for managing fridge operations.
  */
 @RestController
+@Profile("!reactive")
 @RequestMapping("/fridge")
 public class FridgeController {
 
@@ -33,10 +39,9 @@ public class FridgeController {
      * Creates a new fridge and returns the created fridge ID.
      *
      * @return the ResponseEntity containing the created fridge ID
-     * @throws JsonProcessingException if an error occurs during JSON processing
      */
     @PostMapping("/create")
-    public ResponseEntity<String> createFridge() throws JsonProcessingException {
+    public ResponseEntity<String> createFridge() {
         return new ResponseEntity<>(fridgeAPIService.createFridge(), HttpStatus.CREATED);
     }
 
@@ -45,10 +50,9 @@ public class FridgeController {
      *
      * @param id the ID of the fridge to retrieve
      * @return the ResponseEntity containing the retrieved fridge DTO
-     * @throws JsonProcessingException if an error occurs during JSON processing
      */
     @GetMapping("/{id}")
-    public ResponseEntity<FridgeDto> getFridge(@PathVariable String id) throws JsonProcessingException {
+    public ResponseEntity<FridgeDto> getFridge(@PathVariable String id) {
         FridgeDto fridgeAPIDto = fridgeAPIService.getFridge(id);
         if (fridgeAPIDto == null) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
@@ -62,10 +66,9 @@ public class FridgeController {
      * @param fridgeInvetoryAPIDto the DTO representing the inventory item to be added
      * @param fridgeId the ID of the fridge to add the inventory item to
      * @return the ResponseEntity containing the added inventory item DTO
-     * @throws JsonProcessingException if an error occurs during JSON processing
      */
     @PostMapping("/addInventory/{fridgeId}")
-    public ResponseEntity<FridgeInventoryDto> addFridgeInventory(@RequestBody FridgeInventoryDto fridgeInvetoryAPIDto, @PathVariable String fridgeId) throws JsonProcessingException {
+    public ResponseEntity<FridgeInventoryDto> addFridgeInventory(@RequestBody FridgeInventoryDto fridgeInvetoryAPIDto, @PathVariable String fridgeId) {
         fridgeInvetoryAPIDto = fridgeAPIService.addFridgeInventory(fridgeInvetoryAPIDto, fridgeId);
         if (fridgeInvetoryAPIDto == null) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
@@ -79,10 +82,9 @@ public class FridgeController {
      * @param fridgeInvetoryAPIDto the DTO representing the updated inventory item
      * @param fridgeId the ID of the fridge to update the inventory item in
      * @return the ResponseEntity containing the updated inventory item DTO
-     * @throws JsonProcessingException if an error occurs during JSON processing
      */
     @PutMapping("/updateInventory/{fridgeId}")
-    public ResponseEntity<FridgeInventoryDto> upDateFridgeInventory(@RequestBody FridgeInventoryDto fridgeInvetoryAPIDto, @PathVariable String fridgeId) throws JsonProcessingException {
+    public ResponseEntity<FridgeInventoryDto> upDateFridgeInventory(@RequestBody FridgeInventoryDto fridgeInvetoryAPIDto, @PathVariable String fridgeId) {
         try {
             fridgeInvetoryAPIDto = fridgeAPIService.upDateFridgeInventory(fridgeInvetoryAPIDto, fridgeId);
         } catch (WebClientResponseException e) {
@@ -95,4 +97,54 @@ public class FridgeController {
         return new ResponseEntity<>(fridgeInvetoryAPIDto, HttpStatus.OK);
     }
 
+    /**
+     * Retrieves the statistics of the fridge snapshot cache.
+     *
+     * @return the ResponseEntity containing the cache statistics DTO
+     */
+    @GetMapping("/cache/stats")
+    public ResponseEntity<FridgeCacheStatsDto> getSnapshotCacheStats() {
+        return new ResponseEntity<>(fridgeAPIService.getSnapshotCacheStats(), HttpStatus.OK);
+    }
+
+    /**
+     * Retrieves the statistics of the coalesced fridge reads.
+     *
+     * @return the ResponseEntity containing the coalescing statistics DTO
+     */
+    @GetMapping("/coalescing/stats")
+    public ResponseEntity<FridgeCoalescingStatsDto> getCoalescingStats() {
+        return new ResponseEntity<>(fridgeAPIService.getCoalescingStats(), HttpStatus.OK);
+    }
+
+    /**
+     * Retrieves the statistics of the circuit breaker and bulkhead around the remote fridge API.
+     *
+     * @return the ResponseEntity containing the resilience statistics DTO
+     */
+    @GetMapping("/resilience/stats")
+    public ResponseEntity<FridgeResilienceStatsDto> getResilienceStats() {
+        return new ResponseEntity<>(fridgeAPIService.getResilienceStats(), HttpStatus.OK);
+    }
+
+    /**
+     * Retrieves the latency histograms and hedging counters of the remote fridge reads.
+     *
+     * @return the ResponseEntity containing the latency statistics DTO
+     */
+    @GetMapping("/latency/stats")
+    public ResponseEntity<FridgeLatencyStatsDto> getLatencyStats() {
+        return new ResponseEntity<>(fridgeAPIService.getLatencyStats(), HttpStatus.OK);
+    }
+
+    /**
+     * Retrieves the statistics of the outbound connection pool to the remote fridge API.
+     *
+     * @return the ResponseEntity containing the connection pool statistics DTO
+     */
+    @GetMapping("/pool/stats")
+    public ResponseEntity<ConnectionPoolStatsDto> getConnectionPoolStats() {
+        return new ResponseEntity<>(fridgeAPIService.getConnectionPoolStats(), HttpStatus.OK);
+    }
+
 }
@@ -0,0 +1,149 @@
+package de.markus.meier.coolschrank.controller;
+
+import de.markus.meier.coolschrank.model.dto.ConnectionPoolStatsDto;
+import de.markus.meier.coolschrank.model.dto.FridgeCacheStatsDto;
+import de.markus.meier.coolschrank.model.dto.FridgeCoalescingStatsDto;
+import de.markus.meier.coolschrank.model.dto.FridgeDto;
+import de.markus.meier.coolschrank.model.dto.FridgeInventoryDto;
+import de.markus.meier.coolschrank.model.dto.FridgeLatencyStatsDto;
+import de.markus.meier.coolschrank.model.dto.FridgeResilienceStatsDto;
+import de.markus.meier.coolschrank.service.FridgeService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+/**
+ * RestController for managing fridge operations in the reactive serving mode.
+ * It offers the same endpoints as {@link FridgeController} without blocking the request thread.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/fridge")
+public class ReactiveFridgeController {
+
+    private final FridgeService fridgeAPIService;
+
+    /**
+     * Constructs a new ReactiveFridgeController with the specified FridgeService.
+     *
+     * @param fridgeAPIService the FridgeService to be used
+     */
+    @Autowired
+    public ReactiveFridgeController(FridgeService fridgeAPIService) {
+        this.fridgeAPIService = fridgeAPIService;
+    }
+
+    /**
+     * Creates a new fridge and returns the created fridge ID.
+     *
+     * @return a Mono emitting the ResponseEntity containing the created fridge ID
+     */
+    @PostMapping("/create")
+    public Mono<ResponseEntity<String>> createFridge() {
+        return fridgeAPIService.createFridgeReactive()
+                .map(id -> new ResponseEntity<>(id, HttpStatus.CREATED));
+    }
+
+    /**
+     * Retrieves the fridge with the specified ID.
+     *
+     * @param id the ID of the fridge to retrieve
+     * @return a Mono emitting the ResponseEntity containing the retrieved fridge DTO
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<FridgeDto>> getFridge(@PathVariable String id) {
+        return fridgeAPIService.getFridgeReactive(id)
+                .map(fridgeAPIDto -> new ResponseEntity<>(fridgeAPIDto, HttpStatus.OK))
+                .defaultIfEmpty(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    /**
+     * Adds a new inventory item to the fridge with the specified ID.
+     *
+     * @param fridgeInvetoryAPIDto the DTO representing the inventory item to be added
+     * @param fridgeId the ID of the fridge to add the inventory item to
+     * @return a Mono emitting the ResponseEntity containing the added inventory item DTO
+     */
+    @PostMapping("/addInventory/{fridgeId}")
+    public Mono<ResponseEntity<FridgeInventoryDto>> addFridgeInventory(@RequestBody FridgeInventoryDto fridgeInvetoryAPIDto, @PathVariable String fridgeId) {
+        return fridgeAPIService.addFridgeInventoryReactive(fridgeInvetoryAPIDto, fridgeId)
+                .map(result -> new ResponseEntity<>(result, HttpStatus.CREATED))
+                .defaultIfEmpty(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    /**
+     * Updates the inventory item in the fridge with the specified ID.
+     *
+     * @param fridgeInvetoryAPIDto the DTO representing the updated inventory item
+     * @param fridgeId the ID of the fridge to update the inventory item in
+     * @return a Mono emitting the ResponseEntity containing the updated inventory item DTO
+     */
+    @PutMapping("/updateInventory/{fridgeId}")
+    public Mono<ResponseEntity<FridgeInventoryDto>> upDateFridgeInventory(@RequestBody FridgeInventoryDto fridgeInvetoryAPIDto, @PathVariable String fridgeId) {
+        return fridgeAPIService.upDateFridgeInventoryReactive(fridgeInvetoryAPIDto, fridgeId)
+                .map(result -> new ResponseEntity<>(result, HttpStatus.OK))
+                .onErrorResume(WebClientResponseException.class, e -> {
+                    if (e.getStatusCode().value() == 404) {
+                        return Mono.just(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+                    } else if (e.getStatusCode().value() == 400) {
+                        return Mono.just(new ResponseEntity<>(HttpStatus.CONFLICT));
+                    }
+                    return Mono.error(e);
+                });
+    }
+
+    /**
+     * Retrieves the statistics of the fridge snapshot cache.
+     *
+     * @return the ResponseEntity containing the cache statistics DTO
+     */
+    @GetMapping("/cache/stats")
+    public ResponseEntity<FridgeCacheStatsDto> getSnapshotCacheStats() {
+        return new ResponseEntity<>(fridgeAPIService.getSnapshotCacheStats(), HttpStatus.OK);
+    }
+
+    /**
+     * Retrieves the statistics of the coalesced fridge reads.
+     *
+     * @return the ResponseEntity containing the coalescing statistics DTO
+     */
+    @GetMapping("/coalescing/stats")
+    public ResponseEntity<FridgeCoalescingStatsDto> getCoalescingStats() {
+        return new ResponseEntity<>(fridgeAPIService.getCoalescingStats(), HttpStatus.OK);
+    }
+
+    /**
+     * Retrieves the statistics of the circuit breaker and bulkhead around the remote fridge API.
+     *
+     * @return the ResponseEntity containing the resilience statistics DTO
+     */
+    @GetMapping("/resilience/stats")
+    public ResponseEntity<FridgeResilienceStatsDto> getResilienceStats() {
+        return new ResponseEntity<>(fridgeAPIService.getResilienceStats(), HttpStatus.OK);
+    }
+
+    /**
+     * Retrieves the latency histograms and hedging counters of the remote fridge reads.
+     *
+     * @return the ResponseEntity containing the latency statistics DTO
+     */
+    @GetMapping("/latency/stats")
+    public ResponseEntity<FridgeLatencyStatsDto> getLatencyStats() {
+        return new ResponseEntity<>(fridgeAPIService.getLatencyStats(), HttpStatus.OK);
+    }
+
+    /**
+     * Retrieves the statistics of the outbound connection pool to the remote fridge API.
+     *
+     * @return the ResponseEntity containing the connection pool statistics DTO
+     */
+    @GetMapping("/pool/stats")
+    public ResponseEntity<ConnectionPoolStatsDto> getConnectionPoolStats() {
+        return new ResponseEntity<>(fridgeAPIService.getConnectionPoolStats(), HttpStatus.OK);
+    }
+
+}
@@ -0,0 +1,158 @@
+package de.markus.meier.coolschrank.controller;
+
+import de.markus.meier.coolschrank.model.dto.CacheRegionStatsDto;
+import de.markus.meier.coolschrank.model.dto.ShoppingInventoryDto;
+import de.markus.meier.coolschrank.model.dto.ShoppingListDto;
+import de.markus.meier.coolschrank.model.dto.ShoppingListUpdateStatsDto;
+import de.markus.meier.coolschrank.model.model.EncodedShoppingList;
+import de.markus.meier.coolschrank.model.model.ShoppingInventoryEntity;
+import de.markus.meier.coolschrank.service.ShoppingListService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * RestController for managing shopping list operations in the reactive serving mode.
+ * It offers the same endpoints as {@link ShoppingListController} without blocking the request thread.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/shoppingList")
+public class ReactiveShoppingListController {
+
+    private final ShoppingListService shoppingListService;
+
+    /**
+     * Constructs a new ReactiveShoppingListController with the specified ShoppingListService.
+     *
+     * @param shoppingListAPIService the ShoppingListService to be used
+     */
+    @Autowired
+    public ReactiveShoppingListController(ShoppingListService shoppingListAPIService) {
+        this.shoppingListService = shoppingListAPIService;
+    }
+
+    /**
+     * Retrieves the shopping list with the specified ID.
+     * The JSON body is served from the response cache and carries a strong ETag, so a client revalidating with
+     * If-None-Match receives 304 Not Modified while the shopping list is unchanged.
+     *
+     * @param id the ID of the shopping list to retrieve
+     * @return a Mono emitting the ResponseEntity containing the encoded shopping list DTO
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<byte[]>> getShoppingList(@PathVariable Long id) {
+        return shoppingListService.getEncodedShoppingListReactive(id)
+                .map(ReactiveShoppingListController::toResponseEntity)
+                .defaultIfEmpty(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    /**
+     * Creates a new shopping list for the specified fridge ID.
+     *
+     * @param id the ID of the fridge to create the shopping list for
+     * @return a Mono emitting the ResponseEntity containing the created shopping list DTO
+     */
+    @PostMapping("/create/fridge/{id}")
+    public Mono<ResponseEntity<ShoppingListDto>> createShoppingList(@PathVariable("id") String id) {
+        return shoppingListService.createShoppingListReactive(id)
+                .map(result -> new ResponseEntity<>(result, HttpStatus.CREATED))
+                .defaultIfEmpty(new ResponseEntity<>(HttpStatus.CONFLICT))
+                .onErrorReturn(DecodingException.class, new ResponseEntity<>(HttpStatus.UNPROCESSABLE_ENTITY));
+    }
+
+    /**
+     * Automatically updates the shopping list with the specified ID based on the fridge with the specified ID.
+     *
+     * @param id the ID of the shopping list to update
+     * @param fridgeId the ID of the fridge to update the shopping list from
+     * @return a Mono emitting the ResponseEntity containing the updated shopping list DTO
+     */
+    @PutMapping("/update/{id}/fridge/{fridgeId}")
+    public Mono<ResponseEntity<ShoppingListDto>> autoUpdateShoppingList(@PathVariable Long id, @PathVariable String fridgeId) {
+        return shoppingListService.autoUpdateShoppingListReactive(id, fridgeId)
+                .map(result -> new ResponseEntity<>(result, HttpStatus.OK))
+                .defaultIfEmpty(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    /**
+     * Deletes the shopping inventory item with the specified ID from the shopping list with the specified ID.
+     *
+     * @param id the ID of the shopping list to delete the inventory item from
+     * @param itemId the ID of the inventory item to delete
+     * @return a Mono emitting the ResponseEntity containing the deleted shopping inventory DTO
+     */
+    @DeleteMapping("/delete/{id}/item/{itemId}")
+    public Mono<ResponseEntity<ShoppingInventoryDto>> deleteShoppingInventory(@PathVariable Long id, @PathVariable Long itemId) {
+        return shoppingListService.deleteShoppingInventoryReactive(id, itemId)
+                .map(result -> new ResponseEntity<>(result, HttpStatus.OK))
+                .defaultIfEmpty(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    /**
+     * Deletes the shopping list with the specified ID.
+     *
+     * @param id the ID of the shopping list to delete
+     * @return a Mono emitting the ResponseEntity containing the deleted shopping list DTO
+     */
+    @DeleteMapping("/delete/{id}")
+    public Mono<ResponseEntity<ShoppingListDto>> deleteShoppingList(@PathVariable Long id) {
+        return shoppingListService.deleteShoppingListReactive(id)
+                .map(result -> new ResponseEntity<>(result, HttpStatus.OK))
+                .defaultIfEmpty(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    /**
+     * Updates the shopping list with the specified ID using the provided shopping inventory entity.
+     *
+     * @param id the ID of the shopping list to update
+     * @param shoppingInventoryAPIEntity the shopping inventory entity containing the updated data
+     * @return a Mono emitting the ResponseEntity containing the updated shopping inventory DTO
+     */
+    @PutMapping("/update/item/{id}")
+    public Mono<ResponseEntity<ShoppingInventoryDto>> updateShoppingList(@PathVariable Long id, @RequestBody ShoppingInventoryEntity shoppingInventoryAPIEntity) {
+        return shoppingListService.updateShoppingListReactive(id, shoppingInventoryAPIEntity)
+                .map(result -> new ResponseEntity<>(result, HttpStatus.OK))
+                .defaultIfEmpty(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    /**
+     * Retrieves the statistics of the automatic shopping list updates.
+     *
+     * @return the ResponseEntity containing the update statistics DTO
+     */
+    @GetMapping("/update/stats")
+    public ResponseEntity<ShoppingListUpdateStatsDto> getUpdateStats() {
+        return new ResponseEntity<>(shoppingListService.getUpdateStats(), HttpStatus.OK);
+    }
+
+    /**
+     * Retrieves the statistics of the second-level cache regions holding shopping lists.
+     *
+     * @return the ResponseEntity containing the statistics of every region, empty if the cache is disabled
+     */
+    @GetMapping("/cache/stats")
+    public ResponseEntity<List<CacheRegionStatsDto>> getCacheStats() {
+        return new ResponseEntity<>(shoppingListService.getCacheStats(), HttpStatus.OK);
+    }
+
+    /**
+     * Wraps an encoded shopping list in a response with its entity tag. Spring answers a matching If-None-Match
+     * header with 304 Not Modified instead of writing the body.
+     */
+    private static ResponseEntity<byte[]> toResponseEntity(EncodedShoppingList encodedShoppingList) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setETag(encodedShoppingList.getEtag());
+        return new ResponseEntity<>(encodedShoppingList.getBody(), headers, HttpStatus.OK);
+    }
+
+}
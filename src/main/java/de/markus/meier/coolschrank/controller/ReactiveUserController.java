@@ -0,0 +1,86 @@
+package de.markus.meier.coolschrank.controller;
+
+import de.markus.meier.coolschrank.model.dto.CacheRegionStatsDto;
+import de.markus.meier.coolschrank.model.dto.UserDto;
+import de.markus.meier.coolschrank.service.UserService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Controller class for handling user-related requests in the reactive serving mode.
+ * It offers the same endpoints as {@link UserController} without blocking the request thread.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/user")
+public class ReactiveUserController {
+
+    private final UserService userService;
+
+    /**
+     * Constructs a new ReactiveUserController with the given UserService.
+     *
+     * @param userService the UserService to be used
+     */
+    @Autowired
+    public ReactiveUserController(UserService userService) {
+        this.userService = userService;
+    }
+
+    /**
+     * Creates a new user.
+     *
+     * @param userDto the UserDto object containing the user data
+     * @return a Mono emitting the ResponseEntity containing the ID of the created user
+     */
+    @PostMapping("/")
+    public Mono<ResponseEntity<Long>> createUser(@RequestBody UserDto userDto) {
+        return userService.createUserReactive(userDto)
+                .map(id -> new ResponseEntity<>(id, HttpStatus.OK))
+                .onErrorReturn(new ResponseEntity<>(HttpStatus.UNPROCESSABLE_ENTITY));
+    }
+
+    /**
+     * Retrieves a user by ID.
+     *
+     * @param id the ID of the user to retrieve
+     * @return a Mono emitting the ResponseEntity containing the retrieved UserDto
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<UserDto>> getUser(@PathVariable Long id) {
+        return userService.getUserReactive(id)
+                .map(userDto -> new ResponseEntity<>(userDto, HttpStatus.OK))
+                .defaultIfEmpty(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    /**
+     * Updates the fridge ID of a user.
+     *
+     * @param id the ID of the user to update
+     * @param fridgeId the new fridge ID
+     * @return a Mono emitting the ResponseEntity containing the updated UserDto
+     */
+    @PutMapping("/{id}/frigde/{fridgeId}")
+    public Mono<ResponseEntity<UserDto>> updateFrigdeId(@PathVariable Long id, @PathVariable String fridgeId) {
+        return userService.updateFrigdeIdReactive(id, fridgeId)
+                .map(userDto -> new ResponseEntity<>(userDto, HttpStatus.OK))
+                .defaultIfEmpty(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    /**
+     * Retrieves the statistics of the second-level cache regions holding users.
+     *
+     * @return the ResponseEntity containing the statistics of every region, empty if the cache is disabled
+     */
+    @GetMapping("/cache/stats")
+    public ResponseEntity<List<CacheRegionStatsDto>> getCacheStats() {
+        return new ResponseEntity<>(userService.getCacheStats(), HttpStatus.OK);
+    }
+
+}
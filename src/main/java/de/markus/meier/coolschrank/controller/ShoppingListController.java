@@ -1,19 +1,28 @@
 package de.markus.meier.coolschrank.controller;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import de.markus.meier.coolschrank.model.dto.CacheRegionStatsDto;
 import de.markus.meier.coolschrank.model.dto.ShoppingInventoryDto;
 import de.markus.meier.coolschrank.model.dto.ShoppingListDto;
+import de.markus.meier.coolschrank.model.dto.ShoppingListUpdateStatsDto;
+import de.markus.meier.coolschrank.model.model.EncodedShoppingList;
 import de.markus.meier.coolschrank.model.model.ShoppingInventoryEntity;
 import de.markus.meier.coolschrank.service.ShoppingListService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * RestController for managing shopping list operations.
  */
 @RestController
+@Profile("!reactive")
 @RequestMapping("/shoppingList")
 public class ShoppingListController {
 
@@ -31,17 +40,19 @@ public class ShoppingListController {
 
     /**
      * Retrieves the shopping list with the specified ID.
+     * The JSON body is served from the response cache and carries a strong ETag, so a client revalidating with
+     * If-None-Match receives 304 Not Modified while the shopping list is unchanged.
      *
      * @param id the ID of the shopping list to retrieve
-     * @return the ResponseEntity containing the retrieved shopping list DTO
+     * @return the ResponseEntity containing the encoded shopping list DTO
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ShoppingListDto> getShoppingList(@PathVariable Long id) {
-        ShoppingListDto result = shoppingListService.getShoppingList(id);
+    public ResponseEntity<byte[]> getShoppingList(@PathVariable Long id) {
+        EncodedShoppingList result = shoppingListService.getEncodedShoppingList(id);
         if (result == null) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
-        return new ResponseEntity<>(result, HttpStatus.OK);
+        return toResponseEntity(result);
     }
 
     /**
@@ -58,7 +69,7 @@ public class ShoppingListController {
                 return new ResponseEntity<>(HttpStatus.CONFLICT);
             }
             return new ResponseEntity<>(shoppingListAPIDto, HttpStatus.CREATED);
-        } catch (JsonProcessingException e) {
+        } catch (DecodingException e) {
             return new ResponseEntity<>(HttpStatus.UNPROCESSABLE_ENTITY);
         }
     }
@@ -69,10 +80,9 @@ public class ShoppingListController {
      * @param id the ID of the shopping list to update
      * @param fridgeId the ID of the fridge to update the shopping list from
      * @return the ResponseEntity containing the updated shopping list DTO
-     * @throws JsonProcessingException if an error occurs during JSON processing
      */
     @PutMapping("/update/{id}/fridge/{fridgeId}")
-    public ResponseEntity<ShoppingListDto> autoUpdateShoppingList(@PathVariable Long id, @PathVariable String fridgeId) throws JsonProcessingException {
+    public ResponseEntity<ShoppingListDto> autoUpdateShoppingList(@PathVariable Long id, @PathVariable String fridgeId) {
         ShoppingListDto result = shoppingListService.autoUpdateShoppingList(id, fridgeId);
         if (result == null) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
@@ -128,4 +138,35 @@ public class ShoppingListController {
         return new ResponseEntity<>(result, HttpStatus.OK);
     }
 
+    /**
+     * Retrieves the statistics of the automatic shopping list updates.
+     *
+     * @return the ResponseEntity containing the update statistics DTO
+     */
+    @GetMapping("/update/stats")
+    public ResponseEntity<ShoppingListUpdateStatsDto> getUpdateStats() {
+        return new ResponseEntity<>(shoppingListService.getUpdateStats(), HttpStatus.OK);
+    }
+
+    /**
+     * Retrieves the statistics of the second-level cache regions holding shopping lists.
+     *
+     * @return the ResponseEntity containing the statistics of every region, empty if the cache is disabled
+     */
+    @GetMapping("/cache/stats")
+    public ResponseEntity<List<CacheRegionStatsDto>> getCacheStats() {
+        return new ResponseEntity<>(shoppingListService.getCacheStats(), HttpStatus.OK);
+    }
+
+    /**
+     * Wraps an encoded shopping list in a response with its entity tag. Spring answers a matching If-None-Match
+     * header with 304 Not Modified instead of writing the body.
+     */
+    private static ResponseEntity<byte[]> toResponseEntity(EncodedShoppingList encodedShoppingList) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setETag(encodedShoppingList.getEtag());
+        return new ResponseEntity<>(encodedShoppingList.getBody(), headers, HttpStatus.OK);
+    }
+
 }
@@ -1,16 +1,21 @@
 package de.markus.meier.coolschrank.controller;
 
+import de.markus.meier.coolschrank.model.dto.CacheRegionStatsDto;
 import de.markus.meier.coolschrank.model.dto.UserDto;
 import de.markus.meier.coolschrank.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * Controller class for handling user-related requests.
  */
 @RestController
+@Profile("!reactive")
 @RequestMapping("/user")
 public class UserController {
 
@@ -71,4 +76,15 @@ public class UserController {
         }
         return new ResponseEntity<>(userDto, HttpStatus.OK);
     }
+
+    /**
+     * Retrieves the statistics of the second-level cache regions holding users.
+     *
+     * @return the ResponseEntity containing the statistics of every region, empty if the cache is disabled
+     */
+    @GetMapping("/cache/stats")
+    public ResponseEntity<List<CacheRegionStatsDto>> getCacheStats() {
+        return new ResponseEntity<>(userService.getCacheStats(), HttpStatus.OK);
+    }
+
 }
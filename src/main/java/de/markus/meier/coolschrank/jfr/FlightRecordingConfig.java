@@ -0,0 +1,28 @@
+package de.markus.meier.coolschrank.jfr;
+
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of the flight recordings started on demand through the {@code jfr} Actuator endpoint. The endpoint is
+ * only exposed with the {@code jfr} profile, as a recording contains environment variables, system properties and
+ * stack traces.
+ */
+@Configuration
+@EnableConfigurationProperties(FlightRecordingProperties.class)
+public class FlightRecordingConfig {
+
+    /**
+     * Creates the endpoint starting, stopping and downloading flight recordings, if it is exposed.
+     *
+     * @param flightRecordingProperties the settings of the recording
+     * @return the flight recording endpoint
+     */
+    @Bean
+    @ConditionalOnAvailableEndpoint
+    public FlightRecordingEndpoint flightRecordingEndpoint(FlightRecordingProperties flightRecordingProperties) {
+        return new FlightRecordingEndpoint(flightRecordingProperties);
+    }
+}
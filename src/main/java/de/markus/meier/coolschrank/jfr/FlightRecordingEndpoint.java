@@ -0,0 +1,153 @@
+package de.markus.meier.coolschrank.jfr;
+
+import de.markus.meier.coolschrank.model.dto.FlightRecordingStatusDto;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.ParseException;
+
+/**
+ * The FlightRecordingEndpoint class starts, stops and downloads a flight recording on demand, so the latency of a
+ * running instance can be diagnosed without a restart. The recording enables the application's own events,
+ * {@link ReconciliationEvent}, {@link FridgeCallEvent} and {@link RepositoryCallEvent}, next to the JDK events of its
+ * settings.
+ * <ul>
+ *     <li>{@code GET /actuator/jfr} returns the state of the recording.</li>
+ *     <li>{@code POST /actuator/jfr} starts a recording, optionally with {@code {"settings": "default"}}.</li>
+ *     <li>{@code DELETE /actuator/jfr} stops the recording, its data stays available for download.</li>
+ *     <li>{@code GET /actuator/jfr/dump} downloads the data recorded so far as a .jfr file.</li>
+ * </ul>
+ * The endpoint is only exposed with the {@code jfr} profile.
+ */
+@WebEndpoint(id = "jfr")
+public class FlightRecordingEndpoint {
+
+    private final FlightRecordingProperties flightRecordingProperties;
+
+    private Recording recording;
+
+    private String recordingSettings;
+
+    /**
+     * Constructs a new FlightRecordingEndpoint.
+     *
+     * @param flightRecordingProperties the settings of the recording
+     */
+    public FlightRecordingEndpoint(FlightRecordingProperties flightRecordingProperties) {
+        this.flightRecordingProperties = flightRecordingProperties;
+    }
+
+    /**
+     * Retrieves the state of the recording.
+     *
+     * @return the state of the recording, NONE if no recording was started
+     */
+    @ReadOperation
+    public synchronized FlightRecordingStatusDto status() {
+        if (recording == null) {
+            return new FlightRecordingStatusDto("NONE", null, null, 0);
+        }
+        return new FlightRecordingStatusDto(recording.getState().name(), recordingSettings, recording.getStartTime(), recording.getSize());
+    }
+
+    /**
+     * Starts a recording, replacing a stopped one.
+     *
+     * @param settings the JFR settings to record with, default or profile, the configured settings if null
+     * @return the state of the started recording, 409 Conflict if a recording is running or 400 Bad Request if the
+     * settings are unknown
+     */
+    @WriteOperation
+    public synchronized WebEndpointResponse<FlightRecordingStatusDto> start(@Nullable String settings) {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            return new WebEndpointResponse<>(status(), HttpStatus.CONFLICT.value());
+        }
+        String name = settings == null ? flightRecordingProperties.getSettings() : settings;
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(name);
+        } catch (IOException | ParseException e) {
+            return new WebEndpointResponse<>(HttpStatus.BAD_REQUEST.value());
+        }
+        close();
+        Recording started = new Recording(configuration);
+        started.setName("coolschrank");
+        started.setToDisk(true);
+        started.setMaxAge(flightRecordingProperties.getMaxAge());
+        started.setMaxSize(flightRecordingProperties.getMaxSize().toBytes());
+        started.enable(ReconciliationEvent.class);
+        started.enable(FridgeCallEvent.class);
+        started.enable(RepositoryCallEvent.class);
+        started.start();
+        recording = started;
+        recordingSettings = name;
+        return new WebEndpointResponse<>(status(), HttpStatus.OK.value());
+    }
+
+    /**
+     * Stops the running recording. Its data stays available for download until the next recording starts.
+     *
+     * @return the state of the stopped recording, or 404 Not Found if no recording is running
+     */
+    @DeleteOperation
+    public synchronized WebEndpointResponse<FlightRecordingStatusDto> stop() {
+        if (recording == null || recording.getState() != RecordingState.RUNNING) {
+            return new WebEndpointResponse<>(HttpStatus.NOT_FOUND.value());
+        }
+        recording.stop();
+        return new WebEndpointResponse<>(status(), HttpStatus.OK.value());
+    }
+
+    /**
+     * Downloads the data recorded so far. A running recording keeps running. Every download is dumped to a file of its
+     * own, which is deleted when the response was written, so concurrent downloads don't overwrite each other.
+     *
+     * @param action the action, only {@code dump} is supported
+     * @return the recording as a .jfr file, or 404 Not Found if there is no recording
+     * @throws IOException if the recording cannot be written
+     */
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> dump(@Selector String action) throws IOException {
+        Path directory = Files.createDirectories(Path.of(flightRecordingProperties.getDumpDirectory()).toAbsolutePath());
+        Path file = Files.createTempFile(directory, "coolschrank-", ".jfr");
+        try {
+            synchronized (this) {
+                if (!"dump".equals(action) || recording == null || recording.getState() == RecordingState.NEW) {
+                    Files.delete(file);
+                    return new WebEndpointResponse<>(HttpStatus.NOT_FOUND.value());
+                }
+                recording.dump(file);
+            }
+            return new WebEndpointResponse<>(new InputStreamResource(Files.newInputStream(file, StandardOpenOption.DELETE_ON_CLOSE)),
+                    HttpStatus.OK.value());
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    synchronized void close() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+            recordingSettings = null;
+        }
+    }
+}
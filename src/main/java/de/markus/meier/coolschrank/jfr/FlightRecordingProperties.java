@@ -0,0 +1,39 @@
+package de.markus.meier.coolschrank.jfr;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * The FlightRecordingProperties class holds the settings of the flight recording started through the {@code jfr}
+ * Actuator endpoint. All values are bound from the {@code jfr.recording} prefix.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "jfr.recording")
+public class FlightRecordingProperties {
+
+    /**
+     * The JFR settings a recording runs with unless others are requested, default or profile.
+     */
+    private String settings = "profile";
+
+    /**
+     * How long recorded data is kept, older data is discarded while the recording runs.
+     */
+    private Duration maxAge = Duration.ofMinutes(30);
+
+    /**
+     * How much recorded data is kept, older data is discarded while the recording runs.
+     */
+    private DataSize maxSize = DataSize.ofMegabytes(100);
+
+    /**
+     * The directory each dump of the recording is written to before it is downloaded. Every dump gets a file of its
+     * own, which is deleted once it was downloaded.
+     */
+    private String dumpDirectory = System.getProperty("java.io.tmpdir");
+}
@@ -0,0 +1,40 @@
+package de.markus.meier.coolschrank.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.Setter;
+
+/**
+ * The FridgeCallEvent is the flight recorder event of a call to the remote fridge API. Its duration runs from sending
+ * the request until the response body has been read.
+ */
+@Name("coolschrank.FridgeCall")
+@Label("Fridge API Call")
+@Category({"Coolschrank", "Fridge API"})
+@Description("Outbound call to the remote fridge API")
+@Setter
+public class FridgeCallEvent extends Event {
+
+    @Label("Operation")
+    @Description("create_fridge, get_fridge, add_item, update_item or other")
+    private String operation;
+
+    @Label("URI")
+    @Description("The path of the call with the IDs replaced by placeholders")
+    private String uri;
+
+    @Label("Status")
+    @Description("The HTTP status of the response, 0 if no response was received")
+    private int status;
+
+    @Label("Response Bytes")
+    @DataAmount
+    private long responseBytes;
+
+    @Label("Failed")
+    private boolean failed;
+}
@@ -0,0 +1,70 @@
+package de.markus.meier.coolschrank.jfr;
+
+import de.markus.meier.coolschrank.config.FridgeApiObservationConvention;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The FridgeCallEventFilter class emits a {@link FridgeCallEvent} for every call of the fridge web client while a
+ * flight recording with the event enabled is running. The response body is counted as it is read, and the event is
+ * committed once it has been read completely or the call failed. Without a recording the calls pass through unchanged.
+ */
+public class FridgeCallEventFilter implements ExchangeFilterFunction {
+
+    private final FridgeApiObservationConvention fridgeApiObservationConvention;
+
+    /**
+     * Constructs a new FridgeCallEventFilter.
+     *
+     * @param fridgeApiObservationConvention the convention naming the operation and URI of a call
+     */
+    public FridgeCallEventFilter(FridgeApiObservationConvention fridgeApiObservationConvention) {
+        this.fridgeApiObservationConvention = fridgeApiObservationConvention;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.defer(() -> {
+            FridgeCallEvent event = new FridgeCallEvent();
+            if (!event.isEnabled()) {
+                return next.exchange(request);
+            }
+            String url = request.url().toString();
+            event.setOperation(fridgeApiObservationConvention.operation(request.method(), url));
+            event.setUri(fridgeApiObservationConvention.template(url));
+            AtomicLong responseBytes = new AtomicLong();
+            AtomicBoolean committed = new AtomicBoolean();
+            event.begin();
+            return next.exchange(request)
+                    .map(response -> {
+                        event.setStatus(response.statusCode().value());
+                        return response.mutate()
+                                .body(body -> body.doOnNext(buffer -> responseBytes.addAndGet(buffer.readableByteCount()))
+                                        .doOnError(e -> event.setFailed(true))
+                                        .doFinally(signal -> commit(event, responseBytes, committed)))
+                                .build();
+                    })
+                    .doOnError(e -> {
+                        event.setFailed(true);
+                        commit(event, responseBytes, committed);
+                    })
+                    .doOnCancel(() -> commit(event, responseBytes, committed));
+        });
+    }
+
+    private static void commit(FridgeCallEvent event, AtomicLong responseBytes, AtomicBoolean committed) {
+        if (committed.compareAndSet(false, true)) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.setResponseBytes(responseBytes.get());
+                event.commit();
+            }
+        }
+    }
+}
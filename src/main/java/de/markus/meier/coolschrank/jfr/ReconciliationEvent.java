@@ -0,0 +1,48 @@
+package de.markus.meier.coolschrank.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.Setter;
+
+/**
+ * The ReconciliationEvent is the flight recorder event of reconciling a shopping list with the inventory of its fridge.
+ * Its duration covers the fingerprint check and the reconciliation, the save that follows is recorded as a
+ * {@link RepositoryCallEvent}.
+ */
+@Name("coolschrank.Reconciliation")
+@Label("Shopping List Reconciliation")
+@Category({"Coolschrank", "Shopping List"})
+@Description("Reconciliation of a shopping list with the inventory of its fridge")
+@Setter
+public class ReconciliationEvent extends Event {
+
+    @Label("Shopping List ID")
+    private long shoppingListId;
+
+    @Label("Fridge ID")
+    private String fridgeId;
+
+    @Label("Fridge Items")
+    @Description("Number of positions in the fridge inventory")
+    private int fridgeItems;
+
+    @Label("Shopping List Items")
+    @Description("Number of items on the shopping list before the reconciliation")
+    private int shoppingListItems;
+
+    @Label("Added Items")
+    private int addedItems;
+
+    @Label("Changed Items")
+    private int changedItems;
+
+    @Label("Removed Items")
+    private int removedItems;
+
+    @Label("Unchanged Fridge")
+    @Description("Whether the fridge was unchanged since the last reconciliation and the list was served as is")
+    private boolean unchangedFridge;
+}
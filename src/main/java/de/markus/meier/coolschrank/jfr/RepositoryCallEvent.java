@@ -0,0 +1,29 @@
+package de.markus.meier.coolschrank.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.Setter;
+
+/**
+ * The RepositoryCallEvent is the flight recorder event of a repository write, such as saving a shopping list or
+ * deleting one of its items. Its duration includes the transaction and flush of a write outside an open transaction.
+ */
+@Name("coolschrank.RepositoryCall")
+@Label("Repository Call")
+@Category({"Coolschrank", "Persistence"})
+@Description("Write through a Spring Data repository")
+@Setter
+public class RepositoryCallEvent extends Event {
+
+    @Label("Repository")
+    private String repository;
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Failed")
+    private boolean failed;
+}
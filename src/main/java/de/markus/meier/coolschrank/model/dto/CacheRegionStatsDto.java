@@ -0,0 +1,37 @@
+package de.markus.meier.coolschrank.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * The CacheRegionStatsDto represents a Data Transfer Object (DTO) for the statistics of a region of the second-level cache.
+ * It contains the name of the region, the hit, miss and put counters and the number of entries currently held.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheRegionStatsDto {
+    /**
+     * The name of the region.
+     */
+    private String regionName;
+    /**
+     * The number of lookups that found an entry.
+     */
+    private long hitCount;
+    /**
+     * The number of lookups that found no entry.
+     */
+    private long missCount;
+    /**
+     * The number of entries put into the region.
+     */
+    private long putCount;
+    /**
+     * The number of entries currently held.
+     */
+    private long size;
+}
@@ -0,0 +1,41 @@
+package de.markus.meier.coolschrank.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * The ConnectionPoolStatsDto represents a Data Transfer Object (DTO) for the statistics of the outbound connection pool.
+ * It contains the connection counts summed over all remote addresses and the latency of acquiring a connection.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConnectionPoolStatsDto {
+    /**
+     * The maximum number of open connections per remote address.
+     */
+    private int maxConnections;
+    /**
+     * The number of open connections, in use or idle.
+     */
+    private int allocatedConnections;
+    /**
+     * The number of connections in use by a call.
+     */
+    private int activeConnections;
+    /**
+     * The number of open connections waiting for a call.
+     */
+    private int idleConnections;
+    /**
+     * The number of calls waiting for a connection.
+     */
+    private int pendingAcquires;
+    /**
+     * The latency of acquiring a connection, including opening a new one.
+     */
+    private LatencyHistogramDto acquireLatency;
+}
@@ -0,0 +1,35 @@
+package de.markus.meier.coolschrank.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * The FlightRecordingStatusDto represents a Data Transfer Object (DTO) for the state of the on-demand flight recording.
+ * It contains the state, the settings, the start and the size of the recording.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FlightRecordingStatusDto {
+    /**
+     * The state of the recording: NONE, NEW, DELAYED, RUNNING, STOPPED or CLOSED.
+     */
+    private String state;
+    /**
+     * The name of the JFR settings the recording runs with, such as default or profile.
+     */
+    private String settings;
+    /**
+     * The time the recording started, null if it has not started.
+     */
+    private Instant startTime;
+    /**
+     * The size of the recorded data in bytes.
+     */
+    private long size;
+}
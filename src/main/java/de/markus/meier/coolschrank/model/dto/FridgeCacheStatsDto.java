@@ -0,0 +1,41 @@
+package de.markus.meier.coolschrank.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * The FridgeCacheStatsDto represents a Data Transfer Object (DTO) for the statistics of the fridge snapshot cache.
+ * It contains the hit, miss and eviction counters as well as the revalidation counters and the current size.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FridgeCacheStatsDto {
+    /**
+     * The number of reads served from a fresh snapshot.
+     */
+    private long hitCount;
+    /**
+     * The number of reads that found no snapshot or a stale one and went to the remote API.
+     */
+    private long missCount;
+    /**
+     * The number of snapshots evicted because of size or age.
+     */
+    private long evictionCount;
+    /**
+     * The number of conditional requests sent to revalidate a stale snapshot.
+     */
+    private long revalidationCount;
+    /**
+     * The number of revalidations answered with 304 Not Modified.
+     */
+    private long notModifiedCount;
+    /**
+     * The number of snapshots currently held.
+     */
+    private long size;
+}
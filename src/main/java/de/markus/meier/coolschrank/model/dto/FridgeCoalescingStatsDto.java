@@ -0,0 +1,29 @@
+package de.markus.meier.coolschrank.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * The FridgeCoalescingStatsDto represents a Data Transfer Object (DTO) for the statistics of the coalesced fridge reads.
+ * It contains the number of outbound calls, the number of reads that joined a call in flight and the calls in flight.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FridgeCoalescingStatsDto {
+    /**
+     * The number of outbound calls sent to the remote fridge API.
+     */
+    private long remoteCallCount;
+    /**
+     * The number of reads that shared a call already in flight instead of sending their own.
+     */
+    private long collapsedCallCount;
+    /**
+     * The number of calls currently in flight.
+     */
+    private long inFlightCount;
+}
@@ -1,5 +1,6 @@
 package de.markus.meier.coolschrank.model.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -11,6 +12,7 @@ import java.util.List;
  * The FridgeDto represents a Data Transfer Object (DTO) for a fridge.
  * It contains the ID of the fridge and a list of FridgeInventoryDto objects
  * that contain the inventory details of the fridge.
+ * A fridge served from the last known snapshot while the remote API is unavailable is flagged as stale.
  */
 @AllArgsConstructor
 @NoArgsConstructor
@@ -25,5 +27,21 @@ public class FridgeDto {
      * The list of FridgeInventoryDto objects that contain the inventory details of the fridge.
      */
     List<FridgeInventoryDto> inventory;
+    /**
+     * Whether the fridge is the last known snapshot served while the remote API is unavailable.
+     * The flag is only written to JSON when it is set.
+     */
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    boolean stale;
+
+    /**
+     * Constructs a new, current FridgeDto with the specified ID and inventory.
+     *
+     * @param id The ID of the fridge.
+     * @param inventory The inventory details of the fridge.
+     */
+    public FridgeDto(String id, List<FridgeInventoryDto> inventory) {
+        this(id, inventory, false);
+    }
 
 }
@@ -0,0 +1,42 @@
+package de.markus.meier.coolschrank.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * The FridgeLatencyStatsDto represents a Data Transfer Object (DTO) for the latency of remote fridge reads.
+ * It contains the histogram of single requests to the remote API, the histogram of reads as seen by the caller after
+ * hedging, and the hedging counters. Comparing both histograms shows how much hedging shortens the tail.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FridgeLatencyStatsDto {
+    /**
+     * Whether fridge reads are hedged.
+     */
+    private boolean hedgingEnabled;
+    /**
+     * The current hedge delay in milliseconds, or -1 while too few reads were observed.
+     */
+    private double hedgeDelayMillis;
+    /**
+     * The number of reads for which a second request was sent.
+     */
+    private long hedgedCallCount;
+    /**
+     * The number of reads answered by the second request.
+     */
+    private long hedgeWonCount;
+    /**
+     * The latency of single requests to the remote API.
+     */
+    private LatencyHistogramDto attemptLatency;
+    /**
+     * The latency of reads including hedging.
+     */
+    private LatencyHistogramDto readLatency;
+}
@@ -0,0 +1,51 @@
+package de.markus.meier.coolschrank.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * The FridgeResilienceStatsDto represents a Data Transfer Object (DTO) for the statistics of the guards around the
+ * remote fridge API. It contains the state and counters of the circuit breaker, the free capacity and rejections of
+ * the bulkhead, the number of calls cut off by the request deadline and the number of reads answered with a stale
+ * snapshot.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FridgeResilienceStatsDto {
+    /**
+     * The state of the circuit breaker, such as CLOSED, OPEN or HALF_OPEN.
+     */
+    private String circuitBreakerState;
+    /**
+     * The failure rate in percent of the recent calls, or -1 if too few calls were made.
+     */
+    private float failureRate;
+    /**
+     * The number of recent calls that failed.
+     */
+    private int failedCallCount;
+    /**
+     * The number of calls rejected by the open circuit breaker.
+     */
+    private long notPermittedCallCount;
+    /**
+     * The number of calls the bulkhead still admits.
+     */
+    private int availableConcurrentCalls;
+    /**
+     * The number of calls rejected by the full bulkhead.
+     */
+    private long bulkheadRejectedCount;
+    /**
+     * The number of calls cut off because the deadline of their request passed.
+     */
+    private long deadlineExceededCount;
+    /**
+     * The number of reads answered with the last known snapshot.
+     */
+    private long staleFallbackCount;
+}
@@ -0,0 +1,72 @@
+package de.markus.meier.coolschrank.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The LatencyHistogramDto represents a Data Transfer Object (DTO) for a summary of a latency histogram.
+ * It contains the number of recorded values and the latency at the usual percentiles in milliseconds.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LatencyHistogramDto {
+    /**
+     * The number of recorded latencies.
+     */
+    private long count;
+    /**
+     * The median latency in milliseconds.
+     */
+    private double p50Millis;
+    /**
+     * The 95th percentile latency in milliseconds.
+     */
+    private double p95Millis;
+    /**
+     * The 99th percentile latency in milliseconds.
+     */
+    private double p99Millis;
+    /**
+     * The 99.9th percentile latency in milliseconds.
+     */
+    private double p999Millis;
+    /**
+     * The highest latency in milliseconds.
+     */
+    private double maxMillis;
+
+    /**
+     * Summarizes a histogram of latencies recorded in nanoseconds.
+     *
+     * @param histogram the histogram, which may still be recorded to
+     * @return the summary of a copy of the histogram
+     */
+    public static LatencyHistogramDto from(Histogram histogram) {
+        Histogram copy = histogram.copy();
+        return new LatencyHistogramDto(
+                copy.getTotalCount(),
+                toMillis(copy.getValueAtPercentile(50)),
+                toMillis(copy.getValueAtPercentile(95)),
+                toMillis(copy.getValueAtPercentile(99)),
+                toMillis(copy.getValueAtPercentile(99.9)),
+                toMillis(copy.getMaxValue())
+        );
+    }
+
+    /**
+     * Converts nanoseconds to fractional milliseconds.
+     *
+     * @param nanos the duration in nanoseconds
+     * @return the duration in milliseconds
+     */
+    public static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
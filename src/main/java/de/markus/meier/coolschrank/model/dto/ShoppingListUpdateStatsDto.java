@@ -0,0 +1,33 @@
+package de.markus.meier.coolschrank.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * The ShoppingListUpdateStatsDto represents a Data Transfer Object (DTO) for the statistics of the automatic shopping list updates.
+ * It contains the number of written and skipped updates and the number of shopping lists whose last reconciliation is remembered.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ShoppingListUpdateStatsDto {
+    /**
+     * The number of updates that wrote the shopping list.
+     */
+    private long writeCount;
+    /**
+     * The number of updates that skipped the write because nothing changed.
+     */
+    private long skippedWriteCount;
+    /**
+     * The number of skipped updates answered from the remembered reconciliation because the fridge was unchanged.
+     */
+    private long unchangedFridgeCount;
+    /**
+     * The number of shopping lists whose last reconciliation is currently remembered.
+     */
+    private long size;
+}
@@ -0,0 +1,22 @@
+package de.markus.meier.coolschrank.model.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The EncodedShoppingList class represents a shopping list serialized to its JSON response body.
+ * It contains the encoded bytes and a strong entity tag derived from them.
+ * The bytes are shared between responses and must be treated as read-only.
+ */
+@AllArgsConstructor
+@Getter
+public class EncodedShoppingList {
+    /**
+     * The JSON representation of the shopping list.
+     */
+    private final byte[] body;
+    /**
+     * The quoted entity tag of the body.
+     */
+    private final String etag;
+}
@@ -0,0 +1,27 @@
+package de.markus.meier.coolschrank.model.model;
+
+import de.markus.meier.coolschrank.model.dto.FridgeDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The FridgeSnapshot class represents a cached copy of a fridge as returned by the remote fridge API.
+ * It contains the fridge itself, the entity tag sent by the remote API and the time the snapshot was validated.
+ * A snapshot is shared between callers and must be treated as read-only.
+ */
+@AllArgsConstructor
+@Getter
+public class FridgeSnapshot {
+    /**
+     * The fridge returned by the remote API.
+     */
+    private final FridgeDto fridge;
+    /**
+     * The entity tag of the response, or null if the remote API did not send one.
+     */
+    private final String eTag;
+    /**
+     * The ticker time in nanoseconds at which the snapshot was last fetched or revalidated.
+     */
+    private final long validatedAt;
+}
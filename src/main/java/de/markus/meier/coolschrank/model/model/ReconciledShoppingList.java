@@ -0,0 +1,23 @@
+package de.markus.meier.coolschrank.model.model;
+
+import de.markus.meier.coolschrank.model.dto.ShoppingListDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The ReconciledShoppingList class represents the outcome of the last reconciliation of a shopping list.
+ * It contains the fingerprint of the fridge inventory the shopping list was reconciled with and the resulting shopping list.
+ * The shopping list is shared between callers and must be treated as read-only.
+ */
+@AllArgsConstructor
+@Getter
+public class ReconciledShoppingList {
+    /**
+     * The fingerprint of the fridge inventory.
+     */
+    private final long fingerprint;
+    /**
+     * The shopping list after the reconciliation.
+     */
+    private final ShoppingListDto shoppingList;
+}
@@ -1,27 +1,33 @@
 package de.markus.meier.coolschrank.model.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * The ShoppingInventoryEntity class represents a shopping list item in the database.
  * It contains an automatically generated ID, the ID of the fridge inventory, the name of the fridge position,
  * and the amount of the order.
+ * Items are kept in the "shopping-inventory" region of the second-level cache if it is enabled.
  */
 @Getter
 @Setter
-@AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "shopping-inventory")
+@Table(indexes = @Index(name = "ix_shopping_inventory_shopping_list_id", columnList = "shopping_inventory_entity_list_id"))
 public class ShoppingInventoryEntity {
     /**
      * The ID of the shopping list item.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "shopping_inventory_seq")
+    @SequenceGenerator(name = "shopping_inventory_seq", sequenceName = "shopping_inventory_seq", allocationSize = 50)
     private Long id;
     /**
      * The ID of the fridge inventory.
@@ -38,6 +44,28 @@ public class ShoppingInventoryEntity {
      */
     @Column(nullable = false)
     private float amount;
+    /**
+     * The shopping list the item belongs to. The column keeps the name of the former join column.
+     */
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "shopping_inventory_entity_list_id", nullable = false)
+    private ShoppingListEntity shoppingList;
+
+    /**
+     * Constructs a new ShoppingInventoryEntity with the given parameters.
+     *
+     * @param id                The ID of the shopping list item.
+     * @param fridgeInventoryId The ID of the fridge inventory.
+     * @param name              The name of the fridge position.
+     * @param amount            The amount of the order value.
+     */
+    public ShoppingInventoryEntity(Long id, Long fridgeInventoryId, String name, float amount) {
+        this.id = id;
+        this.fridgeInventoryId = fridgeInventoryId;
+        this.name = name;
+        this.amount = amount;
+    }
 
     /**
      * Constructs a new ShoppingInventoryEntity with the given parameters.
@@ -1,10 +1,11 @@
 package de.markus.meier.coolschrank.model.model;
 
 import jakarta.persistence.*;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.List;
 
@@ -12,25 +13,66 @@ import java.util.List;
  * The ShoppingListEntity class represents a shopping list in the database.
  * It contains an automatically generated ID, the ID of the fridge, and a list of shopping inventory items
  * that represent the fridge positions and their order values.
+ * Shopping lists and the IDs of their items are kept in the "shopping-list" and "shopping-list-items" regions
+ * of the second-level cache if it is enabled.
  */
 @Getter
 @Setter
-@AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "shopping-list")
+@Table(indexes = @Index(name = "ux_shopping_list_fridge_id", columnList = "fridgeId", unique = true))
 public class ShoppingListEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "shopping_list_seq")
+    @SequenceGenerator(name = "shopping_list_seq", sequenceName = "shopping_list_seq", allocationSize = 50)
     private Long id;
     /**
-     * The ID of the fridge.
+     * The ID of the fridge. Every fridge has at most one shopping list.
      */
     @Column(nullable = false)
     private String fridgeId;
     /**
      * The list of shopping inventory items representing the fridge positions and their order values.
+     * Items removed from the list are deleted.
      */
-    @OneToMany(cascade = {CascadeType.ALL})
-    @JoinColumn
+    @OneToMany(mappedBy = "shoppingList", cascade = {CascadeType.ALL}, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "shopping-list-items")
     private List<ShoppingInventoryEntity> shoppingInventoryEntityList;
+
+    /**
+     * Constructs a new ShoppingListEntity with the given parameters.
+     *
+     * @param id                          The ID of the shopping list, or null for a new shopping list.
+     * @param fridgeId                    The ID of the fridge.
+     * @param shoppingInventoryEntityList The shopping inventory items, which are linked to this shopping list.
+     */
+    public ShoppingListEntity(Long id, String fridgeId, List<ShoppingInventoryEntity> shoppingInventoryEntityList) {
+        this.id = id;
+        this.fridgeId = fridgeId;
+        setShoppingInventoryEntityList(shoppingInventoryEntityList);
+    }
+
+    /**
+     * Sets the shopping inventory items and links each of them to this shopping list.
+     *
+     * @param shoppingInventoryEntityList The shopping inventory items.
+     */
+    public void setShoppingInventoryEntityList(List<ShoppingInventoryEntity> shoppingInventoryEntityList) {
+        this.shoppingInventoryEntityList = shoppingInventoryEntityList;
+        if (shoppingInventoryEntityList != null) {
+            shoppingInventoryEntityList.forEach(shoppingInventoryEntity -> shoppingInventoryEntity.setShoppingList(this));
+        }
+    }
+
+    /**
+     * Adds a shopping inventory item and links it to this shopping list.
+     *
+     * @param shoppingInventoryEntity The shopping inventory item to add.
+     */
+    public void addShoppingInventory(ShoppingInventoryEntity shoppingInventoryEntity) {
+        shoppingInventoryEntity.setShoppingList(this);
+        shoppingInventoryEntityList.add(shoppingInventoryEntity);
+    }
 }
@@ -0,0 +1,55 @@
+package de.markus.meier.coolschrank.repository;
+
+import de.markus.meier.coolschrank.model.model.ShoppingInventoryEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+/**
+ * The ShoppingInventoryRepository interface is responsible for accessing single ShoppingInventoryEntity items in the database.
+ * Its mutations address an item by its shopping list and its own ID, so they cost two statements regardless of the list size:
+ * one SELECT of the item and the UPDATE or DELETE Hibernate flushes for it.
+ */
+public interface ShoppingInventoryRepository extends JpaRepository<ShoppingInventoryEntity, Long> {
+
+    /**
+     * Finds an item of a shopping list without loading the shopping list.
+     *
+     * @param listId The ID of the shopping list.
+     * @param itemId The ID of the shopping list item.
+     * @return The item, or an empty Optional if the shopping list has no such item.
+     */
+    @Query("select i from ShoppingInventoryEntity i where i.id = :itemId and i.shoppingList.id = :listId")
+    Optional<ShoppingInventoryEntity> findInShoppingList(@Param("listId") Long listId, @Param("itemId") Long itemId);
+
+    /**
+     * Sets the amount of a shopping list item. The UPDATE is flushed when the transaction commits.
+     *
+     * @param listId The ID of the shopping list.
+     * @param itemId The ID of the shopping list item.
+     * @param amount The new amount of the order.
+     * @return The updated item, or an empty Optional if the shopping list has no such item.
+     */
+    @Transactional
+    default Optional<ShoppingInventoryEntity> updateAmount(Long listId, Long itemId, float amount) {
+        Optional<ShoppingInventoryEntity> shoppingInventoryEntity = findInShoppingList(listId, itemId);
+        shoppingInventoryEntity.ifPresent(item -> item.setAmount(amount));
+        return shoppingInventoryEntity;
+    }
+
+    /**
+     * Deletes a shopping list item. The DELETE is flushed when the transaction commits.
+     *
+     * @param listId The ID of the shopping list.
+     * @param itemId The ID of the shopping list item.
+     * @return The deleted item, or an empty Optional if the shopping list has no such item.
+     */
+    @Transactional
+    default Optional<ShoppingInventoryEntity> deleteFromShoppingList(Long listId, Long itemId) {
+        Optional<ShoppingInventoryEntity> shoppingInventoryEntity = findInShoppingList(listId, itemId);
+        shoppingInventoryEntity.ifPresent(this::delete);
+        return shoppingInventoryEntity;
+    }
+}
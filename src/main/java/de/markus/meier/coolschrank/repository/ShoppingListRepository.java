@@ -1,9 +1,79 @@
 package de.markus.meier.coolschrank.repository;
 
+import de.markus.meier.coolschrank.model.dto.ShoppingInventoryDto;
+import de.markus.meier.coolschrank.model.dto.ShoppingListDto;
 import de.markus.meier.coolschrank.model.model.ShoppingListEntity;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
 /**
  * The ShoppingListRepository interface is responsible for accessing ShoppingListEntity in the database.
  */
 public interface ShoppingListRepository extends JpaRepository<ShoppingListEntity, Long> {
+
+    /**
+     * The second-level cache region holding the results of the shopping list projection.
+     */
+    String PROJECTION_CACHE_REGION = "shopping-list-projection";
+
+    /**
+     * Checks if a shopping list exists for the given fridge, using the unique index on the fridge ID.
+     *
+     * @param fridgeId The ID of the fridge.
+     * @return true if a shopping list exists for the fridge, false otherwise.
+     */
+    boolean existsByFridgeId(String fridgeId);
+
+    /**
+     * Retrieves a shopping list together with its items in a single query, joining the item collection
+     * instead of loading it lazily when it is first accessed.
+     *
+     * @param id The ID of the shopping list.
+     * @return The shopping list with its items, or an empty Optional if it doesn't exist.
+     */
+    @EntityGraph(attributePaths = "shoppingInventoryEntityList")
+    Optional<ShoppingListEntity> findWithItemsById(Long id);
+
+    /**
+     * Retrieves a shopping list as a DTO without loading any entity. Both queries run in one read-only transaction,
+     * so no entity is put into the persistence context, snapshotted or dirty checked. If the second-level cache is
+     * enabled, their results are cached in the {@link #PROJECTION_CACHE_REGION} region.
+     *
+     * @param id The ID of the shopping list.
+     * @return The shopping list DTO with its items ordered by ID, or an empty Optional if it doesn't exist.
+     */
+    @Transactional(readOnly = true)
+    default Optional<ShoppingListDto> findDtoById(Long id) {
+        return findFridgeIdById(id).map(fridgeId -> new ShoppingListDto(id, fridgeId, findShoppingInventoryDtosById(id)));
+    }
+
+    /**
+     * Retrieves the fridge ID of a shopping list.
+     *
+     * @param id The ID of the shopping list.
+     * @return The fridge ID, or an empty Optional if the shopping list doesn't exist.
+     */
+    @QueryHints({@QueryHint(name = "org.hibernate.cacheable", value = "true"),
+            @QueryHint(name = "org.hibernate.cacheRegion", value = PROJECTION_CACHE_REGION)})
+    @Query("select l.fridgeId from ShoppingListEntity l where l.id = :id")
+    Optional<String> findFridgeIdById(@Param("id") Long id);
+
+    /**
+     * Retrieves the items of a shopping list projected straight into DTOs.
+     *
+     * @param id The ID of the shopping list.
+     * @return The items of the shopping list ordered by ID.
+     */
+    @QueryHints({@QueryHint(name = "org.hibernate.cacheable", value = "true"),
+            @QueryHint(name = "org.hibernate.cacheRegion", value = PROJECTION_CACHE_REGION)})
+    @Query("select new de.markus.meier.coolschrank.model.dto.ShoppingInventoryDto(i.id, i.fridgeInventoryId, i.name, i.amount) "
+            + "from ShoppingInventoryEntity i where i.shoppingList.id = :id order by i.id")
+    List<ShoppingInventoryDto> findShoppingInventoryDtosById(@Param("id") Long id);
 }
@@ -0,0 +1,34 @@
+package de.markus.meier.coolschrank.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * The AfterCommit class defers the invalidation of cached data until the change it reflects is committed.
+ * Invalidating within the transaction leaves a window in which a concurrent read reloads the state before the change
+ * and caches it again, where it stays after the commit.
+ */
+final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    /**
+     * Runs an action once the transaction of the calling thread has committed, or immediately if there is no transaction.
+     * If the transaction rolls back the action is dropped, as nothing changed.
+     *
+     * @param action The action to run.
+     */
+    static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,154 @@
+package de.markus.meier.coolschrank.service;
+
+import de.markus.meier.coolschrank.config.FridgeApiProperties;
+import de.markus.meier.coolschrank.model.dto.FridgeResilienceStatsDto;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The FridgeApiResilience class guards every outbound call to the remote fridge API with a timeout, a bulkhead and a
+ * circuit breaker. The bulkhead bounds the number of calls in flight and rejects further calls immediately instead of
+ * letting them queue up on request threads. The circuit breaker opens once too many calls fail and rejects calls
+ * without contacting the remote API until the configured wait has passed.
+ */
+@Component
+public class FridgeApiResilience {
+
+    private final CircuitBreaker circuitBreaker;
+
+    private final Bulkhead bulkhead;
+
+    private final Duration timeout;
+
+    private final LongAdder bulkheadRejectedCount = new LongAdder();
+
+    private final LongAdder deadlineExceededCount = new LongAdder();
+
+    private final LongAdder staleFallbackCount = new LongAdder();
+
+    /**
+     * Constructs a new FridgeApiResilience with the specified properties.
+     *
+     * @param fridgeApiProperties The properties of the remote fridge API.
+     */
+    @Autowired
+    public FridgeApiResilience(FridgeApiProperties fridgeApiProperties) {
+        FridgeApiProperties.Resilience settings = fridgeApiProperties.getResilience();
+        this.timeout = settings.getTimeout();
+        this.circuitBreaker = CircuitBreaker.of("fridge-api", CircuitBreakerConfig.custom()
+                .failureRateThreshold(settings.getFailureRateThreshold())
+                .slidingWindowSize(settings.getSlidingWindowSize())
+                .minimumNumberOfCalls(settings.getMinimumNumberOfCalls())
+                .waitDurationInOpenState(settings.getWaitDurationInOpenState())
+                .permittedNumberOfCallsInHalfOpenState(settings.getPermittedNumberOfCallsInHalfOpenState())
+                .recordException(FridgeApiResilience::isFailure)
+                .build());
+        this.bulkhead = Bulkhead.of("fridge-api", BulkheadConfig.custom()
+                .maxConcurrentCalls(settings.getMaxConcurrentCalls())
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        this.bulkhead.getEventPublisher().onCallRejected(event -> bulkheadRejectedCount.increment());
+    }
+
+    /**
+     * Guards an outbound call with the timeout, the bulkhead and the circuit breaker.
+     * A rejected call fails with a {@link CallNotPermittedException} or a {@link BulkheadFullException}.
+     *
+     * @param call The outbound call.
+     * @param <T>  The type of the result.
+     * @return A Mono emitting the result of the guarded call.
+     */
+    public <T> Mono<T> protect(Mono<T> call) {
+        return call.timeout(timeout)
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker));
+    }
+
+    /**
+     * Checks if an error means that the remote API is currently unavailable, either because the call was rejected
+     * or because it failed in a way the circuit breaker records.
+     *
+     * @param throwable The error of an outbound call.
+     * @return true if the remote API is unavailable, false otherwise.
+     */
+    public static boolean isUnavailable(Throwable throwable) {
+        return isRejected(throwable) || isFailure(throwable);
+    }
+
+    /**
+     * Checks if an error means that a call was rejected by the open circuit breaker or the full bulkhead
+     * without contacting the remote API.
+     *
+     * @param throwable The error of an outbound call.
+     * @return true if the call was rejected, false otherwise.
+     */
+    public static boolean isRejected(Throwable throwable) {
+        return throwable instanceof CallNotPermittedException || throwable instanceof BulkheadFullException;
+    }
+
+    /**
+     * Checks if an error counts as a failure of the remote API. Client errors such as 404 Not Found are answers of a
+     * healthy API and are not recorded.
+     */
+    private static boolean isFailure(Throwable throwable) {
+        return throwable instanceof TimeoutException
+                || throwable instanceof WebClientRequestException
+                || throwable instanceof WebClientResponseException response
+                && response.getStatusCode() != null && response.getStatusCode().is5xxServerError();
+    }
+
+    /**
+     * Records that a call was cut off because the deadline of its request passed.
+     */
+    public void recordDeadlineExceeded() {
+        deadlineExceededCount.increment();
+    }
+
+    /**
+     * Records that a read was answered with the last known snapshot because the remote API was unavailable.
+     */
+    public void recordStaleFallback() {
+        staleFallbackCount.increment();
+    }
+
+    /**
+     * Retrieves the statistics of the circuit breaker and the bulkhead.
+     *
+     * @return The statistics of the guards.
+     */
+    public FridgeResilienceStatsDto stats() {
+        CircuitBreaker.Metrics metrics = circuitBreaker.getMetrics();
+        return new FridgeResilienceStatsDto(
+                circuitBreaker.getState().name(),
+                metrics.getFailureRate(),
+                metrics.getNumberOfFailedCalls(),
+                metrics.getNumberOfNotPermittedCalls(),
+                bulkhead.getMetrics().getAvailableConcurrentCalls(),
+                bulkheadRejectedCount.sum(),
+                deadlineExceededCount.sum(),
+                staleFallbackCount.sum()
+        );
+    }
+
+    /**
+     * Returns the circuit breaker, so tests can force its state.
+     */
+    CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+}
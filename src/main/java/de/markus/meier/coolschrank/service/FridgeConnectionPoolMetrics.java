@@ -0,0 +1,83 @@
+package de.markus.meier.coolschrank.service;
+
+import de.markus.meier.coolschrank.config.FridgeApiProperties;
+import de.markus.meier.coolschrank.model.dto.ConnectionPoolStatsDto;
+import de.markus.meier.coolschrank.model.dto.LatencyHistogramDto;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
+import reactor.netty.resources.ConnectionPoolMetrics;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.SocketAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The FridgeConnectionPoolMetrics class collects the state of the outbound connection pool of the remote fridge API.
+ * The pool registers the metrics of every remote address it connects to, and the web client reports the time each
+ * call took to acquire a connection.
+ */
+@Component
+public class FridgeConnectionPoolMetrics implements ConnectionProvider.MeterRegistrar {
+
+    private final int maxConnections;
+
+    private final Map<String, ConnectionPoolMetrics> pools = new ConcurrentHashMap<>();
+
+    private final ConcurrentHistogram acquireLatency = new ConcurrentHistogram(3);
+
+    /**
+     * Constructs a new FridgeConnectionPoolMetrics with the specified properties.
+     *
+     * @param fridgeApiProperties The properties of the remote fridge API.
+     */
+    @Autowired
+    public FridgeConnectionPoolMetrics(FridgeApiProperties fridgeApiProperties) {
+        this.maxConnections = fridgeApiProperties.getPool().getMaxConnections();
+    }
+
+    @Override
+    public void registerMetrics(String poolName, String id, SocketAddress remoteAddress, ConnectionPoolMetrics metrics) {
+        pools.put(id, metrics);
+    }
+
+    @Override
+    public void deRegisterMetrics(String poolName, String id, SocketAddress remoteAddress) {
+        pools.remove(id);
+    }
+
+    /**
+     * Records the time it takes to acquire a connection for a call.
+     *
+     * @param connect The acquisition of a connection.
+     * @return The acquisition, recording its latency once it succeeds.
+     */
+    public Mono<? extends Connection> timeAcquire(Mono<? extends Connection> connect) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return connect.doOnSuccess(connection -> acquireLatency.recordValue(System.nanoTime() - start));
+        });
+    }
+
+    /**
+     * Retrieves the statistics of the connection pool.
+     *
+     * @return The statistics summed over all remote addresses.
+     */
+    public ConnectionPoolStatsDto stats() {
+        int allocated = 0;
+        int active = 0;
+        int idle = 0;
+        int pending = 0;
+        for (ConnectionPoolMetrics metrics : pools.values()) {
+            allocated += metrics.allocatedSize();
+            active += metrics.acquiredSize();
+            idle += metrics.idleSize();
+            pending += metrics.pendingAcquireSize();
+        }
+        return new ConnectionPoolStatsDto(maxConnections, allocated, active, idle, pending, LatencyHistogramDto.from(acquireLatency));
+    }
+}
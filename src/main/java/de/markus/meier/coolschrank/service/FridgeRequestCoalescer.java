@@ -0,0 +1,62 @@
+package de.markus.meier.coolschrank.service;
+
+import de.markus.meier.coolschrank.model.dto.FridgeCoalescingStatsDto;
+import de.markus.meier.coolschrank.model.dto.FridgeDto;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * The FridgeRequestCoalescer class deduplicates concurrent reads of the same fridge from the remote fridge API.
+ * The first caller for a fridge starts the outbound call, every caller arriving while it is in flight subscribes to
+ * the same call and receives the same decoded {@link FridgeDto}. The entry is removed once the call terminates, so
+ * later callers start a new call and never see a failed or outdated result.
+ */
+@Component
+public class FridgeRequestCoalescer {
+
+    private final Map<String, Mono<FridgeDto>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder remoteCallCount = new LongAdder();
+
+    private final LongAdder collapsedCallCount = new LongAdder();
+
+    /**
+     * Joins the call in flight for a fridge, or starts the given call if there is none.
+     *
+     * @param fridgeId   The ID of the fridge.
+     * @param remoteCall The supplier of the outbound call, invoked at most once per in-flight call.
+     * @return A Mono emitting the result of the shared call.
+     */
+    public Mono<FridgeDto> coalesce(String fridgeId, Supplier<Mono<FridgeDto>> remoteCall) {
+        return Mono.defer(() -> {
+            boolean[] started = new boolean[1];
+            Mono<FridgeDto> call = inFlight.computeIfAbsent(fridgeId, key -> {
+                started[0] = true;
+                // The entry stays mapped until this call terminates, so no other call can replace it before the removal.
+                return remoteCall.get()
+                        .doFinally(signal -> inFlight.remove(key))
+                        .cache();
+            });
+            if (started[0]) {
+                remoteCallCount.increment();
+            } else {
+                collapsedCallCount.increment();
+            }
+            return call;
+        });
+    }
+
+    /**
+     * Retrieves the statistics of the request coalescing.
+     *
+     * @return The statistics of the coalescing.
+     */
+    public FridgeCoalescingStatsDto stats() {
+        return new FridgeCoalescingStatsDto(remoteCallCount.sum(), collapsedCallCount.sum(), inFlight.size());
+    }
+}
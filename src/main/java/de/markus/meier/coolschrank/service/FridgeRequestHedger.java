@@ -0,0 +1,195 @@
+package de.markus.meier.coolschrank.service;
+
+import de.markus.meier.coolschrank.config.FridgeApiProperties;
+import de.markus.meier.coolschrank.model.dto.FridgeLatencyStatsDto;
+import de.markus.meier.coolschrank.model.dto.LatencyHistogramDto;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * The FridgeRequestHedger class sends hedged reads to the remote fridge API and records their latency.
+ * When hedging is enabled and a request has not answered after the configured percentile of the latencies observed in
+ * the last window, a second request is sent and whichever answers first is used; the other one is cancelled.
+ * A request failing because the remote API is unavailable, such as a reset connection or a rejection by the circuit
+ * breaker or bulkhead, does not cancel the other one; the read only fails once both requests have failed, with the
+ * error of the first request. Only idempotent reads may be hedged.
+ */
+@Component
+public class FridgeRequestHedger {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final boolean enabled;
+
+    private final double percentile;
+
+    private final long minDelayNanos;
+
+    private final long windowNanos;
+
+    private final long minimumSamples;
+
+    private final LongSupplier nanoTime;
+
+    private final Recorder windowRecorder = new Recorder(SIGNIFICANT_DIGITS);
+
+    private final ConcurrentHistogram attemptLatency = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+
+    private final ConcurrentHistogram readLatency = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+
+    private final LongAdder hedgedCallCount = new LongAdder();
+
+    private final LongAdder hedgeWonCount = new LongAdder();
+
+    private Histogram window;
+
+    private volatile long windowStart;
+
+    private volatile long hedgeDelayNanos = -1;
+
+    /**
+     * Constructs a new FridgeRequestHedger with the specified properties.
+     *
+     * @param fridgeApiProperties The properties of the remote fridge API.
+     */
+    @Autowired
+    public FridgeRequestHedger(FridgeApiProperties fridgeApiProperties) {
+        this(fridgeApiProperties, System::nanoTime);
+    }
+
+    /**
+     * Constructs a new FridgeRequestHedger with the specified properties and time source.
+     *
+     * @param fridgeApiProperties The properties of the remote fridge API.
+     * @param nanoTime            The time source used for the observation window.
+     */
+    FridgeRequestHedger(FridgeApiProperties fridgeApiProperties, LongSupplier nanoTime) {
+        FridgeApiProperties.Hedging settings = fridgeApiProperties.getHedging();
+        this.enabled = settings.isEnabled();
+        this.percentile = settings.getPercentile();
+        this.minDelayNanos = settings.getMinDelay().toNanos();
+        this.windowNanos = settings.getWindow().toNanos();
+        this.minimumSamples = settings.getMinimumSamples();
+        this.nanoTime = nanoTime;
+        this.windowStart = nanoTime.getAsLong();
+    }
+
+    /**
+     * Sends a read, hedged with a second request if it is slow.
+     *
+     * @param attempt The supplier of a single request, invoked once per request sent.
+     * @param <T>     The type of the result.
+     * @return A Mono emitting the result of the first request to answer.
+     */
+    public <T> Mono<T> hedge(Supplier<Mono<T>> attempt) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            Mono<T> primary = timed(attempt);
+            long delay = enabled ? currentHedgeDelayNanos() : -1;
+            Mono<T> read = delay < 0 ? primary : hedged(primary, attempt, delay);
+            return read.doOnSuccess(result -> readLatency.recordValue(System.nanoTime() - start));
+        });
+    }
+
+    /**
+     * Races the first request against a second one sent after the delay. Failures of either request that mean the
+     * remote API is unavailable are held back until the other request has answered or failed as well.
+     */
+    private <T> Mono<T> hedged(Mono<T> primary, Supplier<Mono<T>> attempt, long delay) {
+        return Mono.defer(() -> {
+            AtomicReference<Throwable> primaryError = new AtomicReference<>();
+            AtomicReference<Throwable> hedgeError = new AtomicReference<>();
+            Mono<T> hedge = Mono.delay(Duration.ofNanos(delay))
+                    .doOnNext(tick -> hedgedCallCount.increment())
+                    .then(timed(attempt))
+                    .doOnNext(result -> hedgeWonCount.increment());
+            return Flux.merge(holdBackUnavailable(primary, primaryError), holdBackUnavailable(hedge, hedgeError))
+                    .next()
+                    .switchIfEmpty(Mono.defer(() -> {
+                        Throwable error = primaryError.get() != null ? primaryError.get() : hedgeError.get();
+                        return error == null ? Mono.empty() : Mono.error(error);
+                    }));
+        });
+    }
+
+    private static <T> Mono<T> holdBackUnavailable(Mono<T> request, AtomicReference<Throwable> error) {
+        return request.onErrorResume(FridgeApiResilience::isUnavailable, e -> {
+            error.set(e);
+            return Mono.empty();
+        });
+    }
+
+    /**
+     * Sends a single request and records its latency once. A request cancelled because the other one won is recorded
+     * with the time it had taken so far, which keeps slow requests in the observed tail.
+     */
+    private <T> Mono<T> timed(Supplier<Mono<T>> attempt) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            AtomicBoolean recorded = new AtomicBoolean();
+            Runnable record = () -> {
+                if (recorded.compareAndSet(false, true)) {
+                    recordAttempt(System.nanoTime() - start);
+                }
+            };
+            return attempt.get()
+                    .doOnSuccess(result -> record.run())
+                    .doOnCancel(record);
+        });
+    }
+
+    private void recordAttempt(long nanos) {
+        attemptLatency.recordValue(nanos);
+        windowRecorder.recordValue(nanos);
+    }
+
+    /**
+     * Retrieves the hedge delay, recomputed from the latencies of the last window once the window has passed.
+     *
+     * @return The hedge delay in nanoseconds, or -1 if the last window had too few reads.
+     */
+    long currentHedgeDelayNanos() {
+        long now = nanoTime.getAsLong();
+        if (now - windowStart >= windowNanos) {
+            synchronized (this) {
+                if (now - windowStart >= windowNanos) {
+                    window = windowRecorder.getIntervalHistogram(window);
+                    hedgeDelayNanos = window.getTotalCount() < minimumSamples
+                            ? -1
+                            : Math.max(minDelayNanos, window.getValueAtPercentile(percentile));
+                    windowStart = now;
+                }
+            }
+        }
+        return hedgeDelayNanos;
+    }
+
+    /**
+     * Retrieves the latency histograms and hedging counters of the remote fridge reads.
+     *
+     * @return The latency statistics.
+     */
+    public FridgeLatencyStatsDto stats() {
+        long delay = hedgeDelayNanos;
+        return new FridgeLatencyStatsDto(
+                enabled,
+                delay < 0 ? -1 : LatencyHistogramDto.toMillis(delay),
+                hedgedCallCount.sum(),
+                hedgeWonCount.sum(),
+                LatencyHistogramDto.from(attemptLatency),
+                LatencyHistogramDto.from(readLatency)
+        );
+    }
+}
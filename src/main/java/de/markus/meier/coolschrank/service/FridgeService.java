@@ -1,42 +1,97 @@
 package de.markus.meier.coolschrank.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import de.markus.meier.coolschrank.config.Deadline;
+import de.markus.meier.coolschrank.config.FridgeApiProperties;
+import de.markus.meier.coolschrank.model.dto.ConnectionPoolStatsDto;
+import de.markus.meier.coolschrank.model.dto.FridgeCacheStatsDto;
+import de.markus.meier.coolschrank.model.dto.FridgeCoalescingStatsDto;
 import de.markus.meier.coolschrank.model.dto.FridgeDto;
 import de.markus.meier.coolschrank.model.dto.FridgeInventoryDto;
+import de.markus.meier.coolschrank.model.dto.FridgeLatencyStatsDto;
+import de.markus.meier.coolschrank.model.dto.FridgeResilienceStatsDto;
 import de.markus.meier.coolschrank.model.model.FridgeInventoryEntity;
-import jakarta.annotation.PostConstruct;
+import de.markus.meier.coolschrank.model.model.FridgeSnapshot;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
 
 /**
  * The FridgeService class is responsible for managing and modifying fridges.
+ * Every outbound call is guarded by {@link FridgeApiResilience}. While the remote API is unavailable, reads are
+ * answered with the last known snapshot flagged as stale, and calls without a fallback fail with 503 Service Unavailable.
+ * Every call is limited to the remaining budget of the request's {@link Deadline}.
+ * Every operation is traced as a stage of the request through {@link ServiceTracing}, with the outbound call below it.
  */
 @Service
 public class FridgeService {
 
-    private WebClient webClient;
+    private final WebClient webClient;
 
-    @PostConstruct
-    private void setup() {
-        webClient = WebClient.builder().build();
+    private final FridgeSnapshotCache fridgeSnapshotCache;
+
+    private final FridgeApiProperties fridgeApiProperties;
+
+    private final FridgeRequestCoalescer fridgeRequestCoalescer;
+
+    private final FridgeApiResilience fridgeApiResilience;
+
+    private final FridgeRequestHedger fridgeRequestHedger;
+
+    private final FridgeConnectionPoolMetrics fridgeConnectionPoolMetrics;
+
+    private final ServiceTracing serviceTracing;
+
+    /**
+     * Constructs a new FridgeService with the specified web client, snapshot cache, API settings, request coalescer,
+     * guards, hedger, connection pool metrics and tracing.
+     *
+     * @param webClient The shared web client for the remote fridge API.
+     * @param fridgeSnapshotCache The cache for fridges retrieved from the remote API.
+     * @param fridgeApiProperties The settings of the remote fridge API.
+     * @param fridgeRequestCoalescer The coalescer sharing concurrent reads of the same fridge.
+     * @param fridgeApiResilience The circuit breaker and bulkhead around outbound calls.
+     * @param fridgeRequestHedger The hedger sending and timing outbound reads.
+     * @param fridgeConnectionPoolMetrics The metrics of the outbound connection pool.
+     * @param serviceTracing The tracing of the fridge operations as stages of the request.
+     */
+    @Autowired
+    public FridgeService(WebClient webClient, FridgeSnapshotCache fridgeSnapshotCache, FridgeApiProperties fridgeApiProperties,
+                         FridgeRequestCoalescer fridgeRequestCoalescer, FridgeApiResilience fridgeApiResilience,
+                         FridgeRequestHedger fridgeRequestHedger, FridgeConnectionPoolMetrics fridgeConnectionPoolMetrics,
+                         ServiceTracing serviceTracing) {
+        this.webClient = webClient;
+        this.fridgeSnapshotCache = fridgeSnapshotCache;
+        this.fridgeApiProperties = fridgeApiProperties;
+        this.fridgeRequestCoalescer = fridgeRequestCoalescer;
+        this.fridgeApiResilience = fridgeApiResilience;
+        this.fridgeRequestHedger = fridgeRequestHedger;
+        this.fridgeConnectionPoolMetrics = fridgeConnectionPoolMetrics;
+        this.serviceTracing = serviceTracing;
     }
 
     /**
      * Creates a new fridge.
      *
      * @return The ID of the created fridge.
-     * @throws JsonProcessingException if there is an error processing JSON data.
      */
-    public String createFridge() throws JsonProcessingException {
-        String url = "https://innovations.rola.com/build/rola/coolschrank/ongoing/application/fridge";
-        String response = this.webClient.post().uri(url).retrieve().bodyToMono(String.class).block();
-        ObjectMapper objectMapper = new ObjectMapper();
-        FridgeDto fridgeAPIDto = objectMapper.readValue(response, FridgeDto.class);
-        return fridgeAPIDto.getId();
+    public String createFridge() {
+        return Deadline.propagate(createFridgeReactive()).block();
+    }
+
+    /**
+     * Creates a new fridge without blocking the calling thread.
+     *
+     * @return A Mono emitting the ID of the created fridge.
+     */
+    public Mono<String> createFridgeReactive() {
+        return serviceTracing.stage("fridge.create", guard(Mono.defer(() -> this.webClient.post().uri(fridgeUrl()).retrieve().bodyToMono(FridgeDto.class)))
+                .map(FridgeDto::getId));
     }
 
     /**
@@ -45,20 +100,29 @@ public class FridgeService {
      * @param fridgeInvetoryAPIDto The fridge inventory DTO to add.
      * @param fridgeId The ID of the fridge.
      * @return The added fridge inventory DTO.
-     * @throws JsonProcessingException if there is an error processing JSON data.
-     */
-    public FridgeInventoryDto addFridgeInventory(FridgeInventoryDto fridgeInvetoryAPIDto, String fridgeId) throws JsonProcessingException {
-        try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            String url = "https://innovations.rola.com/build/rola/coolschrank/ongoing/application/fridge/" + fridgeId + "/item";
-            WebClient.RequestBodySpec requestBodySpec = this.webClient.post().uri(url);
-            requestBodySpec.body(BodyInserters.fromValue(new FridgeInventoryEntity(fridgeInvetoryAPIDto.getName(), fridgeInvetoryAPIDto.getTarget())));
-            requestBodySpec.headers(httpHeaders -> httpHeaders.setContentType(MediaType.APPLICATION_JSON_UTF8));
-            String response = requestBodySpec.retrieve().bodyToMono(String.class).block();
-            return objectMapper.readValue(response, FridgeInventoryDto.class);
-        } catch (WebClientResponseException e) {
-            return null;
-        }
+     */
+    public FridgeInventoryDto addFridgeInventory(FridgeInventoryDto fridgeInvetoryAPIDto, String fridgeId) {
+        return Deadline.propagate(addFridgeInventoryReactive(fridgeInvetoryAPIDto, fridgeId)).block();
+    }
+
+    /**
+     * Adds a fridge inventory to a fridge without blocking the calling thread.
+     *
+     * @param fridgeInvetoryAPIDto The fridge inventory DTO to add.
+     * @param fridgeId The ID of the fridge.
+     * @return A Mono emitting the added fridge inventory DTO, or an empty Mono if the remote API rejected it.
+     */
+    public Mono<FridgeInventoryDto> addFridgeInventoryReactive(FridgeInventoryDto fridgeInvetoryAPIDto, String fridgeId) {
+        String url = fridgeUrl() + "/" + fridgeId + "/item";
+        return serviceTracing.stage("fridge.add_item", guard(Mono.defer(() -> {
+                    WebClient.RequestBodySpec requestBodySpec = this.webClient.post().uri(url);
+                    requestBodySpec.body(BodyInserters.fromValue(new FridgeInventoryEntity(fridgeInvetoryAPIDto.getName(), fridgeInvetoryAPIDto.getTarget())));
+                    requestBodySpec.headers(httpHeaders -> httpHeaders.setContentType(MediaType.APPLICATION_JSON_UTF8));
+                    return requestBodySpec.retrieve().bodyToMono(FridgeInventoryDto.class);
+                }))
+                .doOnTerminate(() -> fridgeSnapshotCache.invalidate(fridgeId))
+                .doOnCancel(() -> fridgeSnapshotCache.invalidate(fridgeId))
+                .onErrorResume(WebClientResponseException.class, e -> Mono.empty()));
     }
 
     /**
@@ -67,34 +131,175 @@ public class FridgeService {
      * @param fridgeInvetoryAPIDto The updated fridge inventory DTO.
      * @param fridgeId The ID of the fridge.
      * @return The updated fridge inventory DTO.
-     * @throws JsonProcessingException if there is an error processing JSON data.
      * @throws WebClientResponseException if there is an error with the web client response.
      */
-    public FridgeInventoryDto upDateFridgeInventory(FridgeInventoryDto fridgeInvetoryAPIDto, String fridgeId) throws JsonProcessingException, WebClientResponseException {
-        ObjectMapper objectMapper = new ObjectMapper();
-        String url = "https://innovations.rola.com/build/rola/coolschrank/ongoing/application/fridge/" + fridgeId + "/item/" + fridgeInvetoryAPIDto.getId();
-        WebClient.RequestBodySpec requestBodySpec = this.webClient.post().uri(url);
-        requestBodySpec.body(BodyInserters.fromValue(fridgeInvetoryAPIDto));
-        requestBodySpec.headers(httpHeaders -> httpHeaders.setContentType(MediaType.APPLICATION_JSON_UTF8));
-        String response = requestBodySpec.retrieve().bodyToMono(String.class).block();
-        return objectMapper.readValue(response, FridgeInventoryDto.class);
+    public FridgeInventoryDto upDateFridgeInventory(FridgeInventoryDto fridgeInvetoryAPIDto, String fridgeId) throws WebClientResponseException {
+        return Deadline.propagate(upDateFridgeInventoryReactive(fridgeInvetoryAPIDto, fridgeId)).block();
+    }
+
+    /**
+     * Updates a fridge inventory in a fridge without blocking the calling thread.
+     *
+     * @param fridgeInvetoryAPIDto The updated fridge inventory DTO.
+     * @param fridgeId The ID of the fridge.
+     * @return A Mono emitting the updated fridge inventory DTO, or a WebClientResponseException if the remote API rejected it.
+     */
+    public Mono<FridgeInventoryDto> upDateFridgeInventoryReactive(FridgeInventoryDto fridgeInvetoryAPIDto, String fridgeId) {
+        String url = fridgeUrl() + "/" + fridgeId + "/item/" + fridgeInvetoryAPIDto.getId();
+        return serviceTracing.stage("fridge.update_item", guard(Mono.defer(() -> {
+                    WebClient.RequestBodySpec requestBodySpec = this.webClient.post().uri(url);
+                    requestBodySpec.body(BodyInserters.fromValue(fridgeInvetoryAPIDto));
+                    requestBodySpec.headers(httpHeaders -> httpHeaders.setContentType(MediaType.APPLICATION_JSON_UTF8));
+                    return requestBodySpec.retrieve().bodyToMono(FridgeInventoryDto.class);
+                }))
+                .doOnTerminate(() -> fridgeSnapshotCache.invalidate(fridgeId))
+                .doOnCancel(() -> fridgeSnapshotCache.invalidate(fridgeId)));
     }
 
     /**
      * Retrieves a fridge by its ID.
+     * A fresh snapshot is served from the cache, a stale one is revalidated with its entity tag.
      *
      * @param id The ID of the fridge.
-     * @return The retrieved fridge DTO.
-     * @throws JsonProcessingException if there is an error processing JSON data.
-     */
-    public FridgeDto getFridge(String id) throws JsonProcessingException {
-        try {
-            String url = "https://innovations.rola.com/build/rola/coolschrank/ongoing/application/fridge/" + id;
-            String response = this.webClient.get().uri(url).retrieve().bodyToMono(String.class).block();
-            ObjectMapper objectMapper = new ObjectMapper();
-            return objectMapper.readValue(response, FridgeDto.class);
-        } catch (WebClientResponseException e) {
-            return null;
+     * @return The retrieved fridge DTO, or null if the fridge does not exist.
+     */
+    public FridgeDto getFridge(String id) {
+        return Deadline.propagate(getFridgeReactive(id)).block();
+    }
+
+    /**
+     * Retrieves a fridge by its ID without blocking the calling thread.
+     * A fresh snapshot is served from the cache, a stale one is revalidated with its entity tag.
+     * Concurrent reads of the same fridge share a single outbound call. While the remote API is unavailable the last
+     * known snapshot is served flagged as stale.
+     *
+     * @param id The ID of the fridge.
+     * @return A Mono emitting the retrieved fridge DTO, or an empty Mono if the fridge does not exist.
+     */
+    public Mono<FridgeDto> getFridgeReactive(String id) {
+        return serviceTracing.stage("fridge.get", Mono.defer(() -> {
+            FridgeSnapshot snapshot = fridgeSnapshotCache.lookup(id);
+            if (snapshot != null && fridgeSnapshotCache.isFresh(snapshot)) {
+                return Mono.just(snapshot.getFridge());
+            }
+            return withinDeadline(fridgeRequestCoalescer.coalesce(id, () -> fetchFridge(id, snapshot)));
+        }).onErrorResume(FridgeApiResilience::isUnavailable, e -> staleFridge(id, e))
+                .onErrorResume(WebClientResponseException.class, e -> {
+                    fridgeSnapshotCache.invalidate(id);
+                    return Mono.empty();
+                }));
+    }
+
+    /**
+     * Sends the outbound read of a fridge, conditional on the entity tag of the stale snapshot the read looked up if
+     * there is one. The read is shared by every caller joining it, so it is bounded by the configured timeout rather
+     * than by the deadline of the caller that started it.
+     */
+    private Mono<FridgeDto> fetchFridge(String id, FridgeSnapshot snapshot) {
+        return Mono.defer(() -> {
+            String eTag = snapshot == null ? null : snapshot.getETag();
+            if (eTag != null) {
+                fridgeSnapshotCache.recordRevalidation();
+            }
+            String url = fridgeUrl() + "/" + id;
+            return fridgeRequestHedger.hedge(() -> fridgeApiResilience.protect(Mono.defer(() -> this.webClient.get().uri(url)
+                            .headers(httpHeaders -> {
+                                if (eTag != null) {
+                                    httpHeaders.setIfNoneMatch(eTag);
+                                }
+                            })
+                            .retrieve().toEntity(FridgeDto.class))))
+                    .<FridgeDto>handle((response, sink) -> {
+                        if (response.getStatusCode().value() == HttpStatus.NOT_MODIFIED.value() && snapshot != null) {
+                            sink.next(fridgeSnapshotCache.revalidated(id, snapshot).getFridge());
+                        } else if (response.getBody() != null) {
+                            fridgeSnapshotCache.put(id, response.getBody(), response.getHeaders().getETag());
+                            sink.next(response.getBody());
+                        }
+                    });
+        });
+    }
+
+    /**
+     * Answers a read with the last known snapshot flagged as stale, or fails with 503 Service Unavailable if there is none.
+     */
+    private Mono<FridgeDto> staleFridge(String id, Throwable cause) {
+        FridgeSnapshot snapshot = fridgeSnapshotCache.get(id);
+        if (snapshot == null) {
+            return Mono.error(unavailable(cause));
         }
+        fridgeApiResilience.recordStaleFallback();
+        FridgeDto fridge = snapshot.getFridge();
+        return Mono.just(new FridgeDto(fridge.getId(), fridge.getInventory(), true));
+    }
+
+    /**
+     * Guards an outbound write, limits it to the deadline and fails it with 503 Service Unavailable while the remote
+     * API is unavailable or the deadline has passed.
+     */
+    private <T> Mono<T> guard(Mono<T> call) {
+        return withinDeadline(fridgeApiResilience.protect(call))
+                .onErrorMap(FridgeApiResilience::isUnavailable, FridgeService::unavailable);
+    }
+
+    /**
+     * Limits a call to the deadline of the request and counts the calls the deadline cuts off.
+     */
+    private <T> Mono<T> withinDeadline(Mono<T> call) {
+        return Deadline.within(call)
+                .doOnError(Deadline.ExceededException.class, e -> fridgeApiResilience.recordDeadlineExceeded());
+    }
+
+    private static ResponseStatusException unavailable(Throwable cause) {
+        return new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "The fridge API is unavailable", cause);
+    }
+
+    private String fridgeUrl() {
+        return fridgeApiProperties.getBaseUrl() + "/fridge";
+    }
+
+    /**
+     * Retrieves the statistics of the fridge snapshot cache.
+     *
+     * @return The statistics of the cache.
+     */
+    public FridgeCacheStatsDto getSnapshotCacheStats() {
+        return fridgeSnapshotCache.stats();
+    }
+
+    /**
+     * Retrieves the statistics of the coalesced fridge reads.
+     *
+     * @return The statistics of the coalescing.
+     */
+    public FridgeCoalescingStatsDto getCoalescingStats() {
+        return fridgeRequestCoalescer.stats();
+    }
+
+    /**
+     * Retrieves the statistics of the circuit breaker and bulkhead around the remote fridge API.
+     *
+     * @return The statistics of the guards.
+     */
+    public FridgeResilienceStatsDto getResilienceStats() {
+        return fridgeApiResilience.stats();
+    }
+
+    /**
+     * Retrieves the latency histograms and hedging counters of the remote fridge reads.
+     *
+     * @return The latency statistics.
+     */
+    public FridgeLatencyStatsDto getLatencyStats() {
+        return fridgeRequestHedger.stats();
+    }
+
+    /**
+     * Retrieves the statistics of the outbound connection pool.
+     *
+     * @return The statistics of the pool.
+     */
+    public ConnectionPoolStatsDto getConnectionPoolStats() {
+        return fridgeConnectionPoolMetrics.stats();
     }
 }
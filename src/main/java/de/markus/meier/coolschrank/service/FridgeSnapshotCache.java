@@ -0,0 +1,163 @@
+package de.markus.meier.coolschrank.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import de.markus.meier.coolschrank.config.FridgeApiProperties;
+import de.markus.meier.coolschrank.model.dto.FridgeCacheStatsDto;
+import de.markus.meier.coolschrank.model.dto.FridgeDto;
+import de.markus.meier.coolschrank.model.model.FridgeSnapshot;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The FridgeSnapshotCache class keeps the last known state of each fridge retrieved from the remote fridge API.
+ * Snapshots are served directly while they are fresh and revalidated with their entity tag once they are stale.
+ * The cache is bounded in size and evicts snapshots that have not been written for the configured time.
+ * A read counts as a hit only if it is served from a fresh snapshot, a missing or stale snapshot counts as a miss
+ * because the read goes to the remote API.
+ */
+@Component
+public class FridgeSnapshotCache {
+
+    private final Cache<String, FridgeSnapshot> cache;
+
+    private final Ticker ticker;
+
+    private final long freshForNanos;
+
+    private final StatsCounter statsCounter = new ConcurrentStatsCounter();
+
+    private final LongAdder revalidationCount = new LongAdder();
+
+    private final LongAdder notModifiedCount = new LongAdder();
+
+    /**
+     * Constructs a new FridgeSnapshotCache with the specified properties.
+     *
+     * @param fridgeApiProperties The properties of the remote fridge API.
+     */
+    @Autowired
+    public FridgeSnapshotCache(FridgeApiProperties fridgeApiProperties) {
+        this(fridgeApiProperties, Ticker.systemTicker());
+    }
+
+    /**
+     * Constructs a new FridgeSnapshotCache with the specified properties and time source.
+     *
+     * @param fridgeApiProperties The properties of the remote fridge API.
+     * @param ticker              The time source used for freshness and expiry.
+     */
+    FridgeSnapshotCache(FridgeApiProperties fridgeApiProperties, Ticker ticker) {
+        FridgeApiProperties.Cache settings = fridgeApiProperties.getCache();
+        this.ticker = ticker;
+        this.freshForNanos = settings.getFreshFor().toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(settings.getMaximumSize())
+                .expireAfterWrite(settings.getExpireAfter())
+                .ticker(ticker)
+                .recordStats(() -> statsCounter)
+                .build();
+    }
+
+    /**
+     * Looks up the snapshot of a fridge for a read and records it as a hit if the snapshot is fresh, as a miss
+     * otherwise. Must be called once per read, further lookups of the same read use {@link #get(String)}.
+     *
+     * @param fridgeId The ID of the fridge.
+     * @return The snapshot, or null if the fridge is not cached.
+     */
+    public FridgeSnapshot lookup(String fridgeId) {
+        FridgeSnapshot snapshot = get(fridgeId);
+        if (snapshot != null && isFresh(snapshot)) {
+            statsCounter.recordHits(1);
+        } else {
+            statsCounter.recordMisses(1);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Retrieves the snapshot of a fridge without recording a hit or miss.
+     *
+     * @param fridgeId The ID of the fridge.
+     * @return The snapshot, or null if the fridge is not cached.
+     */
+    public FridgeSnapshot get(String fridgeId) {
+        return cache.asMap().get(fridgeId);
+    }
+
+    /**
+     * Checks if a snapshot may still be served without revalidation.
+     *
+     * @param snapshot The snapshot to check.
+     * @return true if the snapshot is fresh, false otherwise.
+     */
+    public boolean isFresh(FridgeSnapshot snapshot) {
+        return ticker.read() - snapshot.getValidatedAt() < freshForNanos;
+    }
+
+    /**
+     * Stores a fridge freshly retrieved from the remote API.
+     *
+     * @param fridgeId The ID of the fridge.
+     * @param fridge   The retrieved fridge.
+     * @param eTag     The entity tag of the response, or null if none was sent.
+     * @return The stored snapshot.
+     */
+    public FridgeSnapshot put(String fridgeId, FridgeDto fridge, String eTag) {
+        FridgeSnapshot snapshot = new FridgeSnapshot(fridge, eTag, ticker.read());
+        cache.put(fridgeId, snapshot);
+        return snapshot;
+    }
+
+    /**
+     * Records that a conditional request is sent for a stale snapshot.
+     */
+    public void recordRevalidation() {
+        revalidationCount.increment();
+    }
+
+    /**
+     * Marks a stale snapshot as valid again after the remote API answered 304 Not Modified.
+     *
+     * @param fridgeId The ID of the fridge.
+     * @param snapshot The stale snapshot.
+     * @return The revalidated snapshot.
+     */
+    public FridgeSnapshot revalidated(String fridgeId, FridgeSnapshot snapshot) {
+        notModifiedCount.increment();
+        return put(fridgeId, snapshot.getFridge(), snapshot.getETag());
+    }
+
+    /**
+     * Removes the snapshot of a fridge, e.g. after its inventory was modified.
+     *
+     * @param fridgeId The ID of the fridge.
+     */
+    public void invalidate(String fridgeId) {
+        cache.invalidate(fridgeId);
+    }
+
+    /**
+     * Retrieves the current statistics of the cache.
+     *
+     * @return The statistics of the cache.
+     */
+    public FridgeCacheStatsDto stats() {
+        CacheStats stats = cache.stats();
+        return new FridgeCacheStatsDto(
+                stats.hitCount(),
+                stats.missCount(),
+                stats.evictionCount(),
+                revalidationCount.sum(),
+                notModifiedCount.sum(),
+                cache.estimatedSize()
+        );
+    }
+}
@@ -0,0 +1,81 @@
+package de.markus.meier.coolschrank.service;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.function.Supplier;
+
+/**
+ * The JpaScheduler class runs blocking JPA work for the reactive request path.
+ * Each unit of work runs in its own transaction on a bounded pool, so the event loop is never blocked
+ * and the number of threads waiting for a database connection stays limited.
+ * The observation in the Reactor context of the caller is current while the work runs, so its stages are traced below it.
+ */
+@Component
+public class JpaScheduler {
+
+    private final Scheduler scheduler;
+
+    private final TransactionOperations transactionOperations;
+
+    /**
+     * Constructs a new JpaScheduler with the specified transaction operations and pool limits.
+     *
+     * @param transactionOperations The transaction operations each unit of work runs in.
+     * @param threadCap             The maximum number of threads, ideally the size of the connection pool.
+     * @param queuedTaskCap         The maximum number of units of work waiting for a thread.
+     */
+    @Autowired
+    public JpaScheduler(TransactionOperations transactionOperations,
+                        @Value("${jpa.scheduler.thread-cap:10}") int threadCap,
+                        @Value("${jpa.scheduler.queued-task-cap:10000}") int queuedTaskCap) {
+        this(transactionOperations, Schedulers.newBoundedElastic(threadCap, queuedTaskCap, "jpa"));
+    }
+
+    /**
+     * Constructs a new JpaScheduler running on the specified scheduler.
+     *
+     * @param transactionOperations The transaction operations each unit of work runs in.
+     * @param scheduler             The scheduler the work runs on.
+     */
+    JpaScheduler(TransactionOperations transactionOperations, Scheduler scheduler) {
+        this.transactionOperations = transactionOperations;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Runs a unit of JPA work in a transaction on the bounded pool.
+     * The flush of the transaction's changes happens when the transaction commits after the work returned.
+     *
+     * @param work The work to run.
+     * @param <T>  The type of the result.
+     * @return A Mono emitting the result of the work, or an empty Mono if the work returned null.
+     */
+    public <T> Mono<T> call(Supplier<T> work) {
+        return Mono.deferContextual(context -> {
+                    Observation observation = context.getOrDefault(ObservationThreadLocalAccessor.KEY, null);
+                    return Mono.fromCallable(() -> {
+                        if (observation == null) {
+                            return transactionOperations.execute(status -> work.get());
+                        }
+                        try (Observation.Scope scope = observation.openScope()) {
+                            return transactionOperations.execute(status -> work.get());
+                        }
+                    });
+                })
+                .subscribeOn(scheduler);
+    }
+
+    @PreDestroy
+    private void shutdown() {
+        scheduler.dispose();
+    }
+}
@@ -0,0 +1,104 @@
+package de.markus.meier.coolschrank.service;
+
+import de.markus.meier.coolschrank.model.dto.CacheRegionStatsDto;
+import de.markus.meier.coolschrank.model.model.ShoppingInventoryEntity;
+import de.markus.meier.coolschrank.model.model.ShoppingListEntity;
+import de.markus.meier.coolschrank.repository.ShoppingListRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The SecondLevelCacheService class evicts entries of the Hibernate second-level cache that Hibernate cannot invalidate
+ * itself and reports the statistics of its regions. Without the second-level-cache profile every method is a no-op.
+ */
+@Service
+public class SecondLevelCacheService {
+
+    /**
+     * The regions holding shopping lists, their items and the shopping list projection.
+     */
+    public static final List<String> SHOPPING_LIST_REGIONS = List.of("shopping-list", "shopping-list-items", "shopping-inventory", ShoppingListRepository.PROJECTION_CACHE_REGION);
+
+    /**
+     * The regions holding users.
+     */
+    public static final List<String> USER_REGIONS = List.of("user");
+
+    private static final String SHOPPING_INVENTORY_ROLE = ShoppingListEntity.class.getName() + ".shoppingInventoryEntityList";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Constructs a new SecondLevelCacheService for the given persistence unit.
+     *
+     * @param entityManagerFactory The factory of the persistence unit whose cache is managed.
+     */
+    @Autowired
+    public SecondLevelCacheService(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * Evicts a shopping list item that was changed on its own. Besides the item itself, the item IDs of its shopping
+     * list and the cached projections are evicted, as both may contain the item and Hibernate does not update the
+     * cached collection of the shopping list when one of its items is deleted. Within a transaction the entries are
+     * evicted after it commits, so a concurrent read cannot cache the state before the change again.
+     *
+     * @param id     The ID of the shopping list.
+     * @param itemId The ID of the shopping list item.
+     */
+    public void evictShoppingInventory(Long id, Long itemId) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        AfterCommit.run(() -> {
+            cache.evictEntityData(ShoppingInventoryEntity.class, itemId);
+            cache.evictCollectionData(SHOPPING_INVENTORY_ROLE, id);
+            cache.evictQueryRegion(ShoppingListRepository.PROJECTION_CACHE_REGION);
+        });
+    }
+
+    /**
+     * Retrieves the statistics of the given regions. Regions that don't exist are left out: all of them if the cache is
+     * disabled, and query result regions until their first query.
+     *
+     * @param regionNames The names of the regions.
+     * @return The statistics of every existing region.
+     */
+    public List<CacheRegionStatsDto> getStats(List<String> regionNames) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        List<String> existingRegionNames = Arrays.asList(statistics.getSecondLevelCacheRegionNames());
+        List<CacheRegionStatsDto> stats = new ArrayList<>();
+        for (String regionName : regionNames) {
+            CacheRegionStatistics regionStatistics = existingRegionNames.contains(regionName) ? regionStatistics(statistics, regionName) : null;
+            if (regionStatistics != null) {
+                stats.add(new CacheRegionStatsDto(
+                        regionName,
+                        regionStatistics.getHitCount(),
+                        regionStatistics.getMissCount(),
+                        regionStatistics.getPutCount(),
+                        regionStatistics.getElementCountInMemory()
+                ));
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * Looks up the statistics of a domain data region, or of a query results region if there is no such domain data region.
+     */
+    private CacheRegionStatistics regionStatistics(Statistics statistics, String regionName) {
+        CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(regionName);
+        if (regionStatistics == null) {
+            regionStatistics = statistics.getQueryRegionStatistics(regionName);
+        }
+        return regionStatistics;
+    }
+}
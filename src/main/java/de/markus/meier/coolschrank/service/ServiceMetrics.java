@@ -0,0 +1,117 @@
+package de.markus.meier.coolschrank.service;
+
+import de.markus.meier.coolschrank.jfr.RepositoryCallEvent;
+import de.markus.meier.coolschrank.util.ShoppingListReconciler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * The ServiceMetrics class records the Micrometer metrics of the services.
+ * It times the repository writes and the entity to DTO mappings and counts the shopping list items each
+ * reconciliation adds, changes and removes. Percentile histograms of the timers are enabled through the
+ * {@code management.metrics.distribution} settings. Repository writes are also emitted as {@link RepositoryCallEvent}s
+ * while a flight recording is running. The timers are registered on first use and kept, so a timed call does not look
+ * them up in the registry again.
+ */
+@Component
+public class ServiceMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    private final Counter itemsAdded;
+
+    private final Counter itemsChanged;
+
+    private final Counter itemsRemoved;
+
+    private final Map<String, Map<String, Timer>> repositoryTimers = new ConcurrentHashMap<>();
+
+    private final Map<String, Timer> mappingTimers = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new ServiceMetrics registering its meters with the specified registry.
+     *
+     * @param meterRegistry The registry of the application's meters.
+     */
+    @Autowired
+    public ServiceMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.itemsAdded = itemCounter(meterRegistry, "added");
+        this.itemsChanged = itemCounter(meterRegistry, "changed");
+        this.itemsRemoved = itemCounter(meterRegistry, "removed");
+    }
+
+    /**
+     * Times a repository call.
+     *
+     * @param repository The name of the repository.
+     * @param operation  The name of the operation, such as save or delete.
+     * @param call       The repository call.
+     * @param <T>        The result type of the call.
+     * @return The result of the call.
+     */
+    public <T> T timeRepository(String repository, String operation, Supplier<T> call) {
+        Timer timer = repositoryTimers.computeIfAbsent(repository, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(operation, key -> Timer.builder("coolschrank.repository")
+                        .description("Duration of repository writes")
+                        .tag("repository", repository)
+                        .tag("operation", operation)
+                        .register(meterRegistry));
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        event.begin();
+        try {
+            return timer.record(call);
+        } catch (RuntimeException e) {
+            event.setFailed(true);
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.setRepository(repository);
+                event.setOperation(operation);
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Times a mapping from an entity to a DTO.
+     *
+     * @param mapper  The name of the mapping.
+     * @param mapping The mapping.
+     * @param <T>     The DTO type.
+     * @return The mapped DTO.
+     */
+    public <T> T timeMapping(String mapper, Supplier<T> mapping) {
+        return mappingTimers.computeIfAbsent(mapper, key -> Timer.builder("coolschrank.mapping")
+                        .description("Duration of entity to DTO mappings")
+                        .tag("mapper", mapper)
+                        .register(meterRegistry))
+                .record(mapping);
+    }
+
+    /**
+     * Counts the shopping list items a reconciliation adds, changes and removes.
+     *
+     * @param reconciliation The differences between a shopping list and the inventory of its fridge.
+     */
+    public void recordReconciliation(ShoppingListReconciler.Reconciliation reconciliation) {
+        itemsAdded.increment(reconciliation.getAdded().size());
+        itemsChanged.increment(reconciliation.getChanged().size());
+        itemsRemoved.increment(reconciliation.getRemoved().size());
+    }
+
+    private static Counter itemCounter(MeterRegistry meterRegistry, String change) {
+        return Counter.builder("coolschrank.shopping.list.items")
+                .description("Shopping list items changed by reconciliations")
+                .tag("change", change)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,112 @@
+package de.markus.meier.coolschrank.service;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+import java.util.function.Supplier;
+
+/**
+ * The ServiceTracing class wraps the stages of a request, such as loading a shopping list, reading a fridge or
+ * decoding its JSON, in observations. With tracing enabled every stage becomes a span below the span of the request,
+ * and every stage is timed as {@code coolschrank.stage} tagged with its name.
+ * <p>
+ * A stage started on a request thread is a child of the current observation. A reactive stage is a child of the
+ * observation in its Reactor context and puts itself into that context, so outbound web client calls and work moved
+ * to the {@link JpaScheduler} are attached to it and carry its trace context.
+ */
+@Component
+public class ServiceTracing {
+
+    /**
+     * The name of the stage observations.
+     */
+    public static final String STAGE_OBSERVATION = "coolschrank.stage";
+
+    private final ObservationRegistry observationRegistry;
+
+    /**
+     * Constructs a new ServiceTracing with the application's observation registry, or with the no-op registry if
+     * observations are not configured.
+     *
+     * @param observationRegistry The provider of the observation registry.
+     */
+    @Autowired
+    public ServiceTracing(ObjectProvider<ObservationRegistry> observationRegistry) {
+        this(observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP));
+    }
+
+    /**
+     * Constructs a new ServiceTracing with the specified observation registry.
+     *
+     * @param observationRegistry The observation registry.
+     */
+    public ServiceTracing(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    /**
+     * Runs a stage on the calling thread as a child of the current observation.
+     *
+     * @param stage The name of the stage.
+     * @param work  The work of the stage.
+     * @param <T>   The result type of the work.
+     * @return The result of the work.
+     */
+    public <T> T stage(String stage, Supplier<T> work) {
+        return observation(stage).observe(work);
+    }
+
+    /**
+     * Runs a stage on the calling thread as a child of the observation in the specified Reactor context, for work
+     * that is handed the context of a pipeline but runs outside of it.
+     *
+     * @param stage   The name of the stage.
+     * @param context The Reactor context of the pipeline the work belongs to.
+     * @param work    The work of the stage.
+     * @param <T>     The result type of the work.
+     * @return The result of the work.
+     */
+    public <T> T stage(String stage, ContextView context, Supplier<T> work) {
+        return withParent(observation(stage), context).observe(work);
+    }
+
+    /**
+     * Wraps a pipeline in a stage that starts when the pipeline is subscribed and stops when it terminates or is
+     * cancelled. The stage is a child of the observation in the subscriber's context or, if there is none, of the
+     * current observation of the subscribing thread.
+     *
+     * @param stage The name of the stage.
+     * @param work  The pipeline of the stage.
+     * @param <T>   The result type of the pipeline.
+     * @return The pipeline observed as a stage.
+     */
+    public <T> Mono<T> stage(String stage, Mono<T> work) {
+        return Mono.deferContextual(context -> {
+            Observation observation = withParent(observation(stage), context);
+            if (observation.isNoop()) {
+                return work;
+            }
+            observation.start();
+            return work.doOnError(observation::error)
+                    .doFinally(signal -> observation.stop())
+                    .contextWrite(innerContext -> innerContext.put(ObservationThreadLocalAccessor.KEY, observation));
+        });
+    }
+
+    private Observation observation(String stage) {
+        return Observation.createNotStarted(STAGE_OBSERVATION, observationRegistry)
+                .contextualName(stage)
+                .lowCardinalityKeyValue("stage", stage);
+    }
+
+    private static Observation withParent(Observation observation, ContextView context) {
+        Observation parent = context == null ? null : context.getOrDefault(ObservationThreadLocalAccessor.KEY, null);
+        return parent == null ? observation : observation.parentObservation(parent);
+    }
+}
@@ -0,0 +1,122 @@
+package de.markus.meier.coolschrank.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import de.markus.meier.coolschrank.model.dto.FridgeInventoryDto;
+import de.markus.meier.coolschrank.model.dto.ShoppingListDto;
+import de.markus.meier.coolschrank.model.dto.ShoppingListUpdateStatsDto;
+import de.markus.meier.coolschrank.model.model.ReconciledShoppingList;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The ShoppingListChangeTracker class remembers, per shopping list, a fingerprint of the fridge inventory
+ * it was last reconciled with, so an automatic update of an unchanged fridge neither writes nor maps the shopping list again.
+ * Every other modification of a shopping list must forget its entry.
+ */
+@Component
+public class ShoppingListChangeTracker {
+
+    private final Cache<Long, ReconciledShoppingList> reconciled;
+
+    private final LongAdder writeCount = new LongAdder();
+
+    private final LongAdder skippedWriteCount = new LongAdder();
+
+    private final LongAdder unchangedFridgeCount = new LongAdder();
+
+    /**
+     * Constructs a new ShoppingListChangeTracker remembering at most the given number of shopping lists.
+     *
+     * @param maximumSize The maximum number of remembered shopping lists.
+     */
+    @Autowired
+    public ShoppingListChangeTracker(@Value("${shopping-list.change-tracker.maximum-size:10000}") long maximumSize) {
+        this.reconciled = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    /**
+     * Computes a fingerprint of a fridge inventory that does not depend on the order of the positions.
+     *
+     * @param fridgeId  The ID of the fridge.
+     * @param inventory The inventory of the fridge.
+     * @return The fingerprint.
+     */
+    public static long fingerprint(String fridgeId, List<FridgeInventoryDto> inventory) {
+        long fingerprint = mix(fridgeId.hashCode() + inventory.size());
+        for (FridgeInventoryDto fridgeInvetoryAPIDto : inventory) {
+            long position = mix(fridgeInvetoryAPIDto.getId() == null ? 0 : fridgeInvetoryAPIDto.getId());
+            position = mix(position + (fridgeInvetoryAPIDto.getName() == null ? 0 : fridgeInvetoryAPIDto.getName().hashCode()));
+            position = mix(position + Float.floatToIntBits(fridgeInvetoryAPIDto.getActual()));
+            position = mix(position + Float.floatToIntBits(fridgeInvetoryAPIDto.getTarget()));
+            fingerprint += position;
+        }
+        return fingerprint;
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+    /**
+     * Retrieves the shopping list of the last reconciliation if the fridge has not changed since.
+     * A hit counts as a skipped write.
+     *
+     * @param shoppingListId The ID of the shopping list.
+     * @param fingerprint    The fingerprint of the current fridge inventory.
+     * @return The remembered shopping list, or null if the fridge changed or nothing is remembered.
+     */
+    public ShoppingListDto unchanged(Long shoppingListId, long fingerprint) {
+        ReconciledShoppingList reconciledShoppingList = reconciled.getIfPresent(shoppingListId);
+        if (reconciledShoppingList == null || reconciledShoppingList.getFingerprint() != fingerprint) {
+            return null;
+        }
+        unchangedFridgeCount.increment();
+        skippedWriteCount.increment();
+        return reconciledShoppingList.getShoppingList();
+    }
+
+    /**
+     * Remembers the outcome of a reconciliation.
+     *
+     * @param shoppingListId The ID of the shopping list.
+     * @param fingerprint    The fingerprint of the fridge inventory the shopping list was reconciled with.
+     * @param shoppingList   The shopping list after the reconciliation.
+     * @param written        Whether the reconciliation wrote the shopping list.
+     */
+    public void remember(Long shoppingListId, long fingerprint, ShoppingListDto shoppingList, boolean written) {
+        (written ? writeCount : skippedWriteCount).increment();
+        reconciled.put(shoppingListId, new ReconciledShoppingList(fingerprint, shoppingList));
+    }
+
+    /**
+     * Forgets the last reconciliation of a shopping list, e.g. after it was modified or deleted.
+     *
+     * @param shoppingListId The ID of the shopping list.
+     */
+    public void forget(Long shoppingListId) {
+        reconciled.invalidate(shoppingListId);
+    }
+
+    /**
+     * Retrieves the current statistics of the automatic updates.
+     *
+     * @return The statistics of the automatic updates.
+     */
+    public ShoppingListUpdateStatsDto stats() {
+        return new ShoppingListUpdateStatsDto(
+                writeCount.sum(),
+                skippedWriteCount.sum(),
+                unchangedFridgeCount.sum(),
+                reconciled.estimatedSize()
+        );
+    }
+}
@@ -0,0 +1,86 @@
+package de.markus.meier.coolschrank.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import de.markus.meier.coolschrank.model.dto.ShoppingListDto;
+import de.markus.meier.coolschrank.model.model.EncodedShoppingList;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.util.function.Function;
+
+/**
+ * The ShoppingListResponseCache class keeps the encoded JSON response of recently read shopping lists, so a hot shopping list
+ * is served as a byte copy without reading, mapping or serializing it again. The entity tag is a digest of the encoded bytes,
+ * so it changes exactly when the response does. Every modification of a shopping list must invalidate its entry.
+ */
+@Component
+public class ShoppingListResponseCache {
+
+    private final ObjectMapper objectMapper;
+
+    private final Cache<Long, EncodedShoppingList> encoded;
+
+    /**
+     * Constructs a new ShoppingListResponseCache holding at most the given number of shopping lists.
+     *
+     * @param objectMapper The object mapper encoding the responses.
+     * @param maximumSize  The maximum number of cached shopping lists.
+     */
+    @Autowired
+    public ShoppingListResponseCache(ObjectMapper objectMapper, @Value("${shopping-list.response-cache.maximum-size:10000}") long maximumSize) {
+        this.objectMapper = objectMapper;
+        this.encoded = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    /**
+     * Retrieves the cached response of a shopping list.
+     *
+     * @param shoppingListId The ID of the shopping list.
+     * @return The encoded shopping list, or null if it is not cached.
+     */
+    public EncodedShoppingList getIfPresent(Long shoppingListId) {
+        return encoded.getIfPresent(shoppingListId);
+    }
+
+    /**
+     * Retrieves the cached response of a shopping list, reading and encoding it if it is not cached.
+     * Concurrent reads of the same shopping list wait for a single encoding.
+     *
+     * @param shoppingListId The ID of the shopping list.
+     * @param reader         Reads the shopping list, returning null if it doesn't exist.
+     * @return The encoded shopping list, or null if it doesn't exist.
+     */
+    public EncodedShoppingList get(Long shoppingListId, Function<Long, ShoppingListDto> reader) {
+        return encoded.get(shoppingListId, id -> {
+            ShoppingListDto shoppingListDto = reader.apply(id);
+            return shoppingListDto == null ? null : encode(shoppingListDto);
+        });
+    }
+
+    /**
+     * Drops the cached response of a modified shopping list. Within a transaction the response is dropped after it
+     * commits, as a read encoding the shopping list before would cache the state before the modification again.
+     * A read still encoding when the transaction commits finishes before its entry is dropped.
+     *
+     * @param shoppingListId The ID of the shopping list.
+     */
+    public void invalidate(Long shoppingListId) {
+        AfterCommit.run(() -> encoded.invalidate(shoppingListId));
+    }
+
+    private EncodedShoppingList encode(ShoppingListDto shoppingListDto) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(shoppingListDto);
+            return new EncodedShoppingList(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not encode shopping list " + shoppingListDto.getId(), e);
+        }
+    }
+}
@@ -1,68 +1,130 @@
 package de.markus.meier.coolschrank.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import de.markus.meier.coolschrank.jfr.ReconciliationEvent;
+import de.markus.meier.coolschrank.model.dto.CacheRegionStatsDto;
 import de.markus.meier.coolschrank.model.dto.FridgeDto;
 import de.markus.meier.coolschrank.model.dto.FridgeInventoryDto;
 import de.markus.meier.coolschrank.model.dto.ShoppingInventoryDto;
 import de.markus.meier.coolschrank.model.dto.ShoppingListDto;
+import de.markus.meier.coolschrank.model.dto.ShoppingListUpdateStatsDto;
+import de.markus.meier.coolschrank.model.model.EncodedShoppingList;
 import de.markus.meier.coolschrank.model.model.ShoppingInventoryEntity;
 import de.markus.meier.coolschrank.model.model.ShoppingListEntity;
+import de.markus.meier.coolschrank.repository.ShoppingInventoryRepository;
 import de.markus.meier.coolschrank.repository.ShoppingListRepository;
 import de.markus.meier.coolschrank.util.ShoppingListMapper;
-import jakarta.annotation.PostConstruct;
+import de.markus.meier.coolschrank.util.ShoppingListReconciler;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * The ShoppingListService class provides methods for managing shopping lists.
+ * The stages of an automatic update, loading the shopping list, reading the fridge, reconciling, saving and mapping,
+ * are traced through {@link ServiceTracing}.
  */
 @Service
 public class ShoppingListService {
 
-    private WebClient webClient;
+    private final FridgeService fridgeService;
 
     private final ShoppingListRepository shoppingListRepository;
 
+    private final ShoppingInventoryRepository shoppingInventoryRepository;
+
     private final ShoppingListMapper shoppingListMapper;
 
+    private final JpaScheduler jpaScheduler;
+
+    private final ShoppingListReconciler shoppingListReconciler;
+
+    private final ShoppingListChangeTracker shoppingListChangeTracker;
+
+    private final SecondLevelCacheService secondLevelCacheService;
+
+    private final ShoppingListResponseCache shoppingListResponseCache;
+
+    private final ServiceMetrics serviceMetrics;
+
+    private final ServiceTracing serviceTracing;
+
     /**
      * Constructs a new ShoppingListService with the specified repositories and mappers.
      *
      * @param shoppingListRepository The repository for shopping lists.
+     * @param shoppingInventoryRepository The repository for single shopping list items.
      * @param shoppingListMapper The mapper for shopping list entities and DTOs.
+     * @param fridgeService The service for retrieving fridges from the fridge API.
+     * @param jpaScheduler The scheduler running JPA work for the reactive methods.
+     * @param shoppingListReconciler The reconciler matching shopping list items with the fridge inventory.
+     * @param shoppingListChangeTracker The tracker skipping automatic updates of unchanged fridges.
+     * @param secondLevelCacheService The service evicting items changed with SQL from the second-level cache.
+     * @param shoppingListResponseCache The cache of the encoded responses of recently read shopping lists.
+     * @param serviceMetrics The metrics of the repository writes, mappings and reconciliations.
+     * @param serviceTracing The tracing of the stages of an update.
      */
     @Autowired
-    public ShoppingListService(ShoppingListRepository shoppingListRepository, ShoppingListMapper  shoppingListMapper) {
+    public ShoppingListService(ShoppingListRepository shoppingListRepository, ShoppingInventoryRepository shoppingInventoryRepository, ShoppingListMapper  shoppingListMapper, FridgeService fridgeService, JpaScheduler jpaScheduler, ShoppingListReconciler shoppingListReconciler, ShoppingListChangeTracker shoppingListChangeTracker, SecondLevelCacheService secondLevelCacheService, ShoppingListResponseCache shoppingListResponseCache, ServiceMetrics serviceMetrics, ServiceTracing serviceTracing) {
         this.shoppingListRepository = shoppingListRepository;
+        this.shoppingInventoryRepository = shoppingInventoryRepository;
         this.shoppingListMapper = shoppingListMapper;
-    }
-
-    @PostConstruct
-    private void setup() {
-        webClient = WebClient.builder().build();
+        this.fridgeService = fridgeService;
+        this.jpaScheduler = jpaScheduler;
+        this.shoppingListReconciler = shoppingListReconciler;
+        this.shoppingListChangeTracker = shoppingListChangeTracker;
+        this.secondLevelCacheService = secondLevelCacheService;
+        this.shoppingListResponseCache = shoppingListResponseCache;
+        this.serviceMetrics = serviceMetrics;
+        this.serviceTracing = serviceTracing;
     }
 
     /**
      * Creates a new shopping list based on the given ID.
+     * The unique fridge ID decides concurrent creations, so at most one shopping list is created per fridge.
      *
      * @param id The ID of the shopping list.
-     * @return The created shopping list DTO, or null if the shopping list already exists or the fridge API response is empty.
-     * @throws JsonProcessingException if there is an error processing the JSON response.
+     * @return The created shopping list DTO, or null if the shopping list already exists or the fridge is unknown or empty.
      */
-    public ShoppingListDto createShoppingList(String id) throws JsonProcessingException {
-        if (shoppingListExist(id)) {
+    public ShoppingListDto createShoppingList(String id) {
+        if (shoppingListRepository.existsByFridgeId(id)) {
             return null;
         }
-        String url = "https://innovations.rola.com/build/rola/coolschrank/ongoing/application/fridge/" + id;
-        String response = this.webClient.get().uri(url).retrieve().bodyToMono(String.class).block();
-        ObjectMapper objectMapper = new ObjectMapper();
-        FridgeDto fridgeAPIDto = objectMapper.readValue(response, FridgeDto.class);
-        if (fridgeAPIDto.getInventory().size() == 0) {
+        try {
+            return saveShoppingList(id, fridgeService.getFridge(id));
+        } catch (DataIntegrityViolationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Creates a new shopping list based on the given ID without blocking the calling thread.
+     *
+     * @param id The ID of the shopping list.
+     * @return A Mono emitting the created shopping list DTO, or an empty Mono if the shopping list already exists or the fridge is unknown or empty.
+     */
+    public Mono<ShoppingListDto> createShoppingListReactive(String id) {
+        return jpaScheduler.call(() -> shoppingListRepository.existsByFridgeId(id))
+                .filter(exists -> !exists)
+                .flatMap(exists -> fridgeService.getFridgeReactive(id))
+                .flatMap(fridgeAPIDto -> jpaScheduler.call(() -> saveShoppingList(id, fridgeAPIDto)))
+                .onErrorResume(DataIntegrityViolationException.class, e -> Mono.empty());
+    }
+
+    /**
+     * Saves a new shopping list containing every item of the fridge that is below its target.
+     * The insert fails with a DataIntegrityViolationException if the fridge already has a shopping list.
+     *
+     * @param id The ID of the fridge.
+     * @param fridgeAPIDto The fridge retrieved from the fridge API.
+     * @return The created shopping list DTO, or null if the fridge is unknown or empty.
+     */
+    private ShoppingListDto saveShoppingList(String id, FridgeDto fridgeAPIDto) {
+        if (fridgeAPIDto == null || fridgeAPIDto.getInventory().size() == 0) {
             return null;
         }
 
@@ -76,117 +138,151 @@ public class ShoppingListService {
                 ));
             }
         }
-        ShoppingListEntity shoppingListAPIEntity = new ShoppingListEntity(1L, id, shoppingInventoryAPIEntityList);
-        return shoppingListMapper.toShoppingListDto(shoppingListRepository.save(shoppingListAPIEntity));
+        ShoppingListEntity shoppingListAPIEntity = new ShoppingListEntity(null, id, shoppingInventoryAPIEntityList);
+        ShoppingListEntity savedShoppingListEntity = serviceTracing.stage("shopping_list.save",
+                () -> serviceMetrics.timeRepository("shopping_list", "save", () -> shoppingListRepository.save(shoppingListAPIEntity)));
+        return serviceTracing.stage("shopping_list.map",
+                () -> serviceMetrics.timeMapping("shopping_list", () -> shoppingListMapper.toShoppingListDto(savedShoppingListEntity)));
     }
 
     /**
-     * Checks if a shopping list with the given ID already exists.
+     * Updates the shopping list by automatically retrieving data from the fridge API.
      *
      * @param id The ID of the shopping list.
-     * @return true if the shopping list exists, false otherwise.
+     * @param fridgeId The ID of the fridge.
+     * @return The updated shopping list DTO, or null if the shopping list doesn't exist or the fridge is unknown or empty.
      */
-    private boolean shoppingListExist(String id) {
-        for (ShoppingListEntity shoppingListAPIEntity : shoppingListRepository.findAll()) {
-            if (shoppingListAPIEntity.getFridgeId().equals(id)) {
-                return true;
-            }
+    public ShoppingListDto autoUpdateShoppingList(Long id, String fridgeId) {
+        ShoppingListEntity shoppingListEntity = serviceTracing.stage("shopping_list.load", () -> shoppingListRepository.findWithItemsById(id).orElse(null));
+        if (shoppingListEntity == null) {
+            return null;
         }
-        return false;
+        return reconcileShoppingList(shoppingListEntity, fridgeId, fridgeService.getFridge(fridgeId));
     }
 
     /**
-     * Updates the shopping list by automatically retrieving data from the fridge API.
+     * Updates the shopping list by automatically retrieving data from the fridge API without blocking the calling thread.
+     * The transaction loading, reconciling and saving the shopping list is traced as a stage of its own, so the time
+     * spent waiting for the JPA pool and flushing on commit shows up next to the stages inside it.
      *
      * @param id The ID of the shopping list.
      * @param fridgeId The ID of the fridge.
-     * @return The updated shopping list DTO, or null if the shopping list doesn't exist or the fridge API response is empty.
-     * @throws JsonProcessingException if there is an error processing the JSON response.
+     * @return A Mono emitting the updated shopping list DTO, or an empty Mono if the shopping list doesn't exist or the fridge is unknown or empty.
      */
-    public ShoppingListDto autoUpdateShoppingList(Long id, String fridgeId) throws JsonProcessingException {
-        ShoppingListEntity shoppingListEntity = shoppingListRepository.findById(id).orElse(null);
-        if (shoppingListEntity == null) {
+    public Mono<ShoppingListDto> autoUpdateShoppingListReactive(Long id, String fridgeId) {
+        return jpaScheduler.call(() -> shoppingListRepository.existsById(id))
+                .filter(exists -> exists)
+                .flatMap(exists -> fridgeService.getFridgeReactive(fridgeId))
+                .flatMap(fridgeAPIDto -> serviceTracing.stage("shopping_list.transaction", jpaScheduler.call(() -> {
+                    ShoppingListEntity shoppingListEntity = serviceTracing.stage("shopping_list.load", () -> shoppingListRepository.findWithItemsById(id).orElse(null));
+                    if (shoppingListEntity == null) {
+                        return null;
+                    }
+                    return reconcileShoppingList(shoppingListEntity, fridgeId, fridgeAPIDto);
+                })))
+                .doOnError(e -> {
+                    shoppingListChangeTracker.forget(id);
+                    shoppingListResponseCache.invalidate(id);
+                });
+    }
+
+    /**
+     * Reconciles a shopping list with the current inventory of its fridge and saves it if anything changed.
+     * Items are added for new positions below their target, updated to the missing amount and removed
+     * when their position left the fridge. If the fridge is unchanged since the last reconciliation,
+     * the shopping list of that reconciliation is returned as is. Every reconciliation is emitted as a
+     * {@link ReconciliationEvent} while a flight recording is running.
+     *
+     * @param shoppingListEntity The shopping list to update.
+     * @param fridgeId The ID of the fridge.
+     * @param fridgeAPIDto The fridge retrieved from the fridge API.
+     * @return The updated shopping list DTO, or null if the fridge is unknown or empty.
+     */
+    private ShoppingListDto reconcileShoppingList(ShoppingListEntity shoppingListEntity, String fridgeId, FridgeDto fridgeAPIDto) {
+        if (fridgeAPIDto == null || fridgeAPIDto.getInventory().size() == 0) {
             return null;
         }
-        String url = "https://innovations.rola.com/build/rola/coolschrank/ongoing/application/fridge/" + fridgeId;
-        String response = this.webClient.get().uri(url).retrieve().bodyToMono(String.class).block();
-        ObjectMapper objectMapper = new ObjectMapper();
-        FridgeDto fridgeAPIDto = objectMapper.readValue(response, FridgeDto.class);
-        if (fridgeAPIDto.getInventory().size() == 0) {
-            return null;
+        ReconciliationEvent event = new ReconciliationEvent();
+        event.begin();
+        long fingerprint = ShoppingListChangeTracker.fingerprint(fridgeId, fridgeAPIDto.getInventory());
+        ShoppingListDto unchanged = shoppingListChangeTracker.unchanged(shoppingListEntity.getId(), fingerprint);
+        if (unchanged != null) {
+            commitReconciliationEvent(event, shoppingListEntity, fridgeId, fridgeAPIDto, null);
+            return unchanged;
         }
-        float sum;
-        List<ShoppingInventoryEntity> shoppingInventoryEntityList = checkAndCompleteList(shoppingListEntity.getShoppingInventoryEntityList(), fridgeAPIDto.getInventory());
-        for (ShoppingInventoryEntity shoppingInventoryAPIEntity : shoppingInventoryEntityList) {
-            for (FridgeInventoryDto fridgeInvetoryAPIDto : fridgeAPIDto.getInventory()) {
-                if (shoppingInventoryAPIEntity.getFridgeInventoryId() == fridgeInvetoryAPIDto.getId()) {
-                    sum = fridgeInvetoryAPIDto.getTarget() - fridgeInvetoryAPIDto.getActual();
-                    if (sum < 0) {
-                        shoppingInventoryAPIEntity.setAmount(0);
-                    }
-                    shoppingInventoryAPIEntity.setAmount(sum);
-                }
-            }
+        ShoppingListReconciler.Reconciliation reconciliation = serviceTracing.stage("shopping_list.reconcile",
+                () -> shoppingListReconciler.reconcile(shoppingListEntity.getShoppingInventoryEntityList(), fridgeAPIDto.getInventory()));
+        commitReconciliationEvent(event, shoppingListEntity, fridgeId, fridgeAPIDto, reconciliation);
+        serviceMetrics.recordReconciliation(reconciliation);
+        if (reconciliation.hasChanges()) {
+            reconciliation.applyTo(shoppingListEntity);
+            serviceTracing.stage("shopping_list.save",
+                    () -> serviceMetrics.timeRepository("shopping_list", "save", () -> shoppingListRepository.save(shoppingListEntity)));
+            shoppingListResponseCache.invalidate(shoppingListEntity.getId());
         }
-        shoppingListEntity.setShoppingInventoryEntityList(shoppingInventoryEntityList);
-        shoppingListRepository.save(shoppingListEntity);
-        return shoppingListMapper.toShoppingListDto(shoppingListEntity);
+        ShoppingListDto shoppingListDto = serviceTracing.stage("shopping_list.map",
+                () -> serviceMetrics.timeMapping("shopping_list", () -> shoppingListMapper.toShoppingListDto(shoppingListEntity)));
+        shoppingListChangeTracker.remember(shoppingListEntity.getId(), fingerprint, shoppingListDto, reconciliation.hasChanges());
+        return shoppingListDto;
+    }
 
+    /**
+     * Commits the flight recorder event of a reconciliation, without a reconciliation if the fridge was unchanged.
+     */
+    private static void commitReconciliationEvent(ReconciliationEvent event, ShoppingListEntity shoppingListEntity, String fridgeId,
+                                                  FridgeDto fridgeAPIDto, ShoppingListReconciler.Reconciliation reconciliation) {
+        event.end();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.setShoppingListId(shoppingListEntity.getId() == null ? 0 : shoppingListEntity.getId());
+        event.setFridgeId(fridgeId);
+        event.setFridgeItems(fridgeAPIDto.getInventory().size());
+        event.setShoppingListItems(shoppingListEntity.getShoppingInventoryEntityList().size());
+        event.setUnchangedFridge(reconciliation == null);
+        if (reconciliation != null) {
+            event.setAddedItems(reconciliation.getAdded().size());
+            event.setChangedItems(reconciliation.getChanged().size());
+            event.setRemovedItems(reconciliation.getRemoved().size());
+        }
+        event.commit();
     }
 
     /**
      * Checks and completes the shopping inventory list based on the provided inventory.
+     * Existing items are left untouched, positions without an item are added if they are below their target.
      *
      * @param shoppingInventoryEntityList The original shopping inventory list.
      * @param inventory                  The inventory list.
      * @return The updated shopping inventory list.
      */
     public List<ShoppingInventoryEntity> checkAndCompleteList(List<ShoppingInventoryEntity> shoppingInventoryEntityList, List<FridgeInventoryDto> inventory) {
-        if (shoppingInventoryEntityList.size() == inventory.size()) {
-            return shoppingInventoryEntityList;
-        }
-        boolean exist = false;
-        for (FridgeInventoryDto fridgeInvetoryAPIDto : inventory) {
-            for (ShoppingInventoryEntity shoppingInventoryAPIEntity : shoppingInventoryEntityList) {
-                if (shoppingInventoryAPIEntity.getFridgeInventoryId() == fridgeInvetoryAPIDto.getId()) {
-                    exist = true;
-                }
-            }
-            if (!exist) {
-                float sum = fridgeInvetoryAPIDto.getTarget() - fridgeInvetoryAPIDto.getActual();
-                if (sum > 0) {
-                    shoppingInventoryEntityList.add(new ShoppingInventoryEntity(
-                            fridgeInvetoryAPIDto.getId(),
-                            fridgeInvetoryAPIDto.getName(),
-                            sum
-                    ));
-                }
-            }
-            exist = false;
-        }
+        shoppingInventoryEntityList.addAll(shoppingListReconciler.reconcile(shoppingInventoryEntityList, inventory).getAdded());
         return shoppingInventoryEntityList;
     }
 
     /**
      * Deletes a shopping inventory item from the shopping list.
+     * The item is deleted without loading the shopping list, with two statements whatever the size of the list: the
+     * SELECT of the item and its DELETE.
      *
      * @param id     The ID of the shopping list.
      * @param itemId The ID of the shopping inventory item.
-     * @return The deleted shopping inventory item.
+     * @return The deleted shopping inventory item, or null if the shopping list has no such item.
      */
     public ShoppingInventoryDto deleteShoppingInventory(Long id, Long itemId) {
-        if (shoppingListRepository.existsById(id)) {
-            ShoppingListEntity shoppingListAPIEntity = shoppingListRepository.findById(id).get();
-            for (ShoppingInventoryEntity shoppingInventoryAPIEntity : shoppingListAPIEntity.getShoppingInventoryEntityList()) {
-                System.out.println(shoppingInventoryAPIEntity.getAmount()+" < "+itemId);
-                if (shoppingInventoryAPIEntity.getId() == itemId) {
-                    shoppingListAPIEntity.getShoppingInventoryEntityList().remove(shoppingInventoryAPIEntity);
-                    shoppingListRepository.save(shoppingListAPIEntity);
-                    return shoppingListMapper.toShoppingInventoryDto(shoppingInventoryAPIEntity);
-                }
-            }
-        }
-        return null;
+        return toShoppingInventoryDto(id, serviceMetrics.timeRepository("shopping_inventory", "delete", () -> shoppingInventoryRepository.deleteFromShoppingList(id, itemId)));
+    }
+
+    /**
+     * Deletes a shopping inventory item from the shopping list without blocking the calling thread.
+     *
+     * @param id     The ID of the shopping list.
+     * @param itemId The ID of the shopping inventory item.
+     * @return A Mono emitting the deleted shopping inventory item, or an empty Mono if it doesn't exist.
+     */
+    public Mono<ShoppingInventoryDto> deleteShoppingInventoryReactive(Long id, Long itemId) {
+        return jpaScheduler.call(() -> deleteShoppingInventory(id, itemId));
     }
 
     /**
@@ -196,47 +292,135 @@ public class ShoppingListService {
      * @return The deleted shopping list.
      */
     public ShoppingListDto deleteShoppingList(Long id) {
-        if (shoppingListRepository.existsById(id)) {
-            ShoppingListEntity shoppingListAPIEntity = shoppingListRepository.findById(id).get();
-            shoppingListRepository.delete(shoppingListAPIEntity);
-            return shoppingListMapper.toShoppingListDto(shoppingListAPIEntity);
+        ShoppingListEntity shoppingListAPIEntity = shoppingListRepository.findWithItemsById(id).orElse(null);
+        if (shoppingListAPIEntity == null) {
+            return null;
         }
-        return null;
+        serviceMetrics.timeRepository("shopping_list", "delete", () -> {
+            shoppingListRepository.delete(shoppingListAPIEntity);
+            return null;
+        });
+        shoppingListChangeTracker.forget(id);
+        shoppingListResponseCache.invalidate(id);
+        return serviceMetrics.timeMapping("shopping_list", () -> shoppingListMapper.toShoppingListDto(shoppingListAPIEntity));
+    }
+
+    /**
+     * Deletes a shopping list without blocking the calling thread.
+     *
+     * @param id The ID of the shopping list.
+     * @return A Mono emitting the deleted shopping list, or an empty Mono if it doesn't exist.
+     */
+    public Mono<ShoppingListDto> deleteShoppingListReactive(Long id) {
+        return jpaScheduler.call(() -> deleteShoppingList(id));
     }
 
     /**
      * Updates a shopping list with the provided shopping inventory entity.
+     * Only the amount of the item is updated, without loading the shopping list, with two statements whatever the size
+     * of the list: the SELECT of the item and its UPDATE.
      *
      * @param id                       The ID of the shopping list.
      * @param shoppingInventoryAPIEntity The shopping inventory entity.
-     * @return The updated shopping inventory item.
+     * @return The updated shopping inventory item, or null if the shopping list has no such item.
      */
     public ShoppingInventoryDto updateShoppingList(Long id, ShoppingInventoryEntity shoppingInventoryAPIEntity) {
-        if (shoppingListRepository.existsById(id)) {
-            ShoppingListEntity shoppingListAPIEntity = shoppingListRepository.findById(id).get();
-            for (ShoppingInventoryEntity result : shoppingListAPIEntity.getShoppingInventoryEntityList()) {
-                if (result.getId() == shoppingInventoryAPIEntity.getId()) {
-                    result.setAmount(shoppingInventoryAPIEntity.getAmount());
-                    shoppingListRepository.save(shoppingListAPIEntity);
-                    return shoppingListMapper.toShoppingInventoryDto(result);
-                }
-            }
+        return toShoppingInventoryDto(id, serviceMetrics.timeRepository("shopping_inventory", "update_amount",
+                () -> shoppingInventoryRepository.updateAmount(id, shoppingInventoryAPIEntity.getId(), shoppingInventoryAPIEntity.getAmount())));
+    }
+
+    /**
+     * Maps the item affected by a change of a shopping list. A changed shopping list is reconciled again on its next automatic update,
+     * and the item is evicted from the second-level cache, as Hibernate does not update the cached items of the shopping list.
+     *
+     * @param id                       The ID of the shopping list.
+     * @param shoppingInventoryEntity  The affected item, if any.
+     * @return The affected shopping inventory item, or null if no item was affected.
+     */
+    private ShoppingInventoryDto toShoppingInventoryDto(Long id, Optional<ShoppingInventoryEntity> shoppingInventoryEntity) {
+        if (shoppingInventoryEntity.isEmpty()) {
+            return null;
         }
-        return null;
+        shoppingListChangeTracker.forget(id);
+        shoppingListResponseCache.invalidate(id);
+        secondLevelCacheService.evictShoppingInventory(id, shoppingInventoryEntity.get().getId());
+        return serviceMetrics.timeMapping("shopping_inventory", () -> shoppingListMapper.toShoppingInventoryDto(shoppingInventoryEntity.get()));
+    }
+
+    /**
+     * Updates a shopping list with the provided shopping inventory entity without blocking the calling thread.
+     *
+     * @param id                       The ID of the shopping list.
+     * @param shoppingInventoryAPIEntity The shopping inventory entity.
+     * @return A Mono emitting the updated shopping inventory item, or an empty Mono if it doesn't exist.
+     */
+    public Mono<ShoppingInventoryDto> updateShoppingListReactive(Long id, ShoppingInventoryEntity shoppingInventoryAPIEntity) {
+        return jpaScheduler.call(() -> updateShoppingList(id, shoppingInventoryAPIEntity));
     }
 
     /**
      * Retrieves a shopping list based on the specified ID.
+     * The shopping list is read as a DTO projection without loading any entity.
      *
      * @param id The ID of the shopping list.
      * @return The ShoppingListDto object representing the retrieved shopping list, or null if no shopping list is found.
      */
     public ShoppingListDto getShoppingList(Long id) {
-        ShoppingListEntity shoppingListAPIEntity = shoppingListRepository.findById(id).orElse(null);
-        if (shoppingListAPIEntity == null) {
-            return null;
+        return shoppingListRepository.findDtoById(id).orElse(null);
+    }
+
+    /**
+     * Retrieves a shopping list based on the specified ID without blocking the calling thread.
+     *
+     * @param id The ID of the shopping list.
+     * @return A Mono emitting the retrieved shopping list, or an empty Mono if no shopping list is found.
+     */
+    public Mono<ShoppingListDto> getShoppingListReactive(Long id) {
+        return jpaScheduler.call(() -> getShoppingList(id));
+    }
+
+    /**
+     * Retrieves the encoded JSON response of a shopping list, served from the response cache if the shopping list
+     * hasn't changed since it was last read.
+     *
+     * @param id The ID of the shopping list.
+     * @return The encoded shopping list, or null if no shopping list is found.
+     */
+    public EncodedShoppingList getEncodedShoppingList(Long id) {
+        return shoppingListResponseCache.get(id, this::getShoppingList);
+    }
+
+    /**
+     * Retrieves the encoded JSON response of a shopping list without blocking the calling thread.
+     * A cached response is returned directly, only a miss is read on the JPA scheduler.
+     *
+     * @param id The ID of the shopping list.
+     * @return A Mono emitting the encoded shopping list, or an empty Mono if no shopping list is found.
+     */
+    public Mono<EncodedShoppingList> getEncodedShoppingListReactive(Long id) {
+        EncodedShoppingList encodedShoppingList = shoppingListResponseCache.getIfPresent(id);
+        if (encodedShoppingList != null) {
+            return Mono.just(encodedShoppingList);
         }
-        return shoppingListMapper.toShoppingListDto(shoppingListAPIEntity);
+        return jpaScheduler.call(() -> getEncodedShoppingList(id));
+    }
+
+    /**
+     * Retrieves the statistics of the automatic shopping list updates.
+     *
+     * @return The statistics of the automatic updates.
+     */
+    public ShoppingListUpdateStatsDto getUpdateStats() {
+        return shoppingListChangeTracker.stats();
+    }
+
+    /**
+     * Retrieves the statistics of the second-level cache regions holding shopping lists.
+     *
+     * @return The statistics of every region, or an empty list if the cache is disabled.
+     */
+    public List<CacheRegionStatsDto> getCacheStats() {
+        return secondLevelCacheService.getStats(SecondLevelCacheService.SHOPPING_LIST_REGIONS);
     }
 
 }
@@ -1,14 +1,19 @@
 package de.markus.meier.coolschrank.service;
 
+import de.markus.meier.coolschrank.model.dto.CacheRegionStatsDto;
 import de.markus.meier.coolschrank.model.dto.UserDto;
 import de.markus.meier.coolschrank.model.model.UserEntity;
 import de.markus.meier.coolschrank.repository.UserRepository;
 import de.markus.meier.coolschrank.util.UserMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
 
 /**
  * Service class for managing user-related operations.
+ * The reactive variants run the blocking JPA work on the {@link JpaScheduler}.
  */
 @Service
 public class UserService {
@@ -17,16 +22,28 @@ public class UserService {
 
     private final UserMapper userMapper;
 
+    private final SecondLevelCacheService secondLevelCacheService;
+
+    private final ServiceMetrics serviceMetrics;
+
+    private final JpaScheduler jpaScheduler;
+
     /**
      * Constructs a new instance of the UserService class.
      *
      * @param userAPIRepository The UserRepository used for accessing user data.
      * @param userMapper        The UserMapper used for mapping between UserEntity and UserDto.
+     * @param secondLevelCacheService The service reporting the statistics of the second-level cache.
+     * @param serviceMetrics    The metrics of the repository writes and mappings.
+     * @param jpaScheduler      The scheduler running JPA work for the reactive methods.
      */
     @Autowired
-    public UserService(UserRepository userAPIRepository, UserMapper userMapper) {
+    public UserService(UserRepository userAPIRepository, UserMapper userMapper, SecondLevelCacheService secondLevelCacheService, ServiceMetrics serviceMetrics, JpaScheduler jpaScheduler) {
         this.userAPIRepository = userAPIRepository;
         this.userMapper = userMapper;
+        this.secondLevelCacheService = secondLevelCacheService;
+        this.serviceMetrics = serviceMetrics;
+        this.jpaScheduler = jpaScheduler;
     }
 
     /**
@@ -36,7 +53,17 @@ public class UserService {
      * @return The ID of the new user.
      */
     public Long createUser(UserDto userDto){
-        return userAPIRepository.save(new UserEntity(userDto.getUsername(), userDto.getPassword(), null)).getId();
+        return serviceMetrics.timeRepository("user", "save", () -> userAPIRepository.save(new UserEntity(userDto.getUsername(), userDto.getPassword(), null))).getId();
+    }
+
+    /**
+     * Creates a new user without blocking the calling thread.
+     *
+     * @param userDto Data for the new user.
+     * @return A Mono emitting the ID of the new user.
+     */
+    public Mono<Long> createUserReactive(UserDto userDto) {
+        return jpaScheduler.call(() -> createUser(userDto));
     }
 
     /**
@@ -50,7 +77,17 @@ public class UserService {
         if(userEntity == null){
             return null;
         }
-        return userMapper.toUserDto(userAPIRepository.findById(id).get());
+        return serviceMetrics.timeMapping("user", () -> userMapper.toUserDto(userEntity));
+    }
+
+    /**
+     * Retrieves a user based on the specified ID without blocking the calling thread.
+     *
+     * @param id The ID of the user to retrieve.
+     * @return A Mono emitting the retrieved user, or an empty Mono if no user is found.
+     */
+    public Mono<UserDto> getUserReactive(Long id) {
+        return jpaScheduler.call(() -> getUser(id));
     }
 
     /**
@@ -66,7 +103,28 @@ public class UserService {
             return null;
         }
         userEntity.setFridgeId(fridgeId);
-        return userMapper.toUserDto(userAPIRepository.save(userEntity));
+        UserEntity savedUserEntity = serviceMetrics.timeRepository("user", "save", () -> userAPIRepository.save(userEntity));
+        return serviceMetrics.timeMapping("user", () -> userMapper.toUserDto(savedUserEntity));
+    }
+
+    /**
+     * Updates the fridge ID of the user without blocking the calling thread.
+     *
+     * @param id       The ID of the user.
+     * @param fridgeId The ID of the fridge.
+     * @return A Mono emitting the updated user, or an empty Mono if no user is found.
+     */
+    public Mono<UserDto> updateFrigdeIdReactive(Long id, String fridgeId) {
+        return jpaScheduler.call(() -> updateFrigdeId(id, fridgeId));
+    }
+
+    /**
+     * Retrieves the statistics of the second-level cache region holding users.
+     *
+     * @return The statistics of the region, or an empty list if the cache is disabled.
+     */
+    public List<CacheRegionStatsDto> getCacheStats() {
+        return secondLevelCacheService.getStats(SecondLevelCacheService.USER_REGIONS);
     }
 
 }
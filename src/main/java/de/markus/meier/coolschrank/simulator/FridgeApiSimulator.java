@@ -0,0 +1,290 @@
+package de.markus.meier.coolschrank.simulator;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.markus.meier.coolschrank.model.dto.FridgeDto;
+import de.markus.meier.coolschrank.model.dto.FridgeInventoryDto;
+import de.markus.meier.coolschrank.model.model.FridgeInventoryEntity;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * The FridgeApiSimulator class is an in-process stand-in for the remote fridge API.
+ * It offers the endpoints the application uses (create a fridge, read a fridge, add and update an inventory item)
+ * on a local port and keeps the fridges in memory. Every response is delayed by a latency drawn from a log-normal
+ * distribution, and a configurable fraction of requests fails, so the application can be load-tested end to end
+ * without network access. Reads send an entity tag and answer a matching If-None-Match with 304 Not Modified.
+ */
+public class FridgeApiSimulator implements FridgeApiStandIn {
+
+    /**
+     * The z-score of the 99th percentile of the standard normal distribution.
+     */
+    private static final double Z_99 = 2.326;
+
+    private final FridgeSimulatorProperties properties;
+
+    private final ObjectMapper objectMapper;
+
+    private final double latencyMu;
+
+    private final double latencySigma;
+
+    private final Map<String, SimulatedFridge> fridges = new ConcurrentHashMap<>();
+
+    private final LongAdder requestCount = new LongAdder();
+
+    private final LongAdder errorCount = new LongAdder();
+
+    private final DisposableServer server;
+
+    /**
+     * Starts a new FridgeApiSimulator with the specified properties.
+     *
+     * @param properties   The latency, failure and inventory settings.
+     * @param objectMapper The object mapper used for the JSON bodies.
+     */
+    public FridgeApiSimulator(FridgeSimulatorProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        double median = properties.getLatencyMedian().toNanos();
+        double p99 = properties.getLatencyP99().toNanos();
+        this.latencyMu = Math.log(Math.max(median, 1));
+        this.latencySigma = p99 > median ? (Math.log(p99) - latencyMu) / Z_99 : 0;
+        this.server = HttpServer.create()
+                .host("localhost")
+                .port(properties.getPort())
+                .route(routes -> routes
+                        .post("/fridge", (request, response) -> simulate(response, this::createFridge))
+                        .get("/fridge/{id}", (request, response) -> simulate(response, () -> getFridge(request)))
+                        .post("/fridge/{id}/item", (request, response) -> simulate(response, () -> body(request, FridgeInventoryEntity.class)
+                                .map(item -> addItem(request.param("id"), item))))
+                        .post("/fridge/{id}/item/{itemId}", (request, response) -> simulate(response, () -> body(request, FridgeInventoryDto.class)
+                                .map(item -> updateItem(request.param("id"), Long.parseLong(request.param("itemId")), item)))))
+                .bindNow();
+    }
+
+    @Override
+    public String baseUrl() {
+        return "http://localhost:" + server.port();
+    }
+
+    /**
+     * Retrieves the number of requests received.
+     *
+     * @return The number of requests.
+     */
+    public long getRequestCount() {
+        return requestCount.sum();
+    }
+
+    /**
+     * Retrieves the number of requests answered with the error status.
+     *
+     * @return The number of failed requests.
+     */
+    public long getErrorCount() {
+        return errorCount.sum();
+    }
+
+    @Override
+    public void close() {
+        server.disposeNow();
+    }
+
+    /**
+     * Answers a request after the simulated latency, either with the error status or with the given answer.
+     */
+    private Publisher<Void> simulate(HttpServerResponse response, AnswerSupplier answer) {
+        requestCount.increment();
+        return Mono.delay(sampleLatency()).then(Mono.defer(() -> {
+            if (ThreadLocalRandom.current().nextDouble() < properties.getErrorRate()) {
+                errorCount.increment();
+                return response.status(properties.getErrorStatus()).send().then();
+            }
+            return answer.get().flatMap(result -> write(response, result));
+        }));
+    }
+
+    private Duration sampleLatency() {
+        double gaussian = latencySigma == 0 ? 0 : ThreadLocalRandom.current().nextGaussian();
+        return Duration.ofNanos((long) Math.exp(latencyMu + latencySigma * gaussian));
+    }
+
+    private Mono<Answer> createFridge() {
+        SimulatedFridge fridge = newFridge(UUID.randomUUID().toString());
+        fridges.put(fridge.id, fridge);
+        return Mono.just(Answer.ok(fridge.toDto(), fridge.eTag()));
+    }
+
+    private Mono<Answer> getFridge(HttpServerRequest request) {
+        String id = request.param("id");
+        SimulatedFridge fridge = properties.isAutoCreate() ? fridges.computeIfAbsent(id, this::newFridge) : fridges.get(id);
+        if (fridge == null) {
+            return Mono.just(Answer.status(HttpResponseStatus.NOT_FOUND));
+        }
+        synchronized (fridge) {
+            String eTag = fridge.eTag();
+            if (eTag.equals(request.requestHeaders().get(HttpHeaderNames.IF_NONE_MATCH))) {
+                return Mono.just(new Answer(HttpResponseStatus.NOT_MODIFIED, null, eTag));
+            }
+            return Mono.just(Answer.ok(fridge.toDto(), eTag));
+        }
+    }
+
+    private Answer addItem(String fridgeId, FridgeInventoryEntity item) {
+        SimulatedFridge fridge = fridges.get(fridgeId);
+        if (fridge == null) {
+            return Answer.status(HttpResponseStatus.NOT_FOUND);
+        }
+        if (item.getName() == null || item.getName().isBlank() || item.getTarget() < 0) {
+            return Answer.status(HttpResponseStatus.BAD_REQUEST);
+        }
+        synchronized (fridge) {
+            FridgeInventoryDto added = new FridgeInventoryDto(fridge.nextItemId++, item.getName(), 0, item.getTarget());
+            fridge.inventory.add(added);
+            fridge.version++;
+            return Answer.ok(copy(added), null);
+        }
+    }
+
+    private Answer updateItem(String fridgeId, long itemId, FridgeInventoryDto item) {
+        SimulatedFridge fridge = fridges.get(fridgeId);
+        if (fridge == null) {
+            return Answer.status(HttpResponseStatus.NOT_FOUND);
+        }
+        if (item.getActual() < 0 || item.getTarget() < 0) {
+            return Answer.status(HttpResponseStatus.BAD_REQUEST);
+        }
+        synchronized (fridge) {
+            for (FridgeInventoryDto existing : fridge.inventory) {
+                if (existing.getId() == itemId) {
+                    if (item.getName() != null) {
+                        existing.setName(item.getName());
+                    }
+                    existing.setActual(item.getActual());
+                    existing.setTarget(item.getTarget());
+                    fridge.version++;
+                    return Answer.ok(copy(existing), null);
+                }
+            }
+        }
+        return Answer.status(HttpResponseStatus.NOT_FOUND);
+    }
+
+    /**
+     * Creates a fridge with the configured number of items, most of them below their target.
+     */
+    private SimulatedFridge newFridge(String id) {
+        SimulatedFridge fridge = new SimulatedFridge(id);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < properties.getInventorySize(); i++) {
+            float target = 1 + random.nextInt(10);
+            fridge.inventory.add(new FridgeInventoryDto(fridge.nextItemId++, "Item " + (i + 1), random.nextInt((int) target + 1), target));
+        }
+        return fridge;
+    }
+
+    private <T> Mono<T> body(HttpServerRequest request, Class<T> type) {
+        return request.receive().aggregate().asByteArray().map(bytes -> {
+            try {
+                return objectMapper.readValue(bytes, type);
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Malformed request body", e);
+            }
+        });
+    }
+
+    private Mono<Void> write(HttpServerResponse response, Answer answer) {
+        response.status(answer.status);
+        if (answer.eTag != null) {
+            response.header(HttpHeaderNames.ETAG, answer.eTag);
+        }
+        if (answer.body == null) {
+            return response.send().then();
+        }
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(answer.body);
+        } catch (JsonProcessingException e) {
+            return Mono.error(e);
+        }
+        return response.header(HttpHeaderNames.CONTENT_TYPE, "application/json")
+                .sendByteArray(Mono.just(body))
+                .then();
+    }
+
+    private static FridgeInventoryDto copy(FridgeInventoryDto item) {
+        return new FridgeInventoryDto(item.getId(), item.getName(), item.getActual(), item.getTarget());
+    }
+
+    /**
+     * Supplies the answer of a request once the simulated latency has passed.
+     */
+    @FunctionalInterface
+    private interface AnswerSupplier {
+        Mono<Answer> get();
+    }
+
+    /**
+     * The status, body and entity tag of a response.
+     */
+    private record Answer(HttpResponseStatus status, Object body, String eTag) {
+
+        static Answer ok(Object body, String eTag) {
+            return new Answer(HttpResponseStatus.OK, body, eTag);
+        }
+
+        static Answer status(HttpResponseStatus status) {
+            return new Answer(status, null, null);
+        }
+    }
+
+    /**
+     * A fridge held by the simulator. Every change increments the version, which is part of the entity tag.
+     * Access to the inventory is synchronized on the fridge.
+     */
+    private static final class SimulatedFridge {
+
+        private final String id;
+
+        private final List<FridgeInventoryDto> inventory = new ArrayList<>();
+
+        private long nextItemId = 1;
+
+        private long version = 1;
+
+        private SimulatedFridge(String id) {
+            this.id = id;
+        }
+
+        private synchronized String eTag() {
+            return "\"" + id + "-" + version + "\"";
+        }
+
+        private synchronized FridgeDto toDto() {
+            List<FridgeInventoryDto> items = new ArrayList<>(inventory.size());
+            for (FridgeInventoryDto item : inventory) {
+                items.add(copy(item));
+            }
+            return new FridgeDto(id, items);
+        }
+    }
+}
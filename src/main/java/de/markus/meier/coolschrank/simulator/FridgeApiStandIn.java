@@ -0,0 +1,20 @@
+package de.markus.meier.coolschrank.simulator;
+
+/**
+ * The FridgeApiStandIn interface is implemented by the local servers that can take the place of the remote fridge API.
+ */
+public interface FridgeApiStandIn extends AutoCloseable {
+
+    /**
+     * Returns the base URL to configure as {@code fridge.api.base-url}.
+     *
+     * @return The base URL of the stand-in.
+     */
+    String baseUrl();
+
+    /**
+     * Stops the stand-in.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,34 @@
+package de.markus.meier.coolschrank.simulator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.markus.meier.coolschrank.config.FridgeApiProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Configuration of the embedded fridge API simulator, activated with the {@code fridge-simulator} profile.
+ * The application then talks to the simulator instead of the remote fridge API.
+ */
+@Configuration
+@Profile("fridge-simulator")
+@EnableConfigurationProperties(FridgeSimulatorProperties.class)
+public class FridgeSimulatorConfig {
+
+    /**
+     * Starts the simulator and points the fridge API base URL at it.
+     *
+     * @param fridgeSimulatorProperties the latency, failure and inventory settings of the simulator
+     * @param objectMapper the shared object mapper
+     * @param fridgeApiProperties the settings of the remote fridge API
+     * @return the running simulator
+     */
+    @Bean(destroyMethod = "close")
+    public FridgeApiSimulator fridgeApiSimulator(FridgeSimulatorProperties fridgeSimulatorProperties, ObjectMapper objectMapper,
+                                                 FridgeApiProperties fridgeApiProperties) {
+        FridgeApiSimulator simulator = new FridgeApiSimulator(fridgeSimulatorProperties, objectMapper);
+        fridgeApiProperties.setBaseUrl(simulator.baseUrl());
+        return simulator;
+    }
+}
@@ -0,0 +1,54 @@
+package de.markus.meier.coolschrank.simulator;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * The FridgeSimulatorProperties class holds the configuration of the embedded fridge API simulator.
+ * All values are bound from the {@code fridge.simulator} prefix.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "fridge.simulator")
+public class FridgeSimulatorProperties {
+
+    /**
+     * The port the simulator listens on, 0 for a free port.
+     */
+    private int port = 0;
+
+    /**
+     * The median latency of a response.
+     */
+    private Duration latencyMedian = Duration.ofMillis(20);
+
+    /**
+     * The 99th percentile latency of a response. Latencies follow a log-normal distribution through the median and
+     * this percentile; a value not above the median gives every response the median latency.
+     */
+    private Duration latencyP99 = Duration.ofMillis(100);
+
+    /**
+     * The fraction of requests, between 0 and 1, answered with the error status instead of a result.
+     */
+    private double errorRate = 0;
+
+    /**
+     * The status of the failed responses.
+     */
+    private int errorStatus = 503;
+
+    /**
+     * The number of inventory items a new fridge starts with.
+     */
+    private int inventorySize = 10;
+
+    /**
+     * Whether reading an unknown fridge creates it instead of answering 404 Not Found,
+     * so load tests can use arbitrary fridge IDs.
+     */
+    private boolean autoCreate = false;
+}
@@ -0,0 +1,56 @@
+package de.markus.meier.coolschrank.simulator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.markus.meier.coolschrank.config.FridgeApiProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Configuration of recording and replaying the traffic to the remote fridge API.
+ * The {@code fridge-recording} profile captures every exchange into a file, the {@code fridge-replay} profile serves
+ * such a file from a local stand-in, so different builds can be compared under identical upstream traffic.
+ */
+@Configuration
+@EnableConfigurationProperties(FridgeTrafficProperties.class)
+public class FridgeTrafficConfig {
+
+    /**
+     * Creates the recorder installed on the fridge web client.
+     *
+     * @param fridgeTrafficProperties the recording and replay settings
+     * @param fridgeApiProperties the settings of the remote fridge API
+     * @param objectMapper the shared object mapper
+     * @return the traffic recorder
+     * @throws IOException if the recording file cannot be created
+     */
+    @Bean(destroyMethod = "close")
+    @Profile("fridge-recording")
+    public FridgeTrafficRecorder fridgeTrafficRecorder(FridgeTrafficProperties fridgeTrafficProperties, FridgeApiProperties fridgeApiProperties,
+                                                       ObjectMapper objectMapper) throws IOException {
+        return new FridgeTrafficRecorder(fridgeApiProperties, objectMapper, Path.of(fridgeTrafficProperties.getRecordFile()));
+    }
+
+    /**
+     * Starts the replay stand-in and points the fridge API base URL at it.
+     *
+     * @param fridgeTrafficProperties the recording and replay settings
+     * @param fridgeApiProperties the settings of the remote fridge API
+     * @param objectMapper the shared object mapper
+     * @return the running replay stand-in
+     * @throws IOException if the recording cannot be read
+     */
+    @Bean(destroyMethod = "close")
+    @Profile("fridge-replay")
+    public FridgeTrafficReplayServer fridgeTrafficReplayServer(FridgeTrafficProperties fridgeTrafficProperties, FridgeApiProperties fridgeApiProperties,
+                                                               ObjectMapper objectMapper) throws IOException {
+        FridgeTrafficReplayServer replayServer = new FridgeTrafficReplayServer(
+                FridgeTrafficFile.read(Path.of(fridgeTrafficProperties.getReplayFile()), objectMapper), fridgeTrafficProperties.getReplaySpeed());
+        fridgeApiProperties.setBaseUrl(replayServer.baseUrl());
+        return replayServer;
+    }
+}
@@ -0,0 +1,77 @@
+package de.markus.meier.coolschrank.simulator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The FridgeTrafficFile class reads and writes traffic recordings.
+ * A recording holds one {@link RecordedExchange} per line as JSON, gzip-compressed if the file name ends with
+ * {@code .gz}.
+ */
+public final class FridgeTrafficFile {
+
+    private FridgeTrafficFile() {
+    }
+
+    /**
+     * Opens a recording for writing, replacing an existing file.
+     *
+     * @param file The file to write.
+     * @return The writer of the recording.
+     * @throws IOException if the file cannot be created.
+     */
+    public static BufferedWriter openWriter(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        OutputStream out = Files.newOutputStream(file);
+        if (isCompressed(file)) {
+            out = new GZIPOutputStream(out, 64 * 1024);
+        }
+        return new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reads all exchanges of a recording in the order they were written.
+     *
+     * @param file         The file to read.
+     * @param objectMapper The object mapper used for the JSON lines.
+     * @return The recorded exchanges.
+     * @throws IOException if the file cannot be read.
+     */
+    public static List<RecordedExchange> read(Path file, ObjectMapper objectMapper) throws IOException {
+        InputStream in = Files.newInputStream(file);
+        if (isCompressed(file)) {
+            in = new GZIPInputStream(in, 64 * 1024);
+        }
+        List<RecordedExchange> exchanges = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    exchanges.add(objectMapper.readValue(line, RecordedExchange.class));
+                }
+            }
+        }
+        return exchanges;
+    }
+
+    private static boolean isCompressed(Path file) {
+        return file.getFileName().toString().endsWith(".gz");
+    }
+}
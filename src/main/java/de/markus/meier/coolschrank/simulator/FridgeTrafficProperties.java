@@ -0,0 +1,30 @@
+package de.markus.meier.coolschrank.simulator;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * The FridgeTrafficProperties class holds the settings of recording and replaying the traffic to the remote fridge API.
+ * All values are bound from the {@code fridge.traffic} prefix.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "fridge.traffic")
+public class FridgeTrafficProperties {
+
+    /**
+     * The file the {@code fridge-recording} profile writes the exchanges to.
+     */
+    private String recordFile = "fridge-traffic.jsonl.gz";
+
+    /**
+     * The recording the {@code fridge-replay} profile serves.
+     */
+    private String replayFile = "fridge-traffic.jsonl.gz";
+
+    /**
+     * The speed of the replay, 2 answers every request in half the recorded time.
+     */
+    private double replaySpeed = 1;
+}
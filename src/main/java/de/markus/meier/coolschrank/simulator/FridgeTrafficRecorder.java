@@ -0,0 +1,134 @@
+package de.markus.meier.coolschrank.simulator;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.markus.meier.coolschrank.config.FridgeApiProperties;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.reactive.ClientHttpRequestDecorator;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The FridgeTrafficRecorder class captures the exchanges with the remote fridge API into a traffic recording.
+ * It is installed as a filter of the fridge web client and records the method, path, bodies, entity tags and timing of
+ * every completed exchange, so the traffic can later be served again by a {@link FridgeTrafficReplayServer}.
+ * Lines are buffered in memory and the file is complete once the recorder is closed.
+ */
+public class FridgeTrafficRecorder implements ExchangeFilterFunction, AutoCloseable {
+
+    private final FridgeApiProperties fridgeApiProperties;
+
+    private final ObjectMapper objectMapper;
+
+    private final BufferedWriter writer;
+
+    private final long startNanos = System.nanoTime();
+
+    private final LongAdder recordedCount = new LongAdder();
+
+    /**
+     * Constructs a new FridgeTrafficRecorder writing to the specified file.
+     *
+     * @param fridgeApiProperties The settings of the remote fridge API, used to make the recorded paths relative.
+     * @param objectMapper        The object mapper used for the JSON lines.
+     * @param file                The file to write the recording to.
+     * @throws IOException if the file cannot be created.
+     */
+    public FridgeTrafficRecorder(FridgeApiProperties fridgeApiProperties, ObjectMapper objectMapper, Path file) throws IOException {
+        this.fridgeApiProperties = fridgeApiProperties;
+        this.objectMapper = objectMapper;
+        this.writer = FridgeTrafficFile.openWriter(file);
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        long start = System.nanoTime();
+        StringBuilder requestBody = new StringBuilder();
+        ClientRequest capturing = ClientRequest.from(request)
+                .body((outputMessage, context) -> request.body().insert(new ClientHttpRequestDecorator(outputMessage) {
+                    @Override
+                    public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                        return super.writeWith(Flux.from(body).doOnNext(buffer -> requestBody.append(
+                                buffer.toString(buffer.readPosition(), buffer.readableByteCount(), StandardCharsets.UTF_8))));
+                    }
+                }, context))
+                .build();
+        return next.exchange(capturing).flatMap(response -> response.bodyToMono(String.class)
+                .defaultIfEmpty("")
+                .map(body -> {
+                    record(request, requestBody, response, body, start);
+                    return response.mutate().body(body).build();
+                }));
+    }
+
+    /**
+     * Retrieves the number of exchanges recorded.
+     *
+     * @return The number of recorded exchanges.
+     */
+    public long getRecordedCount() {
+        return recordedCount.sum();
+    }
+
+    /**
+     * Writes the buffered lines and closes the recording.
+     */
+    @Override
+    public void close() {
+        synchronized (writer) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private void record(ClientRequest request, CharSequence requestBody, ClientResponse response, String responseBody, long start) {
+        long end = System.nanoTime();
+        RecordedExchange exchange = new RecordedExchange(
+                TimeUnit.NANOSECONDS.toMicros(start - startNanos),
+                TimeUnit.NANOSECONDS.toMicros(end - start),
+                request.method().name(),
+                relativePath(request.url().toString()),
+                request.headers().getFirst(HttpHeaders.IF_NONE_MATCH),
+                requestBody.isEmpty() ? null : requestBody.toString(),
+                response.statusCode().value(),
+                response.headers().asHttpHeaders().getETag(),
+                responseBody.isEmpty() ? null : responseBody);
+        String line;
+        try {
+            line = objectMapper.writeValueAsString(exchange);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+        synchronized (writer) {
+            try {
+                writer.write(line);
+                writer.newLine();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        recordedCount.increment();
+    }
+
+    private String relativePath(String url) {
+        String baseUrl = fridgeApiProperties.getBaseUrl();
+        return url.startsWith(baseUrl) ? url.substring(baseUrl.length()) : url;
+    }
+}
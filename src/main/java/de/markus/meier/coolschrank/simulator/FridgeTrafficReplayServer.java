@@ -0,0 +1,142 @@
+package de.markus.meier.coolschrank.simulator;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The FridgeTrafficReplayServer class is a local stand-in for the remote fridge API that serves a traffic recording.
+ * Requests are matched on method and path; the responses recorded for a request are served in their recorded order,
+ * starting over once all have been served, and each is delayed by its recorded latency divided by the replay speed.
+ * A recorded 304 Not Modified is only served to a request revalidating the recorded entity tag, any other request
+ * receives the last full response recorded before it. Requests that were never recorded are answered with
+ * 404 Not Found.
+ */
+public class FridgeTrafficReplayServer implements FridgeApiStandIn {
+
+    private final Map<String, List<RecordedExchange>> exchanges = new HashMap<>();
+
+    private final Map<String, AtomicInteger> cursors = new HashMap<>();
+
+    private final double speed;
+
+    private final LongAdder servedCount = new LongAdder();
+
+    private final LongAdder unmatchedCount = new LongAdder();
+
+    private final DisposableServer server;
+
+    /**
+     * Starts a new FridgeTrafficReplayServer on a free port.
+     *
+     * @param recording The recorded exchanges, in recorded order.
+     * @param speed     The speed of the replay, 2 answers every request in half the recorded time.
+     */
+    public FridgeTrafficReplayServer(List<RecordedExchange> recording, double speed) {
+        if (!(speed > 0)) {
+            throw new IllegalArgumentException("The replay speed must be positive, but was " + speed);
+        }
+        this.speed = speed;
+        for (RecordedExchange exchange : recording) {
+            String key = key(exchange.getMethod(), exchange.getPath());
+            exchanges.computeIfAbsent(key, k -> new ArrayList<>()).add(exchange);
+            cursors.putIfAbsent(key, new AtomicInteger());
+        }
+        this.server = HttpServer.create()
+                .host("localhost")
+                .port(0)
+                .handle(this::replay)
+                .bindNow();
+    }
+
+    @Override
+    public String baseUrl() {
+        return "http://localhost:" + server.port();
+    }
+
+    /**
+     * Retrieves the number of requests answered from the recording.
+     *
+     * @return The number of served requests.
+     */
+    public long getServedCount() {
+        return servedCount.sum();
+    }
+
+    /**
+     * Retrieves the number of requests that had no recorded response.
+     *
+     * @return The number of unmatched requests.
+     */
+    public long getUnmatchedCount() {
+        return unmatchedCount.sum();
+    }
+
+    @Override
+    public void close() {
+        server.disposeNow();
+    }
+
+    private Publisher<Void> replay(HttpServerRequest request, HttpServerResponse response) {
+        String key = key(request.method().name(), request.uri());
+        List<RecordedExchange> recorded = exchanges.get(key);
+        if (recorded == null) {
+            unmatchedCount.increment();
+            return request.receive().then(response.status(HttpResponseStatus.NOT_FOUND).send());
+        }
+        servedCount.increment();
+        int index = Math.floorMod(cursors.get(key).getAndIncrement(), recorded.size());
+        RecordedExchange exchange = recorded.get(index);
+        RecordedExchange answer = exchange;
+        if (exchange.getStatus() == HttpResponseStatus.NOT_MODIFIED.code()
+                && !Objects.equals(exchange.getIfNoneMatch(), request.requestHeaders().get(HttpHeaderNames.IF_NONE_MATCH))) {
+            answer = lastFullResponse(recorded, index);
+        }
+        Duration latency = Duration.ofNanos((long) (exchange.getLatencyMicros() * 1000 / speed));
+        return request.receive().then(Mono.delay(latency)).then(write(response, answer));
+    }
+
+    /**
+     * Finds the last response with a body recorded before the given index, or the exchange at the index if there is none.
+     */
+    private static RecordedExchange lastFullResponse(List<RecordedExchange> recorded, int index) {
+        for (int i = index - 1; i >= 0; i--) {
+            if (recorded.get(i).getStatus() == HttpResponseStatus.OK.code()) {
+                return recorded.get(i);
+            }
+        }
+        return recorded.get(index);
+    }
+
+    private static Mono<Void> write(HttpServerResponse response, RecordedExchange exchange) {
+        response.status(exchange.getStatus());
+        if (exchange.getETag() != null) {
+            response.header(HttpHeaderNames.ETAG, exchange.getETag());
+        }
+        if (exchange.getResponseBody() == null) {
+            return response.send().then();
+        }
+        return response.header(HttpHeaderNames.CONTENT_TYPE, "application/json")
+                .sendByteArray(Mono.just(exchange.getResponseBody().getBytes(StandardCharsets.UTF_8)))
+                .then();
+    }
+
+    private static String key(String method, String path) {
+        return method + " " + path;
+    }
+}
@@ -0,0 +1,55 @@
+package de.markus.meier.coolschrank.simulator;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * The RecordedExchange class represents one request to the remote fridge API and its response, as captured by the
+ * {@link FridgeTrafficRecorder}. It is written as one JSON line of a traffic recording.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class RecordedExchange {
+    /**
+     * The time the request was sent, in microseconds since the recording started.
+     */
+    private long offsetMicros;
+    /**
+     * The time until the response body was received, in microseconds.
+     */
+    private long latencyMicros;
+    /**
+     * The HTTP method of the request.
+     */
+    private String method;
+    /**
+     * The path and query of the request, relative to the base URL of the remote API.
+     */
+    private String path;
+    /**
+     * The entity tag sent in the If-None-Match header, if any.
+     */
+    private String ifNoneMatch;
+    /**
+     * The body of the request, if any.
+     */
+    private String requestBody;
+    /**
+     * The status of the response.
+     */
+    private int status;
+    /**
+     * The entity tag of the response, if any.
+     */
+    private String eTag;
+    /**
+     * The body of the response, if any.
+     */
+    private String responseBody;
+}
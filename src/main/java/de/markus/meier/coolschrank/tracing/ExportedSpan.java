@@ -0,0 +1,57 @@
+package de.markus.meier.coolschrank.tracing;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Map;
+
+/**
+ * The ExportedSpan class represents one finished span as written by the {@link RollingFileSpanReporter}.
+ * It is written as one JSON line of a span file, so the spans of a trace can be joined by their IDs offline.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ExportedSpan {
+    /**
+     * The ID of the trace the span belongs to.
+     */
+    private String traceId;
+    /**
+     * The ID of the span.
+     */
+    private String spanId;
+    /**
+     * The ID of the parent span, null for the root span of a trace.
+     */
+    private String parentId;
+    /**
+     * The name of the span, such as the stage or the HTTP method and route.
+     */
+    private String name;
+    /**
+     * The kind of the span, such as SERVER or CLIENT, null for a local span.
+     */
+    private String kind;
+    /**
+     * The start of the span, in microseconds since the epoch.
+     */
+    private long startMicros;
+    /**
+     * The duration of the span, in microseconds.
+     */
+    private long durationMicros;
+    /**
+     * The tags of the span.
+     */
+    private Map<String, String> tags;
+    /**
+     * The error the span ended with, if any.
+     */
+    private String error;
+}
@@ -0,0 +1,221 @@
+package de.markus.meier.coolschrank.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.exporter.FinishedSpan;
+import io.micrometer.tracing.exporter.SpanReporter;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The RollingFileSpanReporter class writes finished spans to a local file, one {@link ExportedSpan} per JSON line.
+ * Once the file exceeds its maximum size it is renamed with the suffix .1, older files move up by one and the oldest
+ * is deleted, so the spans on disk stay bounded. An existing file is appended to, so the spans written before a
+ * restart are kept.
+ * <p>
+ * Spans are handed to a background thread through a bounded queue, the thread finishing a span never waits for the
+ * disk. While the queue is full further spans are dropped and counted.
+ */
+public class RollingFileSpanReporter implements SpanReporter {
+
+    private final Path file;
+
+    private final long maxFileSize;
+
+    private final int maxFiles;
+
+    private final ObjectMapper objectMapper;
+
+    private final BlockingQueue<ExportedSpan> queue;
+
+    private final Thread writerThread;
+
+    private final LongAdder exportedCount = new LongAdder();
+
+    private final LongAdder droppedCount = new LongAdder();
+
+    private final LongAdder failedCount = new LongAdder();
+
+    private volatile boolean closed;
+
+    private OutputStream out;
+
+    private long fileSize;
+
+    /**
+     * Constructs a new RollingFileSpanReporter writing to the specified file and starts its background thread.
+     *
+     * @param file          The file to write the spans to.
+     * @param maxFileSize   The size in bytes after which the file is rolled.
+     * @param maxFiles      The number of files kept, including the one being written.
+     * @param queueCapacity The number of spans waiting to be written before further spans are dropped.
+     * @param objectMapper  The object mapper used for the JSON lines.
+     * @throws IOException if the file cannot be created.
+     */
+    public RollingFileSpanReporter(Path file, long maxFileSize, int maxFiles, int queueCapacity, ObjectMapper objectMapper) throws IOException {
+        this.file = file.toAbsolutePath();
+        this.maxFileSize = maxFileSize;
+        this.maxFiles = Math.max(1, maxFiles);
+        this.objectMapper = objectMapper;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        Files.createDirectories(this.file.getParent());
+        open();
+        this.writerThread = new Thread(this::writeSpans, "span-export");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    @Override
+    public void report(FinishedSpan span) {
+        if (closed || !queue.offer(toExportedSpan(span))) {
+            droppedCount.increment();
+        }
+    }
+
+    /**
+     * Retrieves the number of spans written.
+     *
+     * @return The number of written spans.
+     */
+    public long getExportedCount() {
+        return exportedCount.sum();
+    }
+
+    /**
+     * Retrieves the number of spans dropped because the queue was full or the reporter was closed.
+     *
+     * @return The number of dropped spans.
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    /**
+     * Retrieves the number of spans that could not be written to the file.
+     *
+     * @return The number of failed spans.
+     */
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    /**
+     * Writes the queued spans and closes the file.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeSpans() {
+        try {
+            while (!closed || !queue.isEmpty()) {
+                ExportedSpan span = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (span != null) {
+                    write(span);
+                }
+                if (queue.isEmpty()) {
+                    flush();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            try {
+                out.close();
+            } catch (IOException e) {
+                failedCount.increment();
+            }
+        }
+    }
+
+    private void write(ExportedSpan span) {
+        try {
+            byte[] line = objectMapper.writeValueAsBytes(span);
+            if (fileSize > 0 && fileSize + line.length + 1 > maxFileSize) {
+                roll();
+            }
+            out.write(line);
+            out.write('\n');
+            fileSize += line.length + 1;
+            exportedCount.increment();
+        } catch (IOException e) {
+            failedCount.increment();
+        }
+    }
+
+    private void flush() {
+        try {
+            out.flush();
+        } catch (IOException e) {
+            failedCount.increment();
+        }
+    }
+
+    /**
+     * Moves every file up by one suffix, deleting the oldest, and starts a new file. If moving the files fails, the
+     * current file is opened again, so the writer never keeps a closed stream and the next span retries the roll.
+     */
+    private void roll() throws IOException {
+        out.close();
+        try {
+            Files.deleteIfExists(rolledFile(maxFiles - 1));
+            for (int index = maxFiles - 2; index >= 1; index--) {
+                Path rolled = rolledFile(index);
+                if (Files.exists(rolled)) {
+                    Files.move(rolled, rolledFile(index + 1), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            if (maxFiles > 1) {
+                Files.move(file, rolledFile(1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            open();
+        }
+    }
+
+    private void open() throws IOException {
+        out = new BufferedOutputStream(Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND), 64 * 1024);
+        fileSize = Files.size(file);
+    }
+
+    private Path rolledFile(int index) {
+        return index == 0 ? file : file.resolveSibling(file.getFileName() + "." + index);
+    }
+
+    private static ExportedSpan toExportedSpan(FinishedSpan span) {
+        long startMicros = ChronoUnit.MICROS.between(Instant.EPOCH, span.getStartTimestamp());
+        long durationMicros = Duration.between(span.getStartTimestamp(), span.getEndTimestamp()).toNanos() / 1000;
+        Span.Kind kind = span.getKind();
+        Throwable error = span.getError();
+        return new ExportedSpan(
+                span.getTraceId(),
+                span.getSpanId(),
+                span.getParentId(),
+                span.getName(),
+                kind == null ? null : kind.name(),
+                startMicros,
+                durationMicros,
+                span.getTags().isEmpty() ? null : new TreeMap<>(span.getTags()),
+                error == null ? null : error.toString());
+    }
+}
@@ -0,0 +1,35 @@
+package de.markus.meier.coolschrank.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Configuration of exporting finished spans to a local rolling file, activated with the {@code span-export} profile.
+ * The reporter is one of Micrometer Tracing's span reporters, so other exporters such as Zipkin can be added next to it
+ * or replace it without touching the instrumentation.
+ */
+@Configuration
+@Profile("span-export")
+@EnableConfigurationProperties(SpanExportProperties.class)
+public class SpanExportConfig {
+
+    /**
+     * Creates the reporter writing every finished span to the rolling file.
+     *
+     * @param spanExportProperties the export settings
+     * @param objectMapper the shared object mapper
+     * @return the span reporter
+     * @throws IOException if the span file cannot be created
+     */
+    @Bean(destroyMethod = "close")
+    public RollingFileSpanReporter rollingFileSpanReporter(SpanExportProperties spanExportProperties, ObjectMapper objectMapper) throws IOException {
+        return new RollingFileSpanReporter(Path.of(spanExportProperties.getFile()), spanExportProperties.getMaxFileSize().toBytes(),
+                spanExportProperties.getMaxFiles(), spanExportProperties.getQueueCapacity(), objectMapper);
+    }
+}
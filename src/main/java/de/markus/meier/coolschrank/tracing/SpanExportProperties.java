@@ -0,0 +1,36 @@
+package de.markus.meier.coolschrank.tracing;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * The SpanExportProperties class holds the settings of exporting finished spans to a local rolling file.
+ * All values are bound from the {@code tracing.export} prefix.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "tracing.export")
+public class SpanExportProperties {
+
+    /**
+     * The file the {@code span-export} profile writes the spans to. Rolled files get the suffixes .1, .2 and so on.
+     */
+    private String file = "spans.jsonl";
+
+    /**
+     * The size after which the file is rolled.
+     */
+    private DataSize maxFileSize = DataSize.ofMegabytes(10);
+
+    /**
+     * The number of files kept, including the one being written.
+     */
+    private int maxFiles = 5;
+
+    /**
+     * The number of finished spans waiting to be written, further spans are dropped.
+     */
+    private int queueCapacity = 10000;
+}
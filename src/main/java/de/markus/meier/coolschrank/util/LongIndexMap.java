@@ -0,0 +1,73 @@
+package de.markus.meier.coolschrank.util;
+
+import java.util.Arrays;
+
+/**
+ * A hash map from primitive long keys to non-negative int values, usually positions in a list.
+ * It uses open addressing with linear probing and never boxes keys, so large IDs are compared by value.
+ */
+final class LongIndexMap {
+
+    private static final int FREE = -1;
+
+    private final long[] keys;
+
+    private final int[] values;
+
+    private final int mask;
+
+    /**
+     * Constructs a new LongIndexMap sized for the expected number of keys.
+     *
+     * @param expectedSize The number of keys the map will hold.
+     */
+    LongIndexMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(1, expectedSize) * 2 - 1) << 1;
+        this.keys = new long[capacity];
+        this.values = new int[capacity];
+        this.mask = capacity - 1;
+        Arrays.fill(values, FREE);
+    }
+
+    /**
+     * Associates the value with the key unless the key is already present.
+     *
+     * @param key   The key.
+     * @param value The value, which must not be negative.
+     * @return true if the value was stored, false if the key was already present.
+     */
+    boolean putIfAbsent(long key, int value) {
+        int slot = slot(key);
+        while (values[slot] != FREE) {
+            if (keys[slot] == key) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        return true;
+    }
+
+    /**
+     * Returns the value associated with the key.
+     *
+     * @param key The key.
+     * @return The value, or -1 if the key is not present.
+     */
+    int get(long key) {
+        int slot = slot(key);
+        while (values[slot] != FREE) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return FREE;
+    }
+
+    private int slot(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
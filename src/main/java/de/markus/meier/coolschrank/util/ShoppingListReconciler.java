@@ -0,0 +1,135 @@
+package de.markus.meier.coolschrank.util;
+
+import de.markus.meier.coolschrank.model.dto.FridgeInventoryDto;
+import de.markus.meier.coolschrank.model.model.ShoppingInventoryEntity;
+import de.markus.meier.coolschrank.model.model.ShoppingListEntity;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Service for reconciling the items of a shopping list with the inventory of its fridge, injected into
+ * {@link de.markus.meier.coolschrank.service.ShoppingListService}. Items are matched by their fridge inventory ID in a
+ * single pass over each list. The service keeps no state between calls, so one instance serves all requests.
+ */
+@Service
+public class ShoppingListReconciler {
+
+    /**
+     * Compares the shopping list items with the fridge inventory without modifying either of them.
+     * An inventory position without a matching item is added if it is below its target, an item whose amount
+     * no longer matches its position is changed, and an item whose position left the fridge is removed.
+     *
+     * @param shoppingInventoryEntityList The items of the shopping list.
+     * @param inventory                   The inventory of the fridge.
+     * @return The added, changed and removed items.
+     */
+    public Reconciliation reconcile(List<ShoppingInventoryEntity> shoppingInventoryEntityList, List<FridgeInventoryDto> inventory) {
+        LongIndexMap positions = new LongIndexMap(inventory.size());
+        for (int i = 0; i < inventory.size(); i++) {
+            Long fridgeInventoryId = inventory.get(i).getId();
+            if (fridgeInventoryId != null) {
+                positions.putIfAbsent(fridgeInventoryId, i);
+            }
+        }
+
+        boolean[] matched = new boolean[inventory.size()];
+        List<AmountChange> changed = new ArrayList<>();
+        List<ShoppingInventoryEntity> removed = new ArrayList<>();
+        for (ShoppingInventoryEntity shoppingInventoryEntity : shoppingInventoryEntityList) {
+            Long fridgeInventoryId = shoppingInventoryEntity.getFridgeInventoryId();
+            int position = fridgeInventoryId == null ? -1 : positions.get(fridgeInventoryId);
+            if (position < 0) {
+                removed.add(shoppingInventoryEntity);
+                continue;
+            }
+            matched[position] = true;
+            float amount = Math.max(0, missing(inventory.get(position)));
+            if (shoppingInventoryEntity.getAmount() != amount) {
+                changed.add(new AmountChange(shoppingInventoryEntity, amount));
+            }
+        }
+
+        List<ShoppingInventoryEntity> added = new ArrayList<>();
+        for (int i = 0; i < inventory.size(); i++) {
+            FridgeInventoryDto fridgeInvetoryAPIDto = inventory.get(i);
+            float amount = missing(fridgeInvetoryAPIDto);
+            if (!matched[i] && amount > 0) {
+                added.add(new ShoppingInventoryEntity(fridgeInvetoryAPIDto.getId(), fridgeInvetoryAPIDto.getName(), amount));
+            }
+        }
+        return new Reconciliation(added, changed, removed);
+    }
+
+    private static float missing(FridgeInventoryDto fridgeInvetoryAPIDto) {
+        return fridgeInvetoryAPIDto.getTarget() - fridgeInvetoryAPIDto.getActual();
+    }
+
+    /**
+     * The Reconciliation class holds the differences between a shopping list and the inventory of its fridge.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Reconciliation {
+        /**
+         * The new items for inventory positions that are below their target.
+         */
+        private final List<ShoppingInventoryEntity> added;
+        /**
+         * The existing items whose amount changed.
+         */
+        private final List<AmountChange> changed;
+        /**
+         * The existing items whose inventory position left the fridge.
+         */
+        private final List<ShoppingInventoryEntity> removed;
+
+        /**
+         * Checks if the shopping list differs from the inventory.
+         *
+         * @return true if any item is added, changed or removed, false otherwise.
+         */
+        public boolean hasChanges() {
+            return !added.isEmpty() || !changed.isEmpty() || !removed.isEmpty();
+        }
+
+        /**
+         * Applies the differences to the shopping list that was reconciled.
+         *
+         * @param shoppingListEntity The shopping list whose items were reconciled.
+         */
+        public void applyTo(ShoppingListEntity shoppingListEntity) {
+            for (AmountChange amountChange : changed) {
+                amountChange.getShoppingInventoryEntity().setAmount(amountChange.getAmount());
+            }
+            if (!removed.isEmpty()) {
+                Set<ShoppingInventoryEntity> removedItems = Collections.newSetFromMap(new IdentityHashMap<>());
+                removedItems.addAll(removed);
+                shoppingListEntity.getShoppingInventoryEntityList().removeIf(removedItems::contains);
+            }
+            added.forEach(shoppingListEntity::addShoppingInventory);
+        }
+    }
+
+    /**
+     * The AmountChange class holds an existing shopping list item and its new amount.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class AmountChange {
+        /**
+         * The existing shopping list item.
+         */
+        private final ShoppingInventoryEntity shoppingInventoryEntity;
+        /**
+         * The new amount of the item.
+         */
+        private final float amount;
+    }
+}
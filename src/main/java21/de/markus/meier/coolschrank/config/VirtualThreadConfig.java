@@ -0,0 +1,30 @@
+package de.markus.meier.coolschrank.config;
+
+import org.apache.coyote.ProtocolHandler;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.util.concurrent.Executors;
+
+/**
+ * Configuration of the virtual-thread serving mode, activated with the {@code virtual-threads} profile.
+ * Every request is handled on its own virtual thread, so the blocking calls to the remote fridge API
+ * park the virtual thread instead of holding one of the platform threads of the Tomcat pool.
+ * This class is only compiled on Java 21 or newer.
+ */
+@Configuration
+@Profile("virtual-threads")
+public class VirtualThreadConfig {
+
+    /**
+     * Replaces the Tomcat worker pool with an executor starting a virtual thread per request.
+     *
+     * @return the customizer of the Tomcat protocol handler
+     */
+    @Bean
+    public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    }
+}
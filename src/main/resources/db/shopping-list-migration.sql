@@ -0,0 +1,32 @@
+-- Migrates a persisted schema of the original shopping list mapping to the current one:
+-- * the fridge ID of a shopping list is unique (ux_shopping_list_fridge_id),
+-- * IDs are drawn from the sequences shopping_list_seq and shopping_inventory_seq, 50 at a time,
+-- * items are mapped from the owning ManyToOne side. The foreign key column keeps its name, so no data is copied.
+-- The in-memory database is created from scratch by Hibernate and needs none of this; run the script once
+-- against databases that outlive the application before starting the new version. It is written for H2.
+
+-- Shopping lists created concurrently for the same fridge. The oldest one is kept, the others and their items are deleted.
+DELETE FROM shopping_inventory_entity WHERE shopping_inventory_entity_list_id IN (
+    SELECT duplicate.id FROM shopping_list_entity duplicate
+    WHERE EXISTS (SELECT 1 FROM shopping_list_entity kept WHERE kept.fridge_id = duplicate.fridge_id AND kept.id < duplicate.id));
+DELETE FROM shopping_list_entity duplicate
+    WHERE EXISTS (SELECT 1 FROM shopping_list_entity kept WHERE kept.fridge_id = duplicate.fridge_id AND kept.id < duplicate.id);
+
+-- Every fridge has at most one shopping list.
+CREATE UNIQUE INDEX IF NOT EXISTS ux_shopping_list_fridge_id ON shopping_list_entity (fridge_id);
+
+-- Hibernate's pooled optimizer hands out the 50 IDs up to each value it reads, so the sequences start 50 above the
+-- highest existing ID.
+CREATE SEQUENCE IF NOT EXISTS shopping_list_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE shopping_list_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM shopping_list_entity);
+CREATE SEQUENCE IF NOT EXISTS shopping_inventory_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE shopping_inventory_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM shopping_inventory_entity);
+
+-- Items detached by the former deleteShoppingInventory were never deleted and belong to no shopping list.
+DELETE FROM shopping_inventory_entity WHERE shopping_inventory_entity_list_id IS NULL;
+
+-- Every item belongs to a shopping list from now on.
+ALTER TABLE shopping_inventory_entity ALTER COLUMN shopping_inventory_entity_list_id SET NOT NULL;
+
+-- The items of a shopping list are loaded and deleted by the foreign key.
+CREATE INDEX IF NOT EXISTS ix_shopping_inventory_shopping_list_id ON shopping_inventory_entity (shopping_inventory_entity_list_id);
@@ -0,0 +1,51 @@
+package de.markus.meier.coolschrank;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:prometheus",
+        "fridge.simulator.latency-median=1ms",
+        "fridge.simulator.latency-p99=1ms"})
+@ActiveProfiles("fridge-simulator")
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+public class PrometheusEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void testScrape_ContainsHotPathMetrics() throws Exception {
+        String fridgeId = mockMvc.perform(post("/fridge/create")).andExpect(status().isCreated()).andReturn().getResponse().getContentAsString();
+        mockMvc.perform(get("/fridge/" + fridgeId)).andExpect(status().isOk());
+        mockMvc.perform(post("/shoppingList/create/fridge/" + fridgeId)).andExpect(status().isCreated());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus")).andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+
+        assertThat(scrape)
+                .contains("http_server_requests_seconds_bucket{")
+                .containsPattern("http_client_requests_seconds_bucket\\{.*operation=\"create_fridge\".*uri=\"/fridge\"")
+                .containsPattern("http_client_requests_seconds_count\\{.*operation=\"get_fridge\".*uri=\"/fridge/\\{id}\"")
+                .containsPattern("coolschrank_repository_seconds_bucket\\{.*repository=\"shopping_list\"")
+                .containsPattern("coolschrank_mapping_seconds_count\\{.*mapper=\"shopping_list\"")
+                .contains("coolschrank_shopping_list_items_total{")
+                .contains("hikaricp_connections_active{");
+    }
+
+    @Test
+    void testJfr_NotExposedByDefault() throws Exception {
+        mockMvc.perform(get("/actuator/jfr")).andExpect(status().isNotFound());
+    }
+
+}
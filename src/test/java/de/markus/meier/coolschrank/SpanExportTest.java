@@ -0,0 +1,124 @@
+package de.markus.meier.coolschrank;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.markus.meier.coolschrank.tracing.ExportedSpan;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:spans",
+        "fridge.simulator.latency-median=1ms",
+        "fridge.simulator.latency-p99=1ms",
+        "fridge.api.cache.fresh-for=0s",
+        "tracing.export.file=" + SpanExportTest.SPAN_FILE})
+@ActiveProfiles({"fridge-simulator", "span-export"})
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+public class SpanExportTest {
+
+    static final String SPAN_FILE = "target/span-export-test/spans.jsonl";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Removes the spans of earlier runs before the application starts, as the reporter appends to an existing file.
+     */
+    @BeforeAll
+    static void deleteSpanFile() throws IOException {
+        Files.deleteIfExists(Path.of(SPAN_FILE));
+    }
+
+    @Test
+    void testExport_StagesOfRequestShareTrace() throws Exception {
+        String fridgeId = mockMvc.perform(post("/fridge/create")).andExpect(status().isCreated()).andReturn().getResponse().getContentAsString();
+        String shoppingList = mockMvc.perform(post("/shoppingList/create/fridge/" + fridgeId)).andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        long shoppingListId = objectMapper.readTree(shoppingList).get("id").asLong();
+        mockMvc.perform(put("/shoppingList/update/" + shoppingListId + "/fridge/" + fridgeId)).andExpect(status().isOk());
+
+        List<ExportedSpan> createTrace = awaitTrace("shopping_list.save");
+        Map<String, ExportedSpan> create = byName(createTrace);
+        ExportedSpan createRequest = server(createTrace);
+        assertThat(create.get("fridge.get").getParentId()).isEqualTo(createRequest.getSpanId());
+        assertThat(client(createTrace).getParentId()).isEqualTo(create.get("fridge.get").getSpanId());
+        assertThat(create.get("fridge.decode").getParentId()).isEqualTo(create.get("fridge.get").getSpanId());
+        assertThat(create.get("shopping_list.save").getParentId()).isEqualTo(createRequest.getSpanId());
+        assertThat(create.get("shopping_list.map").getParentId()).isEqualTo(createRequest.getSpanId());
+
+        List<ExportedSpan> updateTrace = awaitTrace("shopping_list.reconcile");
+        Map<String, ExportedSpan> update = byName(updateTrace);
+        ExportedSpan updateRequest = server(updateTrace);
+        assertThat(update.get("shopping_list.load").getParentId()).isEqualTo(updateRequest.getSpanId());
+        assertThat(update.get("fridge.get").getParentId()).isEqualTo(updateRequest.getSpanId());
+        assertThat(client(updateTrace).getParentId()).isEqualTo(update.get("fridge.get").getSpanId());
+        assertThat(update.get("shopping_list.reconcile").getParentId()).isEqualTo(updateRequest.getSpanId());
+        assertThat(update.get("shopping_list.reconcile").getTags()).containsEntry("stage", "shopping_list.reconcile");
+    }
+
+    /**
+     * Waits until the server span of the trace containing the named stage has been written, and returns the spans of
+     * that trace.
+     */
+    private List<ExportedSpan> awaitTrace(String stage) throws Exception {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (true) {
+            List<ExportedSpan> spans = readSpans();
+            String traceId = spans.stream().filter(span -> stage.equals(span.getName())).map(ExportedSpan::getTraceId).findFirst().orElse(null);
+            List<ExportedSpan> trace = spans.stream().filter(span -> span.getTraceId().equals(traceId)).collect(Collectors.toList());
+            if (trace.stream().anyMatch(span -> "SERVER".equals(span.getKind())) || System.currentTimeMillis() > deadline) {
+                return trace;
+            }
+            Thread.sleep(50);
+        }
+    }
+
+    private List<ExportedSpan> readSpans() throws Exception {
+        List<ExportedSpan> spans = new ArrayList<>();
+        Path file = Path.of(SPAN_FILE);
+        if (Files.exists(file)) {
+            for (String line : Files.readAllLines(file)) {
+                if (line.endsWith("}")) {
+                    spans.add(objectMapper.readValue(line, ExportedSpan.class));
+                }
+            }
+        }
+        return spans;
+    }
+
+    private static Map<String, ExportedSpan> byName(List<ExportedSpan> trace) {
+        return trace.stream().filter(span -> span.getKind() == null)
+                .collect(Collectors.toMap(ExportedSpan::getName, Function.identity(), (first, second) -> first));
+    }
+
+    private static ExportedSpan server(List<ExportedSpan> trace) {
+        return trace.stream().filter(span -> "SERVER".equals(span.getKind())).findFirst().orElseThrow();
+    }
+
+    private static ExportedSpan client(List<ExportedSpan> trace) {
+        return trace.stream().filter(span -> "CLIENT".equals(span.getKind())).findFirst().orElseThrow();
+    }
+}
@@ -0,0 +1,46 @@
+package de.markus.meier.coolschrank.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DeadlineFilterTest {
+
+    private final DeadlineFilter deadlineFilter = new DeadlineFilter(Duration.ofSeconds(3));
+
+    @Test
+    void testBudget_Default() {
+        assertThat(DeadlineFilter.budget(Duration.ofSeconds(3), null)).isEqualTo(Duration.ofSeconds(3));
+        assertThat(DeadlineFilter.budget(Duration.ofSeconds(3), "soon")).isEqualTo(Duration.ofSeconds(3));
+    }
+
+    @Test
+    void testBudget_RequestedBudgetOnlyShortens() {
+        assertThat(DeadlineFilter.budget(Duration.ofSeconds(3), "500")).isEqualTo(Duration.ofMillis(500));
+        assertThat(DeadlineFilter.budget(Duration.ofSeconds(3), "10000")).isEqualTo(Duration.ofSeconds(3));
+    }
+
+    @Test
+    void testDoFilter_BindsDeadlineDuringRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/fridge/XXX");
+        request.addHeader(DeadlineFilter.REQUEST_TIMEOUT_HEADER, "500");
+        AtomicReference<Deadline> seen = new AtomicReference<>();
+
+        deadlineFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain() {
+            @Override
+            public void doFilter(jakarta.servlet.ServletRequest request, jakarta.servlet.ServletResponse response) {
+                seen.set(Deadline.current());
+            }
+        });
+
+        assertThat(seen.get()).isNotNull();
+        assertThat(seen.get().remaining()).isLessThanOrEqualTo(Duration.ofMillis(500));
+        assertThat(Deadline.current()).isNull();
+    }
+}
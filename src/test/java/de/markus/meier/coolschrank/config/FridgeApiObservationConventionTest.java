@@ -0,0 +1,55 @@
+package de.markus.meier.coolschrank.config;
+
+import io.micrometer.common.KeyValues;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientRequestObservationContext;
+
+import java.net.URI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FridgeApiObservationConventionTest {
+
+    private static final String BASE_URL = "http://localhost:8090/api";
+
+    private final FridgeApiObservationConvention convention = new FridgeApiObservationConvention(properties());
+
+    @Test
+    void testGetFridge() {
+        KeyValues keyValues = convention.getLowCardinalityKeyValues(context(HttpMethod.GET, BASE_URL + "/fridge/4711"));
+
+        assertThat(keyValues.stream()).anySatisfy(keyValue -> {
+            assertThat(keyValue.getKey()).isEqualTo("uri");
+            assertThat(keyValue.getValue()).isEqualTo("/fridge/{id}");
+        });
+        assertThat(operation(keyValues)).isEqualTo("get_fridge");
+    }
+
+    @Test
+    void testOperations() {
+        assertThat(operation(convention.getLowCardinalityKeyValues(context(HttpMethod.POST, BASE_URL + "/fridge")))).isEqualTo("create_fridge");
+        assertThat(operation(convention.getLowCardinalityKeyValues(context(HttpMethod.POST, BASE_URL + "/fridge/4711/item")))).isEqualTo("add_item");
+        assertThat(operation(convention.getLowCardinalityKeyValues(context(HttpMethod.POST, BASE_URL + "/fridge/4711/item/3")))).isEqualTo("update_item");
+        assertThat(operation(convention.getLowCardinalityKeyValues(context(HttpMethod.DELETE, BASE_URL + "/fridge/4711")))).isEqualTo("other");
+    }
+
+    private static String operation(KeyValues keyValues) {
+        return keyValues.stream().filter(keyValue -> keyValue.getKey().equals("operation")).findFirst().orElseThrow().getValue();
+    }
+
+    private static ClientRequestObservationContext context(HttpMethod method, String url) {
+        ClientRequestObservationContext context = new ClientRequestObservationContext();
+        context.setUriTemplate(url);
+        context.setRequest(ClientRequest.create(method, URI.create(url)).build());
+        return context;
+    }
+
+    private static FridgeApiProperties properties() {
+        FridgeApiProperties fridgeApiProperties = new FridgeApiProperties();
+        fridgeApiProperties.setBaseUrl(BASE_URL);
+        return fridgeApiProperties;
+    }
+
+}
@@ -0,0 +1,28 @@
+package de.markus.meier.coolschrank.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class VirtualThreadSupportCheckTest {
+
+    @Test
+    void testCheck_OldRuntime() {
+        assertThatThrownBy(() -> VirtualThreadSupportCheck.check(17, true))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("running on Java 17");
+    }
+
+    @Test
+    void testCheck_NotCompiled() {
+        assertThatThrownBy(() -> VirtualThreadSupportCheck.check(21, false))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(VirtualThreadSupportCheck.VIRTUAL_THREAD_CONFIG);
+    }
+
+    @Test
+    void testCheck_Supported() {
+        assertThatCode(() -> VirtualThreadSupportCheck.check(21, true)).doesNotThrowAnyException();
+    }
+}
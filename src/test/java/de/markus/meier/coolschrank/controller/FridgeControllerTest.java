@@ -1,8 +1,11 @@
 package de.markus.meier.coolschrank.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import de.markus.meier.coolschrank.model.dto.FridgeCacheStatsDto;
+import de.markus.meier.coolschrank.model.dto.FridgeCoalescingStatsDto;
 import de.markus.meier.coolschrank.model.dto.FridgeDto;
 import de.markus.meier.coolschrank.model.dto.FridgeInventoryDto;
+import de.markus.meier.coolschrank.model.dto.FridgeResilienceStatsDto;
 import de.markus.meier.coolschrank.service.FridgeService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -156,4 +159,45 @@ public class FridgeControllerTest {
                 .andReturn();
     }
 
+    @Test
+    void testGetSnapshotCacheStatsIsOk() throws Exception {
+        FridgeCacheStatsDto fridgeCacheStatsDto = new FridgeCacheStatsDto(3L, 1L, 0L, 2L, 1L, 1L);
+        Mockito.when(fridgeService.getSnapshotCacheStats()).thenReturn(fridgeCacheStatsDto);
+        mockMvc.perform(MockMvcRequestBuilders.get("/fridge/cache/stats")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hitCount").value(3L))
+                .andExpect(jsonPath("$.missCount").value(1L))
+                .andExpect(jsonPath("$.revalidationCount").value(2L))
+                .andExpect(jsonPath("$.notModifiedCount").value(1L))
+                .andReturn();
+    }
+
+    @Test
+    void testGetCoalescingStatsIsOk() throws Exception {
+        Mockito.when(fridgeService.getCoalescingStats()).thenReturn(new FridgeCoalescingStatsDto(4L, 6L, 0L));
+        mockMvc.perform(MockMvcRequestBuilders.get("/fridge/coalescing/stats")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.remoteCallCount").value(4L))
+                .andExpect(jsonPath("$.collapsedCallCount").value(6L))
+                .andExpect(jsonPath("$.inFlightCount").value(0L))
+                .andReturn();
+    }
+
+    @Test
+    void testGetResilienceStatsIsOk() throws Exception {
+        Mockito.when(fridgeService.getResilienceStats()).thenReturn(new FridgeResilienceStatsDto("OPEN", 60f, 12, 5L, 50, 0L, 0L, 5L));
+        mockMvc.perform(MockMvcRequestBuilders.get("/fridge/resilience/stats")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.circuitBreakerState").value("OPEN"))
+                .andExpect(jsonPath("$.notPermittedCallCount").value(5L))
+                .andExpect(jsonPath("$.staleFallbackCount").value(5L))
+                .andReturn();
+    }
+
 }
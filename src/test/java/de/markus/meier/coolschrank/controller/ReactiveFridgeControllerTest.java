@@ -0,0 +1,92 @@
+package de.markus.meier.coolschrank.controller;
+
+import de.markus.meier.coolschrank.model.dto.FridgeDto;
+import de.markus.meier.coolschrank.model.dto.FridgeInventoryDto;
+import de.markus.meier.coolschrank.service.FridgeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+
+@SpringBootTest(classes = {ReactiveFridgeController.class})
+@ActiveProfiles("reactive")
+public class ReactiveFridgeControllerTest {
+
+    @Autowired
+    private ReactiveFridgeController reactiveFridgeController;
+
+    @MockBean
+    private FridgeService fridgeService;
+
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    public void init() {
+        webTestClient = WebTestClient.bindToController(reactiveFridgeController).build();
+    }
+
+    @Test
+    void testCreateFridgeIsCreated() {
+        Mockito.when(fridgeService.createFridgeReactive()).thenReturn(Mono.just("XXX"));
+        webTestClient.post().uri("/fridge/create")
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(String.class).isEqualTo("XXX");
+    }
+
+    @Test
+    void testGetFridgeIsOk() {
+        List<FridgeInventoryDto> fridgeInventoryDtoList = new ArrayList<>();
+        fridgeInventoryDtoList.add(new FridgeInventoryDto(1L, "Cola", 0.5f, 0.5f));
+        Mockito.when(fridgeService.getFridgeReactive(any())).thenReturn(Mono.just(new FridgeDto("XXX", fridgeInventoryDtoList)));
+        webTestClient.get().uri("/fridge/XXX")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo("XXX")
+                .jsonPath("$.inventory[0].name").isEqualTo("Cola");
+    }
+
+    @Test
+    void testGetFridgeIsNotFound() {
+        Mockito.when(fridgeService.getFridgeReactive(any())).thenReturn(Mono.empty());
+        webTestClient.get().uri("/fridge/XXX")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void testAddNewItemIsNotFound() {
+        Mockito.when(fridgeService.addFridgeInventoryReactive(any(), any())).thenReturn(Mono.empty());
+        webTestClient.post().uri("/fridge/addInventory/XXX")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new FridgeInventoryDto(1L, "Cola", 0.5f, 0.5f))
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void testUpDateFridgeInventoryIsConflict() {
+        Mockito.when(fridgeService.upDateFridgeInventoryReactive(any(), any()))
+                .thenReturn(Mono.error(new WebClientResponseException(HttpStatus.BAD_REQUEST.value(), "Bad Request", null, null, null)));
+        webTestClient.put().uri("/fridge/updateInventory/XXX")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new FridgeInventoryDto(1L, "Cola", 0.5f, 0.5f))
+                .exchange()
+                .expectStatus().isEqualTo(409);
+    }
+}
@@ -0,0 +1,133 @@
+package de.markus.meier.coolschrank.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.markus.meier.coolschrank.model.dto.ShoppingInventoryDto;
+import de.markus.meier.coolschrank.model.dto.ShoppingListDto;
+import de.markus.meier.coolschrank.model.model.EncodedShoppingList;
+import de.markus.meier.coolschrank.service.ShoppingListService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+
+@SpringBootTest(classes = {ReactiveShoppingListController.class})
+@ActiveProfiles("reactive")
+public class ReactiveShoppingListControllerTest {
+
+    @Autowired
+    private ReactiveShoppingListController reactiveShoppingListController;
+
+    @MockBean(name = "shoppingListService")
+    private ShoppingListService shoppingListService;
+
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    public void init() {
+        webTestClient = WebTestClient.bindToController(reactiveShoppingListController).build();
+    }
+
+    @Test
+    void testGetShoppingListIsOk() throws Exception {
+        List<ShoppingInventoryDto> shoppingInventoryDtoList = new ArrayList<>();
+        shoppingInventoryDtoList.add(new ShoppingInventoryDto(1L, 1L, "Name", 0.5f));
+        ShoppingListDto shoppingListDto = new ShoppingListDto(1L, "XXX", shoppingInventoryDtoList);
+        EncodedShoppingList encodedShoppingList = new EncodedShoppingList(new ObjectMapper().writeValueAsBytes(shoppingListDto), "\"1\"");
+        Mockito.when(shoppingListService.getEncodedShoppingListReactive(any())).thenReturn(Mono.just(encodedShoppingList));
+        webTestClient.get().uri("/shoppingList/1")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectHeader().valueEquals("ETag", "\"1\"")
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(1)
+                .jsonPath("$.fridgeId").isEqualTo("XXX")
+                .jsonPath("$.shoppingInventoryDtoList[0].name").isEqualTo("Name");
+    }
+
+    @Test
+    void testGetShoppingListNotModified() {
+        EncodedShoppingList encodedShoppingList = new EncodedShoppingList("{}".getBytes(), "\"1\"");
+        Mockito.when(shoppingListService.getEncodedShoppingListReactive(any())).thenReturn(Mono.just(encodedShoppingList));
+        webTestClient.get().uri("/shoppingList/1")
+                .ifNoneMatch("\"1\"")
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    void testGetShoppingListNotFound() {
+        Mockito.when(shoppingListService.getEncodedShoppingListReactive(any())).thenReturn(Mono.empty());
+        webTestClient.get().uri("/shoppingList/1")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void testCreateShoppingListIsCreated() {
+        ShoppingListDto shoppingListDto = new ShoppingListDto(1L, "XXX", new ArrayList<>());
+        Mockito.when(shoppingListService.createShoppingListReactive(any())).thenReturn(Mono.just(shoppingListDto));
+        webTestClient.post().uri("/shoppingList/create/fridge/XXX")
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.fridgeId").isEqualTo("XXX");
+    }
+
+    @Test
+    void testCreateShoppingListIsConflict() {
+        Mockito.when(shoppingListService.createShoppingListReactive(any())).thenReturn(Mono.empty());
+        webTestClient.post().uri("/shoppingList/create/fridge/XXX")
+                .exchange()
+                .expectStatus().isEqualTo(409);
+    }
+
+    @Test
+    void testCreateShoppingListIsUnprocessable() {
+        Mockito.when(shoppingListService.createShoppingListReactive(any())).thenReturn(Mono.error(new DecodingException("JSON decoding error")));
+        webTestClient.post().uri("/shoppingList/create/fridge/XXX")
+                .exchange()
+                .expectStatus().isEqualTo(422);
+    }
+
+    @Test
+    void testAutoUpdateShoppingListIsNotFound() {
+        Mockito.when(shoppingListService.autoUpdateShoppingListReactive(any(), any())).thenReturn(Mono.empty());
+        webTestClient.put().uri("/shoppingList/update/1/fridge/XXX")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void testDeleteShoppingInventoryIsOk() {
+        ShoppingInventoryDto shoppingInventoryDto = new ShoppingInventoryDto(1L, 1L, "Cola", 0.5f);
+        Mockito.when(shoppingListService.deleteShoppingInventoryReactive(any(), any())).thenReturn(Mono.just(shoppingInventoryDto));
+        webTestClient.delete().uri("/shoppingList/delete/1/item/1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.name").isEqualTo("Cola");
+    }
+
+    @Test
+    void testDeleteShoppingListIsNotFound() {
+        Mockito.when(shoppingListService.deleteShoppingListReactive(any())).thenReturn(Mono.empty());
+        webTestClient.delete().uri("/shoppingList/delete/1")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+}
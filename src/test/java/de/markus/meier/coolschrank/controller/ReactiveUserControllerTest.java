@@ -0,0 +1,84 @@
+package de.markus.meier.coolschrank.controller;
+
+import de.markus.meier.coolschrank.model.dto.UserDto;
+import de.markus.meier.coolschrank.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import static org.mockito.ArgumentMatchers.any;
+
+@SpringBootTest(classes = {ReactiveUserController.class})
+@ActiveProfiles("reactive")
+public class ReactiveUserControllerTest {
+
+    @Autowired
+    private ReactiveUserController reactiveUserController;
+
+    @MockBean(name = "userService")
+    private UserService userService;
+
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    public void init() {
+        webTestClient = WebTestClient.bindToController(reactiveUserController).build();
+    }
+
+    @Test
+    void testCreateUserIsOk() {
+        Mockito.when(userService.createUserReactive(any())).thenReturn(Mono.just(1L));
+        webTestClient.post().uri("/user/")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new UserDto(null, "Markus", "test123", null))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$").isEqualTo(1);
+    }
+
+    @Test
+    void testCreateUserIsUnprocessable() {
+        Mockito.when(userService.createUserReactive(any())).thenReturn(Mono.error(new IllegalStateException("duplicate")));
+        webTestClient.post().uri("/user/")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new UserDto(null, "Markus", "test123", null))
+                .exchange()
+                .expectStatus().isEqualTo(422);
+    }
+
+    @Test
+    void testGetUserIsOk() {
+        Mockito.when(userService.getUserReactive(any())).thenReturn(Mono.just(new UserDto(1L, "Markus", "test123", "XXX")));
+        webTestClient.get().uri("/user/1")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.username").isEqualTo("Markus")
+                .jsonPath("$.fridgeId").isEqualTo("XXX");
+    }
+
+    @Test
+    void testGetUserNotFound() {
+        Mockito.when(userService.getUserReactive(any())).thenReturn(Mono.empty());
+        webTestClient.get().uri("/user/1")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void testUpdateFrigdeIdNotFound() {
+        Mockito.when(userService.updateFrigdeIdReactive(any(), any())).thenReturn(Mono.empty());
+        webTestClient.put().uri("/user/1/frigde/XXX")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+}
@@ -1,7 +1,11 @@
 package de.markus.meier.coolschrank.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.markus.meier.coolschrank.model.dto.CacheRegionStatsDto;
 import de.markus.meier.coolschrank.model.dto.ShoppingInventoryDto;
 import de.markus.meier.coolschrank.model.dto.ShoppingListDto;
+import de.markus.meier.coolschrank.model.dto.ShoppingListUpdateStatsDto;
+import de.markus.meier.coolschrank.model.model.EncodedShoppingList;
 import de.markus.meier.coolschrank.service.ShoppingListService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,6 +15,7 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.core.codec.DecodingException;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
@@ -21,6 +26,8 @@ import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -49,11 +56,14 @@ public class ShoppingListControllerTest {
         List<ShoppingInventoryDto> shoppingInventoryDtoList = new ArrayList<>();
         shoppingInventoryDtoList.add(new ShoppingInventoryDto(1l, 1L, "Name", 0.5f));
         ShoppingListDto shoppingListDto = new ShoppingListDto(1L, "XXX", shoppingInventoryDtoList);
-        Mockito.when(shoppingListService.getShoppingList(any())).thenReturn(shoppingListDto);
+        EncodedShoppingList encodedShoppingList = new EncodedShoppingList(new ObjectMapper().writeValueAsBytes(shoppingListDto), "\"1\"");
+        Mockito.when(shoppingListService.getEncodedShoppingList(any())).thenReturn(encodedShoppingList);
         mockMvc.perform(MockMvcRequestBuilders.get("/shoppingList/1")
                         .accept(MediaType.APPLICATION_JSON))
                 .andDo(print())
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1\""))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.id").value(1L))
                 .andExpect(jsonPath("$.fridgeId").value("XXX"))
                 .andExpect(jsonPath("$.shoppingInventoryDtoList[0].id").value(1L))
@@ -63,9 +73,22 @@ public class ShoppingListControllerTest {
                 .andReturn();
     }
 
+    @Test
+    void testGetShoppingListNotModified() throws Exception {
+        EncodedShoppingList encodedShoppingList = new EncodedShoppingList("{}".getBytes(), "\"1\"");
+        Mockito.when(shoppingListService.getEncodedShoppingList(any())).thenReturn(encodedShoppingList);
+        mockMvc.perform(MockMvcRequestBuilders.get("/shoppingList/1")
+                        .header("If-None-Match", "\"1\"")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]))
+                .andReturn();
+    }
+
     @Test
     void testGetShoppingListNotFound() throws Exception {
-        Mockito.when(shoppingListService.getShoppingList(any())).thenReturn(null);
+        Mockito.when(shoppingListService.getEncodedShoppingList(any())).thenReturn(null);
         mockMvc.perform(MockMvcRequestBuilders.get("/shoppingList/1")
                         .accept(MediaType.APPLICATION_JSON))
                 .andDo(print())
@@ -102,6 +125,16 @@ public class ShoppingListControllerTest {
                 .andReturn();
     }
 
+    @Test
+    void testCreateShoppingListIsUnprocessable() throws Exception {
+        Mockito.when(shoppingListService.createShoppingList(any())).thenThrow(new DecodingException("JSON decoding error"));
+        mockMvc.perform(MockMvcRequestBuilders.post("/shoppingList/create/fridge/1")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isUnprocessableEntity())
+                .andReturn();
+    }
+
     @Test
     void testAutoUpdateShoppingListIsOk() throws Exception {
         List<ShoppingInventoryDto> shoppingInventoryDtoList = new ArrayList<>();
@@ -177,6 +210,36 @@ public class ShoppingListControllerTest {
                 .andExpect(jsonPath("$.shoppingInventoryDtoList[0].amount").value(0.5f))
                 .andReturn();
     }
+
+    @Test
+    void testGetUpdateStatsIsOk() throws Exception {
+        Mockito.when(shoppingListService.getUpdateStats()).thenReturn(new ShoppingListUpdateStatsDto(2L, 5L, 4L, 3L));
+        mockMvc.perform(MockMvcRequestBuilders.get("/shoppingList/update/stats")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.writeCount").value(2L))
+                .andExpect(jsonPath("$.skippedWriteCount").value(5L))
+                .andExpect(jsonPath("$.unchangedFridgeCount").value(4L))
+                .andExpect(jsonPath("$.size").value(3L))
+                .andReturn();
+    }
+
+    @Test
+    void testGetCacheStatsIsOk() throws Exception {
+        Mockito.when(shoppingListService.getCacheStats()).thenReturn(List.of(new CacheRegionStatsDto("shopping-list", 7L, 2L, 3L, 1L)));
+        mockMvc.perform(MockMvcRequestBuilders.get("/shoppingList/cache/stats")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].regionName").value("shopping-list"))
+                .andExpect(jsonPath("$[0].hitCount").value(7L))
+                .andExpect(jsonPath("$[0].missCount").value(2L))
+                .andExpect(jsonPath("$[0].putCount").value(3L))
+                .andExpect(jsonPath("$[0].size").value(1L))
+                .andReturn();
+    }
+
     /* Bad Request 400
     @Test
     void testUpdateShoppingListIsOk() throws Exception {
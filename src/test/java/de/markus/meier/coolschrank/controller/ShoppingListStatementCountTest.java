@@ -0,0 +1,158 @@
+package de.markus.meier.coolschrank.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.markus.meier.coolschrank.model.dto.FridgeDto;
+import de.markus.meier.coolschrank.model.dto.ShoppingListDto;
+import de.markus.meier.coolschrank.service.FridgeService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Asserts the number of SQL statements each shopping list endpoint prepares, so that lazy loading
+ * regressions like N+1 queries on the item collections fail the build.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:statementcount",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+@AutoConfigureMockMvc
+public class ShoppingListStatementCountTest {
+
+    private static final String FRIDGE_JSON = "{\"id\": \"%s\", \"inventory\": ["
+            + "{\"id\": 1, \"name\": \"Cola\", \"target\": 1.0, \"actual\": 0.5},"
+            + "{\"id\": 2, \"name\": \"Milch\", \"target\": 2.0, \"actual\": 0.0},"
+            + "{\"id\": 3, \"name\": \"Butter\", \"target\": 1.0, \"actual\": 0.0}]}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private FridgeService fridgeService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void init() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Mockito.when(fridgeService.getFridge(Mockito.anyString())).thenAnswer(invocation ->
+                objectMapper.readValue(FRIDGE_JSON.formatted(invocation.getArgument(0, String.class)), FridgeDto.class));
+    }
+
+    @Test
+    void testCreateShoppingList() throws Exception {
+        createShoppingList("allocate");
+
+        assertThat(statements(MockMvcRequestBuilders.post("/shoppingList/create/fridge/create"), status().isCreated()))
+                .isEqualTo(3);
+        assertThat(statements(MockMvcRequestBuilders.post("/shoppingList/create/fridge/create"), status().isConflict()))
+                .isEqualTo(1);
+    }
+
+    @Test
+    void testGetShoppingList() throws Exception {
+        ShoppingListDto shoppingListDto = createShoppingList("get");
+
+        assertThat(statements(MockMvcRequestBuilders.get("/shoppingList/" + shoppingListDto.getId()), status().isOk()))
+                .isEqualTo(2);
+        assertThat(statements(MockMvcRequestBuilders.get("/shoppingList/" + shoppingListDto.getId()), status().isOk()))
+                .isEqualTo(0);
+        assertThat(statements(MockMvcRequestBuilders.get("/shoppingList/0"), status().isNotFound()))
+                .isEqualTo(1);
+    }
+
+    @Test
+    void testGetShoppingList_NotModifiedUntilChanged() throws Exception {
+        ShoppingListDto shoppingListDto = createShoppingList("etag");
+        Long itemId = shoppingListDto.getShoppingInventoryDtoList().get(0).getId();
+        String etag = mockMvc.perform(MockMvcRequestBuilders.get("/shoppingList/" + shoppingListDto.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        assertThat(statements(MockMvcRequestBuilders.get("/shoppingList/" + shoppingListDto.getId()).header("If-None-Match", etag), status().isNotModified()))
+                .isEqualTo(0);
+
+        mockMvc.perform(MockMvcRequestBuilders.put("/shoppingList/update/item/" + shoppingListDto.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"id\": " + itemId + ", \"amount\": 4.0}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(MockMvcRequestBuilders.get("/shoppingList/" + shoppingListDto.getId()).header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(etag)))
+                .andExpect(jsonPath("$.shoppingInventoryDtoList[0].amount").value(4.0));
+    }
+
+    @Test
+    void testAutoUpdateShoppingList() throws Exception {
+        ShoppingListDto shoppingListDto = createShoppingList("update");
+
+        assertThat(statements(MockMvcRequestBuilders.put("/shoppingList/update/" + shoppingListDto.getId() + "/fridge/update"), status().isOk()))
+                .isEqualTo(1);
+    }
+
+    @Test
+    void testUpdateShoppingInventory() throws Exception {
+        ShoppingListDto shoppingListDto = createShoppingList("item");
+        Long itemId = shoppingListDto.getShoppingInventoryDtoList().get(0).getId();
+
+        assertThat(statements(MockMvcRequestBuilders.put("/shoppingList/update/item/" + shoppingListDto.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"id\": " + itemId + ", \"amount\": 4.0}"), status().isOk()))
+                .isEqualTo(2);
+        assertThat(statements(MockMvcRequestBuilders.delete("/shoppingList/delete/" + shoppingListDto.getId() + "/item/" + itemId), status().isOk()))
+                .isEqualTo(2);
+    }
+
+    @Test
+    void testDeleteShoppingList() throws Exception {
+        ShoppingListDto shoppingListDto = createShoppingList("delete");
+
+        assertThat(statements(MockMvcRequestBuilders.delete("/shoppingList/delete/" + shoppingListDto.getId()), status().isOk()))
+                .isEqualTo(3);
+    }
+
+    /**
+     * Creates a shopping list with three items for a fridge with the given ID.
+     * The first shopping list also allocates the pooled IDs, which costs extra sequence calls.
+     */
+    private ShoppingListDto createShoppingList(String fridgeId) throws Exception {
+        String content = mockMvc.perform(MockMvcRequestBuilders.post("/shoppingList/create/fridge/" + fridgeId))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(content, ShoppingListDto.class);
+    }
+
+    /**
+     * Performs the request and returns the number of SQL statements prepared while serving it.
+     */
+    private long statements(RequestBuilder request, ResultMatcher expectedStatus) throws Exception {
+        statistics.clear();
+        mockMvc.perform(request).andExpect(expectedStatus);
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -1,6 +1,7 @@
 package de.markus.meier.coolschrank.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import de.markus.meier.coolschrank.model.dto.CacheRegionStatsDto;
 import de.markus.meier.coolschrank.model.dto.UserDto;
 import de.markus.meier.coolschrank.service.UserService;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,6 +17,8 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.util.List;
+
 import static org.mockito.ArgumentMatchers.any;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -106,4 +109,16 @@ public class UserControllerTest {
                 .andExpect(status().isNotFound())
                 .andReturn();
     }
+
+    @Test
+    void testGetCacheStatsIsOk() throws Exception {
+        Mockito.when(userService.getCacheStats()).thenReturn(List.of(new CacheRegionStatsDto("user", 7L, 2L, 3L, 1L)));
+        mockMvc.perform(MockMvcRequestBuilders.get("/user/cache/stats")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].regionName").value("user"))
+                .andExpect(jsonPath("$[0].hitCount").value(7L))
+                .andReturn();
+    }
 }
@@ -0,0 +1,115 @@
+package de.markus.meier.coolschrank.jfr;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:jfr",
+        "fridge.simulator.latency-median=1ms",
+        "fridge.simulator.latency-p99=1ms",
+        "jfr.recording.settings=default",
+        "jfr.recording.dump-directory=" + FlightRecordingEndpointTest.DUMP_DIRECTORY})
+@ActiveProfiles({"fridge-simulator", "jfr"})
+@AutoConfigureMockMvc
+public class FlightRecordingEndpointTest {
+
+    static final String DUMP_DIRECTORY = "target/jfr-test";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private FlightRecordingEndpoint flightRecordingEndpoint;
+
+    @TempDir
+    Path directory;
+
+    @AfterEach
+    public void close() {
+        flightRecordingEndpoint.close();
+    }
+
+    @Test
+    void testRecording_ContainsDomainEvents() throws Exception {
+        mockMvc.perform(get("/actuator/jfr")).andExpect(status().isOk()).andExpect(jsonPath("$.state").value("NONE"));
+        mockMvc.perform(post("/actuator/jfr").contentType(MediaType.APPLICATION_JSON).content("{}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("RUNNING"))
+                .andExpect(jsonPath("$.settings").value("default"));
+
+        String fridgeId = mockMvc.perform(post("/fridge/create")).andExpect(status().isCreated()).andReturn().getResponse().getContentAsString();
+        String shoppingList = mockMvc.perform(post("/shoppingList/create/fridge/" + fridgeId)).andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        long shoppingListId = objectMapper.readTree(shoppingList).get("id").asLong();
+        mockMvc.perform(put("/shoppingList/update/" + shoppingListId + "/fridge/" + fridgeId)).andExpect(status().isOk());
+
+        mockMvc.perform(delete("/actuator/jfr")).andExpect(status().isOk()).andExpect(jsonPath("$.state").value("STOPPED"));
+        byte[] dump = mockMvc.perform(get("/actuator/jfr/dump")).andExpect(status().isOk()).andReturn().getResponse().getContentAsByteArray();
+        Path file = Files.write(directory.resolve("dump.jfr"), dump);
+        assertThat(Path.of(DUMP_DIRECTORY)).isEmptyDirectory();
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().startsWith("coolschrank."))
+                .collect(Collectors.toList());
+
+        RecordedEvent reconciliation = events.stream().filter(event -> event.getEventType().getName().equals("coolschrank.Reconciliation"))
+                .findFirst().orElseThrow();
+        assertThat(reconciliation.getLong("shoppingListId")).isEqualTo(shoppingListId);
+        assertThat(reconciliation.getString("fridgeId")).isEqualTo(fridgeId);
+        assertThat(reconciliation.getInt("fridgeItems")).isPositive();
+        assertThat(events).anySatisfy(event -> {
+            assertThat(event.getEventType().getName()).isEqualTo("coolschrank.FridgeCall");
+            assertThat(event.getString("operation")).isEqualTo("create_fridge");
+            assertThat(event.getString("uri")).isEqualTo("/fridge");
+            assertThat(event.getInt("status")).isEqualTo(200);
+            assertThat(event.getLong("responseBytes")).isPositive();
+        });
+        assertThat(events).anySatisfy(event -> {
+            assertThat(event.getEventType().getName()).isEqualTo("coolschrank.RepositoryCall");
+            assertThat(event.getString("repository")).isEqualTo("shopping_list");
+            assertThat(event.getString("operation")).isEqualTo("save");
+            assertThat(event.getBoolean("failed")).isFalse();
+        });
+    }
+
+    @Test
+    void testRecording_RejectsInvalidTransitions() throws Exception {
+        mockMvc.perform(delete("/actuator/jfr")).andExpect(status().isNotFound());
+        mockMvc.perform(get("/actuator/jfr/dump")).andExpect(status().isNotFound());
+        mockMvc.perform(post("/actuator/jfr").contentType(MediaType.APPLICATION_JSON).content("{\"settings\": \"unknown\"}"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post("/actuator/jfr").contentType(MediaType.APPLICATION_JSON).content("{}")).andExpect(status().isOk());
+        mockMvc.perform(post("/actuator/jfr").contentType(MediaType.APPLICATION_JSON).content("{}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.state").value("RUNNING"));
+        mockMvc.perform(get("/actuator/jfr/dump")).andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/jfr/other")).andExpect(status().isNotFound());
+        assertThat(Path.of(DUMP_DIRECTORY)).isEmptyDirectory();
+    }
+}
@@ -0,0 +1,86 @@
+package de.markus.meier.coolschrank.jfr;
+
+import de.markus.meier.coolschrank.config.FridgeApiObservationConvention;
+import de.markus.meier.coolschrank.config.FridgeApiProperties;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class FridgeCallEventFilterTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testFilter_RecordsOperationStatusAndBytes() throws IOException {
+        WebClient webClient = webClient(Mono.just(ClientResponse.create(HttpStatus.OK).body("{\"id\": \"XXX\"}").build()));
+
+        List<RecordedEvent> events = record(() -> webClient.get().uri("http://fridge/fridge/XXX").retrieve().bodyToMono(String.class).block());
+
+        assertThat(events).hasSize(1);
+        RecordedEvent event = events.get(0);
+        assertThat(event.getString("operation")).isEqualTo("get_fridge");
+        assertThat(event.getString("uri")).isEqualTo("/fridge/{id}");
+        assertThat(event.getInt("status")).isEqualTo(200);
+        assertThat(event.getLong("responseBytes")).isEqualTo(13);
+        assertThat(event.getBoolean("failed")).isFalse();
+    }
+
+    @Test
+    void testFilter_RecordsFailedCall() throws IOException {
+        WebClient webClient = webClient(Mono.error(new ConnectException("refused")));
+
+        List<RecordedEvent> events = record(() -> assertThatThrownBy(() -> webClient.post().uri("http://fridge/fridge/XXX/item")
+                .retrieve().bodyToMono(String.class).block()).hasRootCauseInstanceOf(ConnectException.class));
+
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getString("operation")).isEqualTo("add_item");
+        assertThat(events.get(0).getInt("status")).isZero();
+        assertThat(events.get(0).getBoolean("failed")).isTrue();
+    }
+
+    @Test
+    void testFilter_PassesThroughWithoutRecording() {
+        WebClient webClient = webClient(Mono.just(ClientResponse.create(HttpStatus.OK).body("{}").build()));
+
+        assertThat(webClient.get().uri("http://fridge/fridge/XXX").retrieve().bodyToMono(String.class).block()).isEqualTo("{}");
+    }
+
+    private static WebClient webClient(Mono<ClientResponse> response) {
+        FridgeApiProperties fridgeApiProperties = new FridgeApiProperties();
+        fridgeApiProperties.setBaseUrl("http://fridge");
+        return WebClient.builder()
+                .exchangeFunction(request -> response)
+                .filter(new FridgeCallEventFilter(new FridgeApiObservationConvention(fridgeApiProperties)))
+                .build();
+    }
+
+    private List<RecordedEvent> record(Runnable calls) throws IOException {
+        Path file = directory.resolve("calls.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(FridgeCallEvent.class);
+            recording.start();
+            calls.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals("coolschrank.FridgeCall"))
+                .collect(Collectors.toList());
+    }
+}
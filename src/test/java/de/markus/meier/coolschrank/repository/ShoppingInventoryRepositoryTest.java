@@ -0,0 +1,97 @@
+package de.markus.meier.coolschrank.repository;
+
+import de.markus.meier.coolschrank.model.model.ShoppingInventoryEntity;
+import de.markus.meier.coolschrank.model.model.ShoppingListEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+public class ShoppingInventoryRepositoryTest {
+
+    @Autowired
+    private ShoppingInventoryRepository shoppingInventoryRepository;
+
+    @Autowired
+    private ShoppingListRepository shoppingListRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    private ShoppingListEntity shoppingListEntity;
+
+    private ShoppingListEntity otherShoppingListEntity;
+
+    @BeforeEach
+    void init() {
+        List<ShoppingInventoryEntity> shoppingInventoryEntityList = new ArrayList<>();
+        shoppingInventoryEntityList.add(new ShoppingInventoryEntity(1L, "Cola", 0.5f));
+        shoppingInventoryEntityList.add(new ShoppingInventoryEntity(2L, "Milch", 1f));
+        shoppingListEntity = shoppingListRepository.saveAndFlush(new ShoppingListEntity(null, "XXX", shoppingInventoryEntityList));
+        List<ShoppingInventoryEntity> otherShoppingInventoryEntityList = new ArrayList<>();
+        otherShoppingInventoryEntityList.add(new ShoppingInventoryEntity(1L, "Cola", 3f));
+        otherShoppingListEntity = shoppingListRepository.saveAndFlush(new ShoppingListEntity(null, "YYY", otherShoppingInventoryEntityList));
+        testEntityManager.clear();
+    }
+
+    @Test
+    void testUpdateAmount_Found() {
+        Long itemId = shoppingListEntity.getShoppingInventoryEntityList().get(0).getId();
+
+        Optional<ShoppingInventoryEntity> result = shoppingInventoryRepository.updateAmount(shoppingListEntity.getId(), itemId, 4f);
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        assertThat(result).isPresent();
+        assertThat(result.get().getName()).isEqualTo("Cola");
+        assertThat(result.get().getAmount()).isEqualTo(4f);
+        assertThat(shoppingInventoryRepository.findById(itemId).get().getAmount()).isEqualTo(4f);
+    }
+
+    @Test
+    void testUpdateAmount_ItemOfOtherShoppingList() {
+        Long itemId = otherShoppingListEntity.getShoppingInventoryEntityList().get(0).getId();
+
+        Optional<ShoppingInventoryEntity> result = shoppingInventoryRepository.updateAmount(shoppingListEntity.getId(), itemId, 4f);
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        assertThat(result).isEmpty();
+        assertThat(shoppingInventoryRepository.findById(itemId).get().getAmount()).isEqualTo(3f);
+    }
+
+    @Test
+    void testDeleteFromShoppingList_Found() {
+        Long itemId = shoppingListEntity.getShoppingInventoryEntityList().get(0).getId();
+
+        Optional<ShoppingInventoryEntity> result = shoppingInventoryRepository.deleteFromShoppingList(shoppingListEntity.getId(), itemId);
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        assertThat(result).isPresent();
+        assertThat(result.get().getName()).isEqualTo("Cola");
+        assertThat(result.get().getAmount()).isEqualTo(0.5f);
+        assertThat(shoppingListRepository.findById(shoppingListEntity.getId()).get().getShoppingInventoryEntityList())
+                .extracting(ShoppingInventoryEntity::getName).containsExactly("Milch");
+    }
+
+    @Test
+    void testDeleteFromShoppingList_ItemOfOtherShoppingList() {
+        Long itemId = otherShoppingListEntity.getShoppingInventoryEntityList().get(0).getId();
+
+        Optional<ShoppingInventoryEntity> result = shoppingInventoryRepository.deleteFromShoppingList(shoppingListEntity.getId(), itemId);
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        assertThat(result).isEmpty();
+        assertThat(shoppingInventoryRepository.existsById(itemId)).isTrue();
+    }
+}
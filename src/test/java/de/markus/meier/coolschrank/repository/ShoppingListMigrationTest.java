@@ -0,0 +1,79 @@
+package de.markus.meier.coolschrank.repository;
+
+import de.markus.meier.coolschrank.model.model.ShoppingInventoryEntity;
+import de.markus.meier.coolschrank.model.model.ShoppingListEntity;
+import org.h2.tools.RunScript;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Applies db/shopping-list-migration.sql to a database with the original schema and starts Hibernate on it with
+ * schema validation.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=" + ShoppingListMigrationTest.URL,
+        "spring.jpa.hibernate.ddl-auto=validate"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class ShoppingListMigrationTest {
+
+    static final String URL = "jdbc:h2:mem:migration;DB_CLOSE_DELAY=-1";
+
+    private static final String ORIGINAL_SCHEMA = """
+            create table user_entity (id bigint generated by default as identity, fridge_id varchar(255), password varchar(255) not null,
+                username varchar(255) not null, primary key (id));
+            create table shopping_list_entity (id bigint generated by default as identity, fridge_id varchar(255) not null, primary key (id));
+            create table shopping_inventory_entity (id bigint generated by default as identity, amount float(24) not null,
+                fridge_inventory_id bigint not null, name varchar(255) not null, shopping_inventory_entity_list_id bigint, primary key (id));
+            alter table shopping_inventory_entity add constraint fk_shopping_inventory_list
+                foreign key (shopping_inventory_entity_list_id) references shopping_list_entity;
+            insert into shopping_list_entity (id, fridge_id) values (1, 'XXX'), (2, 'XXX'), (3, 'YYY');
+            insert into shopping_inventory_entity (id, amount, fridge_inventory_id, name, shopping_inventory_entity_list_id)
+                values (1, 1, 1, 'Cola', 1), (2, 1, 3, 'Butter', null), (3, 1, 1, 'Cola', 2), (4, 1, 2, 'Milch', 3);
+            """;
+
+    @Autowired
+    private ShoppingListRepository shoppingListRepository;
+
+    @BeforeAll
+    static void migrate() throws Exception {
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+             Reader migration = new InputStreamReader(new ClassPathResource("db/shopping-list-migration.sql").getInputStream(), StandardCharsets.UTF_8)) {
+            RunScript.execute(connection, new StringReader(ORIGINAL_SCHEMA));
+            RunScript.execute(connection, migration);
+        }
+    }
+
+    @Test
+    void testMigration_KeepsOldestListPerFridge() {
+        assertThat(shoppingListRepository.findAll()).extracting(ShoppingListEntity::getId).containsExactlyInAnyOrder(1L, 3L);
+        assertThatThrownBy(() -> shoppingListRepository.saveAndFlush(new ShoppingListEntity(null, "YYY", new ArrayList<>())))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void testMigration_NewIdsAboveExistingIds() {
+        List<ShoppingInventoryEntity> shoppingInventoryEntityList = new ArrayList<>();
+        shoppingInventoryEntityList.add(new ShoppingInventoryEntity(1L, "Cola", 0.5f));
+        ShoppingListEntity saved = shoppingListRepository.saveAndFlush(new ShoppingListEntity(null, "ZZZ", shoppingInventoryEntityList));
+
+        assertThat(saved.getId()).isGreaterThan(3L);
+        assertThat(saved.getShoppingInventoryEntityList().get(0).getId()).isGreaterThan(4L);
+    }
+}
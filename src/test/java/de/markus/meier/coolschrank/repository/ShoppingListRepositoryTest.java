@@ -0,0 +1,108 @@
+package de.markus.meier.coolschrank.repository;
+
+import de.markus.meier.coolschrank.model.dto.ShoppingInventoryDto;
+import de.markus.meier.coolschrank.model.dto.ShoppingListDto;
+import de.markus.meier.coolschrank.model.model.ShoppingInventoryEntity;
+import de.markus.meier.coolschrank.model.model.ShoppingListEntity;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+public class ShoppingListRepositoryTest {
+
+    @Autowired
+    private ShoppingListRepository shoppingListRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Test
+    void testExistsByFridgeId() {
+        shoppingListRepository.save(new ShoppingListEntity(null, "XXX", new ArrayList<>()));
+
+        assertThat(shoppingListRepository.existsByFridgeId("XXX")).isTrue();
+        assertThat(shoppingListRepository.existsByFridgeId("YYY")).isFalse();
+    }
+
+    @Test
+    void testSave_SecondListForFridgeIsRejected() {
+        shoppingListRepository.saveAndFlush(new ShoppingListEntity(null, "XXX", new ArrayList<>()));
+
+        assertThatThrownBy(() -> shoppingListRepository.saveAndFlush(new ShoppingListEntity(null, "XXX", new ArrayList<>())))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void testSave_RemovedItemIsDeleted() {
+        List<ShoppingInventoryEntity> shoppingInventoryEntityList = new ArrayList<>();
+        shoppingInventoryEntityList.add(new ShoppingInventoryEntity(1L, "Cola", 0.5f));
+        shoppingInventoryEntityList.add(new ShoppingInventoryEntity(2L, "Milch", 1f));
+        ShoppingListEntity shoppingListEntity = shoppingListRepository.saveAndFlush(new ShoppingListEntity(null, "XXX", shoppingInventoryEntityList));
+
+        shoppingListEntity.getShoppingInventoryEntityList().remove(0);
+        shoppingListRepository.saveAndFlush(shoppingListEntity);
+        testEntityManager.clear();
+
+        Long items = testEntityManager.getEntityManager()
+                .createQuery("select count(i) from ShoppingInventoryEntity i", Long.class)
+                .getSingleResult();
+        assertThat(items).isEqualTo(1L);
+        assertThat(shoppingListRepository.findById(shoppingListEntity.getId()).get().getShoppingInventoryEntityList())
+                .extracting(ShoppingInventoryEntity::getName).containsExactly("Milch");
+    }
+
+    @Test
+    void testSave_ItemIsLinkedToShoppingList() {
+        ShoppingListEntity shoppingListEntity = shoppingListRepository.saveAndFlush(new ShoppingListEntity(null, "XXX", new ArrayList<>()));
+        shoppingListEntity.addShoppingInventory(new ShoppingInventoryEntity(1L, "Cola", 0.5f));
+        shoppingListRepository.saveAndFlush(shoppingListEntity);
+        testEntityManager.clear();
+
+        ShoppingInventoryEntity shoppingInventoryEntity = testEntityManager.getEntityManager()
+                .createQuery("select i from ShoppingInventoryEntity i", ShoppingInventoryEntity.class)
+                .getSingleResult();
+        assertThat(shoppingInventoryEntity.getShoppingList().getId()).isEqualTo(shoppingListEntity.getId());
+    }
+
+    @Test
+    void testFindWithItemsById_ItemsAreFetched() {
+        List<ShoppingInventoryEntity> shoppingInventoryEntityList = new ArrayList<>();
+        shoppingInventoryEntityList.add(new ShoppingInventoryEntity(1L, "Cola", 0.5f));
+        ShoppingListEntity shoppingListEntity = shoppingListRepository.saveAndFlush(new ShoppingListEntity(null, "XXX", shoppingInventoryEntityList));
+        testEntityManager.clear();
+
+        ShoppingListEntity result = shoppingListRepository.findWithItemsById(shoppingListEntity.getId()).get();
+
+        assertThat(Hibernate.isInitialized(result.getShoppingInventoryEntityList())).isTrue();
+        assertThat(result.getShoppingInventoryEntityList()).extracting(ShoppingInventoryEntity::getName).containsExactly("Cola");
+    }
+
+    @Test
+    void testFindDtoById_NoEntityIsLoaded() {
+        List<ShoppingInventoryEntity> shoppingInventoryEntityList = new ArrayList<>();
+        shoppingInventoryEntityList.add(new ShoppingInventoryEntity(1L, "Cola", 0.5f));
+        shoppingInventoryEntityList.add(new ShoppingInventoryEntity(2L, "Milch", 1f));
+        ShoppingListEntity shoppingListEntity = shoppingListRepository.saveAndFlush(new ShoppingListEntity(null, "XXX", shoppingInventoryEntityList));
+        testEntityManager.clear();
+
+        ShoppingListDto result = shoppingListRepository.findDtoById(shoppingListEntity.getId()).get();
+
+        assertThat(result.getId()).isEqualTo(shoppingListEntity.getId());
+        assertThat(result.getFridgeId()).isEqualTo("XXX");
+        assertThat(result.getShoppingInventoryDtoList()).extracting(ShoppingInventoryDto::getName).containsExactly("Cola", "Milch");
+        assertThat(result.getShoppingInventoryDtoList()).extracting(ShoppingInventoryDto::getAmount).containsExactly(0.5f, 1f);
+        assertThat(testEntityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+        assertThat(shoppingListRepository.findDtoById(0L)).isEmpty();
+    }
+}
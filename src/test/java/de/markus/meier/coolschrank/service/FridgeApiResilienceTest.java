@@ -0,0 +1,99 @@
+package de.markus.meier.coolschrank.service;
+
+import de.markus.meier.coolschrank.config.FridgeApiProperties;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class FridgeApiResilienceTest {
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private FridgeApiResilience fridgeApiResilience;
+
+    @BeforeEach
+    public void init() {
+        FridgeApiProperties fridgeApiProperties = new FridgeApiProperties();
+        fridgeApiProperties.getResilience().setTimeout(Duration.ofMillis(50));
+        fridgeApiProperties.getResilience().setMaxConcurrentCalls(1);
+        fridgeApiProperties.getResilience().setSlidingWindowSize(4);
+        fridgeApiProperties.getResilience().setMinimumNumberOfCalls(4);
+        fridgeApiResilience = new FridgeApiResilience(fridgeApiProperties);
+    }
+
+    @Test
+    void testProtect_FailuresOpenCircuit() {
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> fridgeApiResilience.protect(call(Mono.error(serverError()))).block())
+                    .isInstanceOf(WebClientResponseException.class);
+        }
+
+        assertThatThrownBy(() -> fridgeApiResilience.protect(call(Mono.just("ok"))).block())
+                .isInstanceOf(CallNotPermittedException.class);
+        assertThat(calls.get()).isEqualTo(4);
+        assertThat(fridgeApiResilience.stats().getCircuitBreakerState()).isEqualTo("OPEN");
+        assertThat(fridgeApiResilience.stats().getNotPermittedCallCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void testProtect_ClientErrorsKeepCircuitClosed() {
+        WebClientResponseException notFound = WebClientResponseException.create(
+                HttpStatus.NOT_FOUND.value(), "Not Found", new HttpHeaders(), new byte[0], null);
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> fridgeApiResilience.protect(call(Mono.error(notFound))).block())
+                    .isSameAs(notFound);
+        }
+
+        assertThat(fridgeApiResilience.protect(call(Mono.just("ok"))).block()).isEqualTo("ok");
+        assertThat(fridgeApiResilience.stats().getCircuitBreakerState()).isEqualTo("CLOSED");
+        assertThat(FridgeApiResilience.isUnavailable(notFound)).isFalse();
+    }
+
+    @Test
+    void testProtect_SlowCallTimesOut() {
+        assertThatThrownBy(() -> fridgeApiResilience.protect(call(Mono.never())).block())
+                .hasCauseInstanceOf(TimeoutException.class);
+        assertThat(fridgeApiResilience.stats().getFailedCallCount()).isEqualTo(1);
+        assertThat(fridgeApiResilience.stats().getAvailableConcurrentCalls()).isEqualTo(1);
+    }
+
+    @Test
+    void testProtect_FullBulkheadRejects() {
+        Sinks.One<String> response = Sinks.one();
+        fridgeApiResilience.protect(call(response.asMono())).subscribe();
+
+        assertThatThrownBy(() -> fridgeApiResilience.protect(call(Mono.just("ok"))).block())
+                .isInstanceOf(BulkheadFullException.class);
+        assertThat(fridgeApiResilience.stats().getBulkheadRejectedCount()).isEqualTo(1L);
+        assertThat(fridgeApiResilience.stats().getFailedCallCount()).isZero();
+
+        response.tryEmitValue("ok");
+        assertThat(fridgeApiResilience.protect(call(Mono.just("ok"))).block()).isEqualTo("ok");
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    private <T> Mono<T> call(Mono<T> response) {
+        return Mono.defer(() -> {
+            calls.incrementAndGet();
+            return response;
+        });
+    }
+
+    private static WebClientResponseException serverError() {
+        return WebClientResponseException.create(
+                HttpStatus.INTERNAL_SERVER_ERROR.value(), "Internal Server Error", new HttpHeaders(), new byte[0], null);
+    }
+}
@@ -0,0 +1,91 @@
+package de.markus.meier.coolschrank.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.markus.meier.coolschrank.config.FridgeApiProperties;
+import de.markus.meier.coolschrank.config.WebClientConfig;
+import de.markus.meier.coolschrank.model.dto.ConnectionPoolStatsDto;
+import de.markus.meier.coolschrank.simulator.FridgeApiStandIn;
+import de.markus.meier.coolschrank.simulator.FridgeTrafficRecorder;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FridgeConnectionPoolMetricsTest {
+
+    private DisposableServer server;
+
+    private ConnectionProvider connectionProvider;
+
+    private FridgeConnectionPoolMetrics fridgeConnectionPoolMetrics;
+
+    private WebClient webClient;
+
+    @BeforeEach
+    public void init() {
+        server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .route(routes -> routes.get("/fridge/{id}", (request, response) -> response.sendString(Mono.just("{}"))))
+                .bindNow();
+        FridgeApiProperties fridgeApiProperties = new FridgeApiProperties();
+        fridgeApiProperties.setBaseUrl("http://127.0.0.1:" + server.port());
+        fridgeApiProperties.getPool().setMaxConnections(5);
+        WebClientConfig webClientConfig = new WebClientConfig();
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        fridgeConnectionPoolMetrics = new FridgeConnectionPoolMetrics(fridgeApiProperties);
+        connectionProvider = webClientConfig.fridgeConnectionProvider(fridgeApiProperties, fridgeConnectionPoolMetrics);
+        webClient = webClientConfig.fridgeWebClient(WebClient.builder().baseUrl(fridgeApiProperties.getBaseUrl()),
+                connectionProvider, fridgeApiProperties, fridgeConnectionPoolMetrics,
+                beanFactory.getBeanProvider(FridgeApiStandIn.class), beanFactory.getBeanProvider(FridgeTrafficRecorder.class),
+                new ObjectMapper(), new ServiceTracing(ObservationRegistry.NOOP));
+    }
+
+    @AfterEach
+    public void close() {
+        connectionProvider.dispose();
+        server.disposeNow();
+    }
+
+    @Test
+    void testStats_Empty() {
+        ConnectionPoolStatsDto stats = fridgeConnectionPoolMetrics.stats();
+
+        assertThat(stats.getMaxConnections()).isEqualTo(5);
+        assertThat(stats.getAllocatedConnections()).isZero();
+        assertThat(stats.getAcquireLatency().getCount()).isZero();
+    }
+
+    @Test
+    void testStats_ConnectionIsReused() throws InterruptedException {
+        webClient.get().uri("/fridge/XXX").retrieve().bodyToMono(String.class).block();
+        awaitIdleConnection();
+        webClient.get().uri("/fridge/XXX").retrieve().bodyToMono(String.class).block();
+        awaitIdleConnection();
+
+        ConnectionPoolStatsDto stats = fridgeConnectionPoolMetrics.stats();
+        assertThat(stats.getAllocatedConnections()).isEqualTo(1);
+        assertThat(stats.getIdleConnections()).isEqualTo(1);
+        assertThat(stats.getActiveConnections()).isZero();
+        assertThat(stats.getPendingAcquires()).isZero();
+        assertThat(stats.getAcquireLatency().getCount()).isEqualTo(2L);
+    }
+
+    /**
+     * Waits until the connection of the last call is back in the pool, which happens on the event loop after the
+     * response body was delivered.
+     */
+    private void awaitIdleConnection() throws InterruptedException {
+        for (int i = 0; i < 100 && fridgeConnectionPoolMetrics.stats().getIdleConnections() == 0; i++) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package de.markus.meier.coolschrank.service;
+
+import de.markus.meier.coolschrank.model.dto.FridgeDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class FridgeRequestCoalescerTest {
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private FridgeRequestCoalescer fridgeRequestCoalescer;
+
+    @BeforeEach
+    public void init() {
+        fridgeRequestCoalescer = new FridgeRequestCoalescer();
+    }
+
+    @Test
+    void testCoalesce_ConcurrentCallersShareOneCall() {
+        Sinks.One<FridgeDto> response = Sinks.one();
+
+        CompletableFuture<FridgeDto> first = fridgeRequestCoalescer.coalesce("XXX", () -> call(response.asMono())).toFuture();
+        CompletableFuture<FridgeDto> second = fridgeRequestCoalescer.coalesce("XXX", () -> call(response.asMono())).toFuture();
+        assertThat(fridgeRequestCoalescer.stats().getInFlightCount()).isEqualTo(1L);
+        response.tryEmitValue(new FridgeDto("XXX", new ArrayList<>()));
+
+        assertThat(second.join()).isSameAs(first.join());
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(fridgeRequestCoalescer.stats().getRemoteCallCount()).isEqualTo(1L);
+        assertThat(fridgeRequestCoalescer.stats().getCollapsedCallCount()).isEqualTo(1L);
+        assertThat(fridgeRequestCoalescer.stats().getInFlightCount()).isZero();
+    }
+
+    @Test
+    void testCoalesce_DifferentFridgesAreNotShared() {
+        Sinks.One<FridgeDto> response = Sinks.one();
+
+        fridgeRequestCoalescer.coalesce("XXX", () -> call(response.asMono())).subscribe();
+        fridgeRequestCoalescer.coalesce("YYY", () -> call(response.asMono())).subscribe();
+
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(fridgeRequestCoalescer.stats().getCollapsedCallCount()).isZero();
+    }
+
+    @Test
+    void testCoalesce_CompletedCallIsNotReused() {
+        fridgeRequestCoalescer.coalesce("XXX", () -> call(Mono.just(new FridgeDto("XXX", new ArrayList<>())))).block();
+        fridgeRequestCoalescer.coalesce("XXX", () -> call(Mono.just(new FridgeDto("XXX", new ArrayList<>())))).block();
+
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(fridgeRequestCoalescer.stats().getRemoteCallCount()).isEqualTo(2L);
+    }
+
+    @Test
+    void testCoalesce_ErrorIsSharedAndNotReused() {
+        Sinks.One<FridgeDto> response = Sinks.one();
+
+        CompletableFuture<FridgeDto> first = fridgeRequestCoalescer.coalesce("XXX", () -> call(response.asMono())).toFuture();
+        CompletableFuture<FridgeDto> second = fridgeRequestCoalescer.coalesce("XXX", () -> call(response.asMono())).toFuture();
+        response.tryEmitError(new IllegalStateException("upstream failed"));
+
+        assertThatThrownBy(first::join).hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(second::join).hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(fridgeRequestCoalescer.stats().getInFlightCount()).isZero();
+
+        fridgeRequestCoalescer.coalesce("XXX", () -> call(Mono.just(new FridgeDto("XXX", new ArrayList<>())))).block();
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    private Mono<FridgeDto> call(Mono<FridgeDto> response) {
+        return Mono.defer(() -> {
+            calls.incrementAndGet();
+            return response;
+        });
+    }
+}
@@ -0,0 +1,135 @@
+package de.markus.meier.coolschrank.service;
+
+import de.markus.meier.coolschrank.config.FridgeApiProperties;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class FridgeRequestHedgerTest {
+
+    private final AtomicLong time = new AtomicLong();
+
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    private FridgeRequestHedger fridgeRequestHedger;
+
+    @BeforeEach
+    public void init() {
+        FridgeApiProperties fridgeApiProperties = new FridgeApiProperties();
+        fridgeApiProperties.getHedging().setEnabled(true);
+        fridgeApiProperties.getHedging().setMinDelay(Duration.ofMillis(20));
+        fridgeApiProperties.getHedging().setWindow(Duration.ofSeconds(10));
+        fridgeApiProperties.getHedging().setMinimumSamples(10);
+        fridgeRequestHedger = new FridgeRequestHedger(fridgeApiProperties, time::get);
+    }
+
+    @Test
+    void testHedge_NoHedgingWithoutObservedWindow() {
+        assertThat(fridgeRequestHedger.hedge(() -> attempt(Mono.delay(Duration.ofMillis(50)).thenReturn("slow"))).block())
+                .isEqualTo("slow");
+
+        assertThat(attempts.get()).isEqualTo(1);
+        assertThat(fridgeRequestHedger.stats().getHedgeDelayMillis()).isEqualTo(-1);
+    }
+
+    @Test
+    void testHedge_SlowRequestIsHedged() {
+        observeFastWindow();
+
+        String result = fridgeRequestHedger.hedge(() -> attempts.get() == 10
+                ? attempt(Mono.never())
+                : attempt(Mono.just("hedge"))).block(Duration.ofSeconds(2));
+
+        assertThat(result).isEqualTo("hedge");
+        assertThat(attempts.get()).isEqualTo(12);
+        assertThat(fridgeRequestHedger.stats().getHedgeDelayMillis()).isEqualTo(20);
+        assertThat(fridgeRequestHedger.stats().getHedgedCallCount()).isEqualTo(1L);
+        assertThat(fridgeRequestHedger.stats().getHedgeWonCount()).isEqualTo(1L);
+        assertThat(fridgeRequestHedger.stats().getAttemptLatency().getCount()).isEqualTo(12L);
+        assertThat(fridgeRequestHedger.stats().getReadLatency().getCount()).isEqualTo(11L);
+    }
+
+    @Test
+    void testHedge_FastRequestIsNotHedged() {
+        observeFastWindow();
+
+        assertThat(fridgeRequestHedger.hedge(() -> attempt(Mono.just("fast"))).block()).isEqualTo("fast");
+
+        assertThat(attempts.get()).isEqualTo(11);
+        assertThat(fridgeRequestHedger.stats().getHedgedCallCount()).isZero();
+    }
+
+    @Test
+    void testHedge_RejectedHedgeIsDropped() {
+        observeFastWindow();
+
+        String result = fridgeRequestHedger.hedge(() -> attempts.get() == 10
+                ? attempt(Mono.delay(Duration.ofMillis(100)).thenReturn("primary"))
+                : attempt(Mono.error(BulkheadFullException.createBulkheadFullException(Bulkhead.ofDefaults("test"))))).block(Duration.ofSeconds(2));
+
+        assertThat(result).isEqualTo("primary");
+        assertThat(fridgeRequestHedger.stats().getHedgedCallCount()).isEqualTo(1L);
+        assertThat(fridgeRequestHedger.stats().getHedgeWonCount()).isZero();
+    }
+
+    @Test
+    void testHedge_FastPrimaryFailureDoesNotCancelHedge() {
+        observeFastWindow();
+        WebClientRequestException reset = connectionReset();
+
+        String result = fridgeRequestHedger.hedge(() -> attempts.get() == 10
+                ? attempt(Mono.error(reset))
+                : attempt(Mono.just("hedge"))).block(Duration.ofSeconds(2));
+
+        assertThat(result).isEqualTo("hedge");
+        assertThat(fridgeRequestHedger.stats().getHedgedCallCount()).isEqualTo(1L);
+        assertThat(fridgeRequestHedger.stats().getHedgeWonCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void testHedge_FailsOnceBothRequestsFailed() {
+        observeFastWindow();
+        WebClientRequestException reset = connectionReset();
+
+        assertThatThrownBy(() -> fridgeRequestHedger.hedge(() -> attempts.get() == 10
+                ? attempt(Mono.<String>error(reset))
+                : attempt(Mono.<String>error(BulkheadFullException.createBulkheadFullException(Bulkhead.ofDefaults("test"))))).block(Duration.ofSeconds(2)))
+                .isSameAs(reset);
+        assertThat(attempts.get()).isEqualTo(12);
+    }
+
+    /**
+     * Records ten fast reads and closes the observation window, so the hedge delay falls back to the minimum.
+     */
+    private void observeFastWindow() {
+        for (int i = 0; i < 10; i++) {
+            fridgeRequestHedger.hedge(() -> attempt(Mono.just("fast"))).block();
+        }
+        time.addAndGet(Duration.ofSeconds(10).toNanos());
+    }
+
+    private static WebClientRequestException connectionReset() {
+        return new WebClientRequestException(new IOException("Connection reset"), HttpMethod.GET, URI.create("http://fridge/XXX"), new HttpHeaders());
+    }
+
+    private <T> Mono<T> attempt(Mono<T> response) {
+        return Mono.defer(() -> {
+            attempts.incrementAndGet();
+            return response;
+        });
+    }
+}
@@ -1,9 +1,11 @@
 package de.markus.meier.coolschrank.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import de.markus.meier.coolschrank.config.Deadline;
+import de.markus.meier.coolschrank.config.FridgeApiProperties;
 import de.markus.meier.coolschrank.model.dto.FridgeDto;
 import de.markus.meier.coolschrank.model.dto.FridgeInventoryDto;
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -13,27 +15,43 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.reactive.function.BodyInserter;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.server.ResponseStatusException;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
 
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
-@SpringBootTest(classes = {FridgeService.class})
+@SpringBootTest(classes = {FridgeService.class, FridgeSnapshotCache.class, FridgeApiProperties.class, FridgeRequestCoalescer.class, FridgeApiResilience.class, FridgeRequestHedger.class, FridgeConnectionPoolMetrics.class, ServiceTracing.class})
 public class FridgeServiceTest {
 
     @Autowired
     @InjectMocks
     private FridgeService fridgeService;
 
+    @Autowired
+    private FridgeSnapshotCache fridgeSnapshotCache;
+
     @MockBean
     private WebClient mockedWebClient;
 
     @BeforeEach
     public void init() {
         MockitoAnnotations.openMocks(this);
+        fridgeSnapshotCache.invalidate("XXX");
     }
 
     @Test
@@ -46,7 +64,7 @@ public class FridgeServiceTest {
         Mockito.when(mockedWebClient.post()).thenReturn(requestBodyUriSpecMock);
         Mockito.when(requestBodyUriSpecMock.uri(Mockito.anyString())).thenReturn(requestBodySpecMock);
         Mockito.when(requestBodySpecMock.retrieve()).thenReturn(responseSpecMock);
-        Mockito.when(responseSpecMock.bodyToMono(String.class)).thenReturn(Mono.just("{\"id\": \"XXX\"}"));
+        Mockito.when(responseSpecMock.bodyToMono(FridgeDto.class)).thenReturn(Mono.just(new FridgeDto("XXX", null)));
 
 
         String result = fridgeService.createFridge();
@@ -56,13 +74,12 @@ public class FridgeServiceTest {
         Mockito.verify(mockedWebClient).post();
         Mockito.verify(requestBodyUriSpecMock).uri("https://innovations.rola.com/build/rola/coolschrank/ongoing/application/fridge");
         Mockito.verify(requestBodySpecMock).retrieve();
-        Mockito.verify(responseSpecMock).bodyToMono(String.class);
+        Mockito.verify(responseSpecMock).bodyToMono(FridgeDto.class);
     }
 
     @Test
     void testAddFridgeInventory_OK() throws JsonProcessingException {
 
-        ObjectMapper objectMapper = Mockito.mock(ObjectMapper.class);
         FridgeInventoryDto fridgeInventoryDto = new FridgeInventoryDto("Cola", 0.5f, 0.5f);
 
         WebClient.RequestBodyUriSpec requestBodyUriSpecMock = Mockito.mock(WebClient.RequestBodyUriSpec.class);
@@ -75,9 +92,7 @@ public class FridgeServiceTest {
         Mockito.when(requestBodySpecMock.headers(Mockito.any())).thenReturn(requestBodySpecMock);
         Mockito.when(requestBodySpecMock.retrieve()).thenReturn(responseSpecMock);
 
-        String exampleJson = "{\"id\": 123, \"name\": \"Cola\", \"actual\": 0.5, \"target\": 0.5}";
-        Mockito.when(responseSpecMock.bodyToMono(String.class)).thenReturn(Mono.just(exampleJson));
-        Mockito.when(objectMapper.readValue(exampleJson, FridgeInventoryDto.class)).thenReturn(fridgeInventoryDto);
+        Mockito.when(responseSpecMock.bodyToMono(FridgeInventoryDto.class)).thenReturn(Mono.just(fridgeInventoryDto));
 
         FridgeInventoryDto result = fridgeService.addFridgeInventory(fridgeInventoryDto, "XXX");
 
@@ -106,7 +121,6 @@ public class FridgeServiceTest {
 
     @Test
     void testUpDateFridgeInventory() throws JsonProcessingException {
-        ObjectMapper objectMapper = Mockito.mock(ObjectMapper.class);
         FridgeInventoryDto fridgeInventoryDto = new FridgeInventoryDto("Cola", 0.5f, 0.5f);
 
         WebClient.RequestBodyUriSpec requestBodyUriSpecMock = Mockito.mock(WebClient.RequestBodyUriSpec.class);
@@ -119,9 +133,7 @@ public class FridgeServiceTest {
         Mockito.when(requestBodySpecMock.headers(Mockito.any())).thenReturn(requestBodySpecMock);
         Mockito.when(requestBodySpecMock.retrieve()).thenReturn(responseSpecMock);
 
-        String exampleJson = "{\"id\": 123, \"name\": \"Cola\", \"actual\": 0.5, \"target\": 0.5}";
-        Mockito.when(responseSpecMock.bodyToMono(String.class)).thenReturn(Mono.just(exampleJson));
-        Mockito.when(objectMapper.readValue(exampleJson, FridgeInventoryDto.class)).thenReturn(fridgeInventoryDto);
+        Mockito.when(responseSpecMock.bodyToMono(FridgeInventoryDto.class)).thenReturn(Mono.just(fridgeInventoryDto));
 
         FridgeInventoryDto result = fridgeService.upDateFridgeInventory(fridgeInventoryDto, "XXX");
 
@@ -138,11 +150,13 @@ public class FridgeServiceTest {
         WebClient.ResponseSpec responseSpec = Mockito.mock(WebClient.ResponseSpec.class);
         Mockito.when(mockedWebClient.get()).thenReturn(requestHeadersUriSpec);
         Mockito.when(requestHeadersUriSpec.uri(Mockito.anyString())).thenReturn(requestHeadersSpec);
+        Mockito.when(requestHeadersSpec.headers(Mockito.any())).thenReturn((WebClient.RequestHeadersSpec) requestHeadersSpec);
         Mockito.when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
-        String exampleJson = "{\"id\": \"XXX\", \"inventory\": [{\"name\": \"Cola\", \"target\": 0.5, \"actual\": 0.5}]}";
+        List<FridgeInventoryDto> inventory = new ArrayList<>();
+        inventory.add(new FridgeInventoryDto("Cola", 0.5f, 0.5f));
 
-        Mono<String> jsonResponse = Mono.just(exampleJson);
-        Mockito.when(responseSpec.bodyToMono(String.class)).thenReturn(jsonResponse);
+        Mono<ResponseEntity<FridgeDto>> response = Mono.just(new ResponseEntity<>(new FridgeDto("XXX", inventory), HttpStatus.OK));
+        Mockito.when(responseSpec.toEntity(FridgeDto.class)).thenReturn(response);
 
 
         FridgeDto result = fridgeService.getFridge("XXX");
@@ -154,4 +168,175 @@ public class FridgeServiceTest {
         assertThat(result.getInventory().get(0).getActual()).isEqualTo(0.5f);
     }
 
+    @Test
+    void testGetFridge_Cached() throws JsonProcessingException {
+        WebClient.RequestHeadersUriSpec requestHeadersUriSpec = Mockito.mock(WebClient.RequestHeadersUriSpec.class);
+        WebClient.RequestHeadersSpec<?> requestHeadersSpec = Mockito.mock(WebClient.RequestHeadersSpec.class);
+        WebClient.ResponseSpec responseSpec = Mockito.mock(WebClient.ResponseSpec.class);
+        Mockito.when(mockedWebClient.get()).thenReturn(requestHeadersUriSpec);
+        Mockito.when(requestHeadersUriSpec.uri(Mockito.anyString())).thenReturn(requestHeadersSpec);
+        Mockito.when(requestHeadersSpec.headers(Mockito.any())).thenReturn((WebClient.RequestHeadersSpec) requestHeadersSpec);
+        Mockito.when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        Mockito.when(responseSpec.toEntity(FridgeDto.class)).thenReturn(Mono.just(new ResponseEntity<>(new FridgeDto("XXX", new ArrayList<>()), HttpStatus.OK)));
+
+        FridgeDto first = fridgeService.getFridge("XXX");
+        FridgeDto second = fridgeService.getFridge("XXX");
+
+        assertThat(second).isSameAs(first);
+        Mockito.verify(mockedWebClient, Mockito.times(1)).get();
+    }
+
+    @Test
+    void testGetFridge_ConcurrentReadsShareOneCall() throws JsonProcessingException {
+        WebClient.RequestHeadersUriSpec requestHeadersUriSpec = Mockito.mock(WebClient.RequestHeadersUriSpec.class);
+        WebClient.RequestHeadersSpec<?> requestHeadersSpec = Mockito.mock(WebClient.RequestHeadersSpec.class);
+        WebClient.ResponseSpec responseSpec = Mockito.mock(WebClient.ResponseSpec.class);
+        Mockito.when(mockedWebClient.get()).thenReturn(requestHeadersUriSpec);
+        Mockito.when(requestHeadersUriSpec.uri(Mockito.anyString())).thenReturn(requestHeadersSpec);
+        Mockito.when(requestHeadersSpec.headers(Mockito.any())).thenReturn((WebClient.RequestHeadersSpec) requestHeadersSpec);
+        Mockito.when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        Sinks.One<ResponseEntity<FridgeDto>> response = Sinks.one();
+        Mockito.when(responseSpec.toEntity(FridgeDto.class)).thenReturn(response.asMono());
+        long collapsedBefore = fridgeService.getCoalescingStats().getCollapsedCallCount();
+
+        CompletableFuture<FridgeDto> first = fridgeService.getFridgeReactive("XXX").toFuture();
+        CompletableFuture<FridgeDto> second = fridgeService.getFridgeReactive("XXX").toFuture();
+        response.tryEmitValue(new ResponseEntity<>(new FridgeDto("XXX", new ArrayList<>()), HttpStatus.OK));
+
+        assertThat(first.join()).isNotNull();
+        assertThat(second.join()).isSameAs(first.join());
+        Mockito.verify(mockedWebClient, Mockito.times(1)).get();
+        assertThat(fridgeService.getCoalescingStats().getCollapsedCallCount()).isEqualTo(collapsedBefore + 1);
+        assertThat(fridgeService.getCoalescingStats().getInFlightCount()).isZero();
+    }
+
+    @Test
+    void testGetFridge_NotModified() throws JsonProcessingException {
+        AtomicLong time = new AtomicLong();
+        FridgeSnapshotCache staleCache = new FridgeSnapshotCache(new FridgeApiProperties(), time::get);
+        FridgeService staleFridgeService = new FridgeService(mockedWebClient, staleCache, new FridgeApiProperties(), new FridgeRequestCoalescer(), new FridgeApiResilience(new FridgeApiProperties()), new FridgeRequestHedger(new FridgeApiProperties()), new FridgeConnectionPoolMetrics(new FridgeApiProperties()), new ServiceTracing(ObservationRegistry.NOOP));
+        FridgeDto cached = new FridgeDto("XXX", new ArrayList<>());
+        staleCache.put("XXX", cached, "\"v1\"");
+        time.addAndGet(Duration.ofMinutes(1).toNanos());
+
+        WebClient.RequestHeadersUriSpec requestHeadersUriSpec = Mockito.mock(WebClient.RequestHeadersUriSpec.class);
+        WebClient.RequestHeadersSpec<?> requestHeadersSpec = Mockito.mock(WebClient.RequestHeadersSpec.class);
+        WebClient.ResponseSpec responseSpec = Mockito.mock(WebClient.ResponseSpec.class);
+        Mockito.when(mockedWebClient.get()).thenReturn(requestHeadersUriSpec);
+        Mockito.when(requestHeadersUriSpec.uri(Mockito.anyString())).thenReturn(requestHeadersSpec);
+        Mockito.when(requestHeadersSpec.headers(Mockito.any())).thenReturn((WebClient.RequestHeadersSpec) requestHeadersSpec);
+        Mockito.when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        Mockito.when(responseSpec.toEntity(FridgeDto.class)).thenReturn(Mono.just(new ResponseEntity<>(new HttpHeaders(), HttpStatus.NOT_MODIFIED)));
+
+        FridgeDto result = staleFridgeService.getFridge("XXX");
+
+        assertThat(result).isSameAs(cached);
+        assertThat(staleCache.isFresh(staleCache.get("XXX"))).isTrue();
+        assertThat(staleCache.stats().getNotModifiedCount()).isEqualTo(1L);
+        assertThat(staleCache.stats().getHitCount()).isZero();
+        assertThat(staleCache.stats().getMissCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void testGetFridge_UnavailableServesStaleSnapshot() throws JsonProcessingException {
+        AtomicLong time = new AtomicLong();
+        FridgeSnapshotCache staleCache = new FridgeSnapshotCache(new FridgeApiProperties(), time::get);
+        FridgeApiResilience fridgeApiResilience = new FridgeApiResilience(new FridgeApiProperties());
+        FridgeService staleFridgeService = new FridgeService(mockedWebClient, staleCache, new FridgeApiProperties(), new FridgeRequestCoalescer(), fridgeApiResilience, new FridgeRequestHedger(new FridgeApiProperties()), new FridgeConnectionPoolMetrics(new FridgeApiProperties()), new ServiceTracing(ObservationRegistry.NOOP));
+        staleCache.put("XXX", new FridgeDto("XXX", new ArrayList<>()), "\"v1\"");
+        time.addAndGet(Duration.ofMinutes(1).toNanos());
+        fridgeApiResilience.getCircuitBreaker().transitionToOpenState();
+
+        FridgeDto result = staleFridgeService.getFridge("XXX");
+
+        assertThat(result.getId()).isEqualTo("XXX");
+        assertThat(result.isStale()).isTrue();
+        assertThat(staleCache.get("XXX").getFridge().isStale()).isFalse();
+        assertThat(fridgeApiResilience.stats().getStaleFallbackCount()).isEqualTo(1L);
+        assertThat(staleCache.stats().getHitCount()).isZero();
+        assertThat(staleCache.stats().getMissCount()).isEqualTo(1L);
+        Mockito.verify(mockedWebClient, Mockito.never()).get();
+    }
+
+    @Test
+    void testGetFridge_UnavailableWithoutSnapshot() throws JsonProcessingException {
+        WebClient.RequestHeadersUriSpec requestHeadersUriSpec = Mockito.mock(WebClient.RequestHeadersUriSpec.class);
+        WebClient.RequestHeadersSpec<?> requestHeadersSpec = Mockito.mock(WebClient.RequestHeadersSpec.class);
+        WebClient.ResponseSpec responseSpec = Mockito.mock(WebClient.ResponseSpec.class);
+        Mockito.when(mockedWebClient.get()).thenReturn(requestHeadersUriSpec);
+        Mockito.when(requestHeadersUriSpec.uri(Mockito.anyString())).thenReturn(requestHeadersSpec);
+        Mockito.when(requestHeadersSpec.headers(Mockito.any())).thenReturn((WebClient.RequestHeadersSpec) requestHeadersSpec);
+        Mockito.when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        Mockito.when(responseSpec.toEntity(FridgeDto.class)).thenReturn(Mono.error(WebClientResponseException.create(
+                HttpStatus.SERVICE_UNAVAILABLE.value(), "Service Unavailable", new HttpHeaders(), new byte[0], null)));
+
+        assertThatThrownBy(() -> fridgeService.getFridge("XXX"))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(e -> ((ResponseStatusException) e).getStatusCode())
+                .isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @Test
+    void testGetFridge_DeadlineBoundsSlowCall() throws JsonProcessingException {
+        WebClient.RequestHeadersUriSpec requestHeadersUriSpec = Mockito.mock(WebClient.RequestHeadersUriSpec.class);
+        WebClient.RequestHeadersSpec<?> requestHeadersSpec = Mockito.mock(WebClient.RequestHeadersSpec.class);
+        WebClient.ResponseSpec responseSpec = Mockito.mock(WebClient.ResponseSpec.class);
+        Mockito.when(mockedWebClient.get()).thenReturn(requestHeadersUriSpec);
+        Mockito.when(requestHeadersUriSpec.uri(Mockito.anyString())).thenReturn(requestHeadersSpec);
+        Mockito.when(requestHeadersSpec.headers(Mockito.any())).thenReturn((WebClient.RequestHeadersSpec) requestHeadersSpec);
+        Mockito.when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        Mockito.when(responseSpec.toEntity(FridgeDto.class)).thenReturn(Mono.never());
+        FridgeApiProperties fridgeApiProperties = new FridgeApiProperties();
+        fridgeApiProperties.getResilience().setTimeout(Duration.ofSeconds(5));
+        FridgeApiResilience fridgeApiResilience = new FridgeApiResilience(fridgeApiProperties);
+        FridgeService slowFridgeService = new FridgeService(mockedWebClient, new FridgeSnapshotCache(fridgeApiProperties), fridgeApiProperties,
+                new FridgeRequestCoalescer(), fridgeApiResilience, new FridgeRequestHedger(fridgeApiProperties), new FridgeConnectionPoolMetrics(fridgeApiProperties),
+                new ServiceTracing(ObservationRegistry.NOOP));
+
+        Deadline.setCurrent(Deadline.after(Duration.ofMillis(50)));
+        long start = System.nanoTime();
+        try {
+            assertThatThrownBy(() -> slowFridgeService.getFridge("XXX"))
+                    .isInstanceOf(ResponseStatusException.class)
+                    .hasRootCauseInstanceOf(Deadline.ExceededException.class);
+        } finally {
+            Deadline.setCurrent(null);
+        }
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+        assertThat(fridgeApiResilience.stats().getDeadlineExceededCount()).isEqualTo(1L);
+        assertThat(fridgeApiResilience.stats().getBulkheadRejectedCount()).isZero();
+    }
+
+    @Test
+    void testAddFridgeInventory_DeadlinePassed() throws JsonProcessingException {
+        FridgeInventoryDto fridgeInventoryDto = new FridgeInventoryDto("Cola", 0.5f, 0.5f);
+
+        Deadline.setCurrent(Deadline.after(Duration.ZERO));
+        try {
+            assertThatThrownBy(() -> fridgeService.addFridgeInventory(fridgeInventoryDto, "XXX"))
+                    .isInstanceOf(ResponseStatusException.class);
+        } finally {
+            Deadline.setCurrent(null);
+        }
+        Mockito.verify(mockedWebClient, Mockito.never()).post();
+    }
+
+    @Test
+    void testAddFridgeInventory_InvalidatesSnapshot() throws JsonProcessingException {
+        fridgeSnapshotCache.put("XXX", new FridgeDto("XXX", new ArrayList<>()), null);
+        FridgeInventoryDto fridgeInventoryDto = new FridgeInventoryDto("Cola", 0.5f, 0.5f);
+        WebClient.RequestBodyUriSpec requestBodyUriSpecMock = Mockito.mock(WebClient.RequestBodyUriSpec.class);
+        WebClient.RequestBodySpec requestBodySpecMock = Mockito.mock(WebClient.RequestBodySpec.class);
+
+        Mockito.when(mockedWebClient.post()).thenReturn(requestBodyUriSpecMock);
+        Mockito.when(requestBodyUriSpecMock.uri(Mockito.anyString())).thenReturn(requestBodySpecMock);
+        Mockito.when(requestBodySpecMock.body(Mockito.any(BodyInserter.class))).thenReturn(requestBodySpecMock);
+        Mockito.when(requestBodySpecMock.headers(Mockito.any())).thenReturn(requestBodySpecMock);
+        Mockito.when(requestBodySpecMock.retrieve()).thenThrow(WebClientResponseException.class);
+
+        fridgeService.addFridgeInventory(fridgeInventoryDto, "XXX");
+
+        assertThat(fridgeSnapshotCache.get("XXX")).isNull();
+    }
+
 }
@@ -0,0 +1,101 @@
+package de.markus.meier.coolschrank.service;
+
+import de.markus.meier.coolschrank.config.FridgeApiProperties;
+import de.markus.meier.coolschrank.model.dto.FridgeCacheStatsDto;
+import de.markus.meier.coolschrank.model.dto.FridgeDto;
+import de.markus.meier.coolschrank.model.model.FridgeSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FridgeSnapshotCacheTest {
+
+    private final AtomicLong time = new AtomicLong();
+
+    private FridgeSnapshotCache fridgeSnapshotCache;
+
+    @BeforeEach
+    public void init() {
+        FridgeApiProperties fridgeApiProperties = new FridgeApiProperties();
+        fridgeApiProperties.getCache().setMaximumSize(10);
+        fridgeApiProperties.getCache().setFreshFor(Duration.ofSeconds(30));
+        fridgeApiProperties.getCache().setExpireAfter(Duration.ofMinutes(10));
+        fridgeSnapshotCache = new FridgeSnapshotCache(fridgeApiProperties, time::get);
+    }
+
+    @Test
+    void testLookup_Miss() {
+        assertThat(fridgeSnapshotCache.lookup("XXX")).isNull();
+        assertThat(fridgeSnapshotCache.stats().getMissCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void testLookup_Fresh() {
+        FridgeDto fridgeDto = new FridgeDto("XXX", new ArrayList<>());
+        fridgeSnapshotCache.put("XXX", fridgeDto, "\"v1\"");
+        FridgeSnapshot result = fridgeSnapshotCache.lookup("XXX");
+        assertThat(result.getFridge()).isSameAs(fridgeDto);
+        assertThat(result.getETag()).isEqualTo("\"v1\"");
+        assertThat(fridgeSnapshotCache.isFresh(result)).isTrue();
+        assertThat(fridgeSnapshotCache.stats().getHitCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void testLookup_StaleCountsAsMiss() {
+        fridgeSnapshotCache.put("XXX", new FridgeDto("XXX", new ArrayList<>()), "\"v1\"");
+        time.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        assertThat(fridgeSnapshotCache.lookup("XXX")).isNotNull();
+
+        FridgeCacheStatsDto stats = fridgeSnapshotCache.stats();
+        assertThat(stats.getHitCount()).isZero();
+        assertThat(stats.getMissCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void testGet_NotRecorded() {
+        fridgeSnapshotCache.put("XXX", new FridgeDto("XXX", new ArrayList<>()), null);
+        fridgeSnapshotCache.get("XXX");
+        fridgeSnapshotCache.get("YYY");
+
+        FridgeCacheStatsDto stats = fridgeSnapshotCache.stats();
+        assertThat(stats.getHitCount()).isZero();
+        assertThat(stats.getMissCount()).isZero();
+    }
+
+    @Test
+    void testGet_StaleAndRevalidated() {
+        fridgeSnapshotCache.put("XXX", new FridgeDto("XXX", new ArrayList<>()), "\"v1\"");
+        time.addAndGet(Duration.ofSeconds(31).toNanos());
+        FridgeSnapshot stale = fridgeSnapshotCache.get("XXX");
+        assertThat(fridgeSnapshotCache.isFresh(stale)).isFalse();
+
+        fridgeSnapshotCache.recordRevalidation();
+        FridgeSnapshot revalidated = fridgeSnapshotCache.revalidated("XXX", stale);
+        assertThat(fridgeSnapshotCache.isFresh(revalidated)).isTrue();
+        assertThat(revalidated.getFridge()).isSameAs(stale.getFridge());
+
+        FridgeCacheStatsDto stats = fridgeSnapshotCache.stats();
+        assertThat(stats.getRevalidationCount()).isEqualTo(1L);
+        assertThat(stats.getNotModifiedCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void testGet_Expired() {
+        fridgeSnapshotCache.put("XXX", new FridgeDto("XXX", new ArrayList<>()), null);
+        time.addAndGet(Duration.ofMinutes(11).toNanos());
+        assertThat(fridgeSnapshotCache.get("XXX")).isNull();
+    }
+
+    @Test
+    void testInvalidate() {
+        fridgeSnapshotCache.put("XXX", new FridgeDto("XXX", new ArrayList<>()), null);
+        fridgeSnapshotCache.invalidate("XXX");
+        assertThat(fridgeSnapshotCache.get("XXX")).isNull();
+    }
+}
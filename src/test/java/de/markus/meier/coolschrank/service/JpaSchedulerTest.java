@@ -0,0 +1,42 @@
+package de.markus.meier.coolschrank.service;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.context.Context;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JpaSchedulerTest {
+
+    @Test
+    void testCall_RunsOnJpaThread() {
+        JpaScheduler jpaScheduler = new JpaScheduler(TransactionOperations.withoutTransaction(), 2, 10);
+        String thread = jpaScheduler.call(() -> Thread.currentThread().getName()).block();
+        assertThat(thread).startsWith("jpa");
+    }
+
+    @Test
+    void testCall_NullIsEmpty() {
+        JpaScheduler jpaScheduler = new JpaScheduler(TransactionOperations.withoutTransaction(), Schedulers.immediate());
+        assertThat(jpaScheduler.call(() -> null).blockOptional()).isEmpty();
+    }
+
+    @Test
+    void testCall_ObservationOfContextIsCurrent() {
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(context -> true);
+        Observation observation = Observation.start("request", observationRegistry);
+        JpaScheduler jpaScheduler = new JpaScheduler(TransactionOperations.withoutTransaction(), 2, 10);
+
+        Observation current = jpaScheduler.call(observationRegistry::getCurrentObservation)
+                .contextWrite(Context.of(ObservationThreadLocalAccessor.KEY, observation))
+                .block();
+
+        assertThat(current).isSameAs(observation);
+        assertThat(observationRegistry.getCurrentObservation()).isNull();
+    }
+}
@@ -0,0 +1,145 @@
+package de.markus.meier.coolschrank.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.markus.meier.coolschrank.model.dto.CacheRegionStatsDto;
+import de.markus.meier.coolschrank.model.dto.FridgeDto;
+import de.markus.meier.coolschrank.model.dto.ShoppingInventoryDto;
+import de.markus.meier.coolschrank.model.dto.ShoppingListDto;
+import de.markus.meier.coolschrank.model.dto.UserDto;
+import de.markus.meier.coolschrank.model.model.ShoppingInventoryEntity;
+import de.markus.meier.coolschrank.model.model.ShoppingListEntity;
+import de.markus.meier.coolschrank.repository.ShoppingListRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:second-level-cache")
+@ActiveProfiles("second-level-cache")
+public class SecondLevelCacheServiceTest {
+
+    private static final String FRIDGE_JSON = "{\"id\": \"%s\", \"inventory\": ["
+            + "{\"id\": 1, \"name\": \"Cola\", \"target\": 1.0, \"actual\": 0.5},"
+            + "{\"id\": 2, \"name\": \"Milch\", \"target\": 2.0, \"actual\": 0.0}]}";
+
+    @Autowired
+    private ShoppingListService shoppingListService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private SecondLevelCacheService secondLevelCacheService;
+
+    @Autowired
+    private ShoppingListRepository shoppingListRepository;
+
+    @Autowired
+    private TransactionOperations transactionOperations;
+
+    @MockBean
+    private FridgeService fridgeService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void init() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Mockito.when(fridgeService.getFridge(Mockito.anyString())).thenAnswer(invocation ->
+                new ObjectMapper().readValue(FRIDGE_JSON.formatted(invocation.getArgument(0, String.class)), FridgeDto.class));
+    }
+
+    @Test
+    void testGetUser_SecondReadIsCached() {
+        Long id = userService.createUser(new UserDto(null, "Markus", "test123", null));
+        userService.getUser(id);
+
+        statistics.clear();
+        assertThat(userService.getUser(id).getUsername()).isEqualTo("Markus");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        userService.updateFrigdeId(id, "XXX");
+        assertThat(userService.getUser(id).getFridgeId()).isEqualTo("XXX");
+        assertThat(userService.getCacheStats()).extracting(CacheRegionStatsDto::getRegionName).containsExactly("user");
+    }
+
+    @Test
+    void testGetShoppingList_SecondReadIsCached() {
+        ShoppingListDto shoppingListDto = shoppingListService.createShoppingList("cached");
+        shoppingListService.getShoppingList(shoppingListDto.getId());
+
+        statistics.clear();
+        assertThat(shoppingListService.getShoppingList(shoppingListDto.getId()).getShoppingInventoryDtoList()).hasSize(2);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(shoppingListService.getCacheStats()).extracting(CacheRegionStatsDto::getRegionName)
+                .containsExactly("shopping-list", "shopping-list-items", "shopping-inventory", "shopping-list-projection");
+    }
+
+    @Test
+    void testItemChanges_AreNotReadFromCache() {
+        ShoppingListDto shoppingListDto = shoppingListService.createShoppingList("changed");
+        Long id = shoppingListDto.getId();
+        ShoppingInventoryDto cola = shoppingListDto.getShoppingInventoryDtoList().get(0);
+        ShoppingInventoryDto milch = shoppingListDto.getShoppingInventoryDtoList().get(1);
+        shoppingListService.getShoppingList(id);
+        shoppingListService.autoUpdateShoppingList(id, "changed");
+
+        shoppingListService.updateShoppingList(id, new ShoppingInventoryEntity(cola.getId(), cola.getFridgeInventoryId(), cola.getName(), 4f));
+        assertThat(shoppingListService.getShoppingList(id).getShoppingInventoryDtoList())
+                .extracting(ShoppingInventoryDto::getAmount).containsExactly(4f, 2f);
+
+        shoppingListService.deleteShoppingInventory(id, milch.getId());
+        assertThat(shoppingListService.getShoppingList(id).getShoppingInventoryDtoList())
+                .extracting(ShoppingInventoryDto::getName).containsExactly("Cola");
+        assertThat(shoppingListService.autoUpdateShoppingList(id, "changed").getShoppingInventoryDtoList())
+                .extracting(ShoppingInventoryDto::getName).containsExactlyInAnyOrder("Cola", "Milch");
+
+        shoppingListService.deleteShoppingList(id);
+        assertThat(shoppingListService.getShoppingList(id)).isNull();
+    }
+
+    @Test
+    void testEvictShoppingInventory_AfterCommit() {
+        ShoppingListDto shoppingListDto = shoppingListService.createShoppingList("evicted");
+        Long id = shoppingListDto.getId();
+        Long itemId = shoppingListDto.getShoppingInventoryDtoList().get(0).getId();
+        String role = ShoppingListEntity.class.getName() + ".shoppingInventoryEntityList";
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        transactionOperations.executeWithoutResult(status -> shoppingListRepository.findById(id).orElseThrow().getShoppingInventoryEntityList().size());
+        assertThat(cache.containsCollection(role, id)).isTrue();
+
+        transactionOperations.executeWithoutResult(status -> {
+            secondLevelCacheService.evictShoppingInventory(id, itemId);
+            assertThat(cache.containsCollection(role, id)).isTrue();
+        });
+        assertThat(cache.containsCollection(role, id)).isFalse();
+
+        transactionOperations.executeWithoutResult(status -> shoppingListRepository.findById(id).orElseThrow().getShoppingInventoryEntityList().size());
+        transactionOperations.executeWithoutResult(status -> {
+            secondLevelCacheService.evictShoppingInventory(id, itemId);
+            status.setRollbackOnly();
+        });
+        assertThat(cache.containsCollection(role, id)).isTrue();
+    }
+
+    @Test
+    void testGetStats_UnknownRegionIsLeftOut() {
+        assertThat(new SecondLevelCacheService(entityManagerFactory).getStats(List.of("user", "unknown")))
+                .extracting(CacheRegionStatsDto::getRegionName).containsExactly("user");
+    }
+}
@@ -0,0 +1,105 @@
+package de.markus.meier.coolschrank.service;
+
+import de.markus.meier.coolschrank.jfr.RepositoryCallEvent;
+import de.markus.meier.coolschrank.model.model.ShoppingInventoryEntity;
+import de.markus.meier.coolschrank.util.ShoppingListReconciler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ServiceMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final ServiceMetrics serviceMetrics = new ServiceMetrics(meterRegistry);
+
+    @Test
+    void testTimeRepository() {
+        String result = serviceMetrics.timeRepository("shopping_list", "save", () -> "saved");
+
+        assertThat(result).isEqualTo("saved");
+        assertThat(meterRegistry.get("coolschrank.repository").tag("repository", "shopping_list").tag("operation", "save").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void testTimers_RegisteredOnce() {
+        serviceMetrics.timeRepository("shopping_list", "save", () -> "saved");
+        serviceMetrics.timeMapping("shopping_list", () -> "mapped");
+        int meters = meterRegistry.getMeters().size();
+
+        serviceMetrics.timeRepository("shopping_list", "save", () -> "saved");
+        serviceMetrics.timeMapping("shopping_list", () -> "mapped");
+
+        assertThat(meterRegistry.getMeters()).hasSize(meters);
+        assertThat(meterRegistry.get("coolschrank.repository").tag("operation", "save").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("coolschrank.mapping").tag("mapper", "shopping_list").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void testTimeRepository_Failure() {
+        assertThatThrownBy(() -> serviceMetrics.timeRepository("user", "save", () -> {
+            throw new IllegalStateException();
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(meterRegistry.get("coolschrank.repository").tag("repository", "user").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testTimeRepository_EmitsFlightRecorderEvents(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("repository.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(RepositoryCallEvent.class);
+            recording.start();
+            serviceMetrics.timeRepository("shopping_list", "save", () -> "saved");
+            assertThatThrownBy(() -> serviceMetrics.timeRepository("shopping_inventory", "delete", () -> {
+                throw new IllegalStateException();
+            })).isInstanceOf(IllegalStateException.class);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals("coolschrank.RepositoryCall")).toList();
+        assertThat(events).hasSize(2);
+        assertThat(events).anySatisfy(event -> {
+            assertThat(event.getString("repository")).isEqualTo("shopping_list");
+            assertThat(event.getString("operation")).isEqualTo("save");
+            assertThat(event.getBoolean("failed")).isFalse();
+        });
+        assertThat(events).anySatisfy(event -> {
+            assertThat(event.getString("repository")).isEqualTo("shopping_inventory");
+            assertThat(event.getBoolean("failed")).isTrue();
+        });
+    }
+
+    @Test
+    void testTimeMapping() {
+        serviceMetrics.timeMapping("user", () -> "dto");
+        serviceMetrics.timeMapping("user", () -> "dto");
+
+        assertThat(meterRegistry.get("coolschrank.mapping").tag("mapper", "user").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void testRecordReconciliation() {
+        ShoppingInventoryEntity item = new ShoppingInventoryEntity(1L, 2L, "Milch", 1f);
+        serviceMetrics.recordReconciliation(new ShoppingListReconciler.Reconciliation(List.of(item, item),
+                List.of(new ShoppingListReconciler.AmountChange(item, 2f)), List.of()));
+
+        assertThat(meterRegistry.get("coolschrank.shopping.list.items").tag("change", "added").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("coolschrank.shopping.list.items").tag("change", "changed").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("coolschrank.shopping.list.items").tag("change", "removed").counter().count()).isZero();
+    }
+
+}
@@ -0,0 +1,100 @@
+package de.markus.meier.coolschrank.service;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ServiceTracingTest {
+
+    private final List<Observation.Context> stopped = new CopyOnWriteArrayList<>();
+
+    private ObservationRegistry observationRegistry;
+
+    private ServiceTracing serviceTracing;
+
+    @BeforeEach
+    public void init() {
+        observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new ObservationHandler<>() {
+            @Override
+            public void onStop(Observation.Context context) {
+                stopped.add(context);
+            }
+
+            @Override
+            public boolean supportsContext(Observation.Context context) {
+                return true;
+            }
+        });
+        serviceTracing = new ServiceTracing(observationRegistry);
+    }
+
+    @Test
+    void testStage_ChildOfCurrentObservation() {
+        Observation request = Observation.createNotStarted("request", observationRegistry);
+
+        String result = request.observe(() -> serviceTracing.stage("shopping_list.load", () -> "loaded"));
+
+        assertThat(result).isEqualTo("loaded");
+        assertThat(stopped).hasSize(2);
+        Observation.Context stage = stopped.get(0);
+        assertThat(stage.getName()).isEqualTo(ServiceTracing.STAGE_OBSERVATION);
+        assertThat(stage.getContextualName()).isEqualTo("shopping_list.load");
+        assertThat(stage.getLowCardinalityKeyValue("stage").getValue()).isEqualTo("shopping_list.load");
+        assertThat(stage.getParentObservation()).isSameAs(request);
+    }
+
+    @Test
+    void testStage_ReactiveStageIsInContextOfPipeline() {
+        Observation request = Observation.start("request", observationRegistry);
+
+        Observation inner = serviceTracing.stage("fridge.get",
+                        Mono.deferContextual(context -> Mono.just(context.<Observation>get(ObservationThreadLocalAccessor.KEY))))
+                .contextWrite(Context.of(ObservationThreadLocalAccessor.KEY, request))
+                .block();
+
+        assertThat(stopped).hasSize(1);
+        Observation.Context stage = stopped.get(0);
+        assertThat(stage.getContextualName()).isEqualTo("fridge.get");
+        assertThat(stage.getParentObservation()).isSameAs(request);
+        assertThat(inner.getContext()).isSameAs(stage);
+    }
+
+    @Test
+    void testStage_ReactiveStageRecordsError() {
+        IllegalStateException failure = new IllegalStateException("upstream failed");
+
+        assertThatThrownBy(() -> serviceTracing.stage("fridge.get", Mono.error(failure)).block()).isSameAs(failure);
+
+        assertThat(stopped).hasSize(1);
+        assertThat(stopped.get(0).getError()).isSameAs(failure);
+    }
+
+    @Test
+    void testStage_ChildOfObservationInGivenContext() {
+        Observation request = Observation.start("request", observationRegistry);
+
+        serviceTracing.stage("fridge.decode", Context.of(ObservationThreadLocalAccessor.KEY, request), () -> "decoded");
+
+        assertThat(stopped.get(0).getParentObservation()).isSameAs(request);
+    }
+
+    @Test
+    void testStage_NoopRegistryRunsWork() {
+        ServiceTracing noopTracing = new ServiceTracing(ObservationRegistry.NOOP);
+
+        assertThat(noopTracing.stage("shopping_list.map", () -> "mapped")).isEqualTo("mapped");
+        assertThat(noopTracing.stage("fridge.get", Mono.just("fridge")).block()).isEqualTo("fridge");
+    }
+}
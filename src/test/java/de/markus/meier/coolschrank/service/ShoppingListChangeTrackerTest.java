@@ -0,0 +1,52 @@
+package de.markus.meier.coolschrank.service;
+
+import de.markus.meier.coolschrank.model.dto.FridgeInventoryDto;
+import de.markus.meier.coolschrank.model.dto.ShoppingListDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ShoppingListChangeTrackerTest {
+
+    @Test
+    void testFingerprint_IgnoresOrder() {
+        List<FridgeInventoryDto> inventory = new ArrayList<>();
+        inventory.add(new FridgeInventoryDto(1L, "Cola", 0.5f, 1f));
+        inventory.add(new FridgeInventoryDto(2L, "Milch", 1f, 2f));
+        List<FridgeInventoryDto> reversed = new ArrayList<>(List.of(inventory.get(1), inventory.get(0)));
+
+        assertThat(ShoppingListChangeTracker.fingerprint("XXX", reversed)).isEqualTo(ShoppingListChangeTracker.fingerprint("XXX", inventory));
+    }
+
+    @Test
+    void testFingerprint_ChangesWithContent() {
+        List<FridgeInventoryDto> inventory = new ArrayList<>();
+        inventory.add(new FridgeInventoryDto(1L, "Cola", 0.5f, 1f));
+        long fingerprint = ShoppingListChangeTracker.fingerprint("XXX", inventory);
+
+        inventory.get(0).setActual(0.75f);
+
+        assertThat(ShoppingListChangeTracker.fingerprint("XXX", inventory)).isNotEqualTo(fingerprint);
+        assertThat(ShoppingListChangeTracker.fingerprint("YYY", inventory)).isNotEqualTo(ShoppingListChangeTracker.fingerprint("XXX", inventory));
+    }
+
+    @Test
+    void testUnchanged() {
+        ShoppingListChangeTracker shoppingListChangeTracker = new ShoppingListChangeTracker(10);
+        ShoppingListDto shoppingListDto = new ShoppingListDto(1L, "XXX", new ArrayList<>());
+
+        assertThat(shoppingListChangeTracker.unchanged(1L, 42L)).isNull();
+        shoppingListChangeTracker.remember(1L, 42L, shoppingListDto, true);
+        assertThat(shoppingListChangeTracker.unchanged(1L, 42L)).isSameAs(shoppingListDto);
+        assertThat(shoppingListChangeTracker.unchanged(1L, 43L)).isNull();
+        shoppingListChangeTracker.forget(1L);
+        assertThat(shoppingListChangeTracker.unchanged(1L, 42L)).isNull();
+
+        assertThat(shoppingListChangeTracker.stats().getWriteCount()).isEqualTo(1L);
+        assertThat(shoppingListChangeTracker.stats().getSkippedWriteCount()).isEqualTo(1L);
+        assertThat(shoppingListChangeTracker.stats().getUnchangedFridgeCount()).isEqualTo(1L);
+    }
+}
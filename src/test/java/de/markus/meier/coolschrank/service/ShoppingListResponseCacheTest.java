@@ -0,0 +1,85 @@
+package de.markus.meier.coolschrank.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.markus.meier.coolschrank.model.dto.ShoppingInventoryDto;
+import de.markus.meier.coolschrank.model.dto.ShoppingListDto;
+import de.markus.meier.coolschrank.model.model.EncodedShoppingList;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ShoppingListResponseCacheTest {
+
+    private final ShoppingListResponseCache shoppingListResponseCache = new ShoppingListResponseCache(new ObjectMapper(), 100);
+
+    @Test
+    void testGet_EncodesOnce() throws Exception {
+        AtomicInteger reads = new AtomicInteger();
+        ShoppingListDto shoppingListDto = shoppingList(0.5f);
+
+        EncodedShoppingList first = shoppingListResponseCache.get(1L, id -> {
+            reads.incrementAndGet();
+            return shoppingListDto;
+        });
+        EncodedShoppingList second = shoppingListResponseCache.get(1L, id -> {
+            reads.incrementAndGet();
+            return shoppingListDto;
+        });
+
+        assertThat(reads).hasValue(1);
+        assertThat(second).isSameAs(first);
+        assertThat(first.getBody()).isEqualTo(new ObjectMapper().writeValueAsBytes(shoppingListDto));
+        assertThat(first.getEtag()).startsWith("\"").endsWith("\"");
+    }
+
+    @Test
+    void testInvalidate_EtagFollowsContent() {
+        EncodedShoppingList first = shoppingListResponseCache.get(1L, id -> shoppingList(0.5f));
+        shoppingListResponseCache.invalidate(1L);
+        EncodedShoppingList same = shoppingListResponseCache.get(1L, id -> shoppingList(0.5f));
+        shoppingListResponseCache.invalidate(1L);
+        EncodedShoppingList changed = shoppingListResponseCache.get(1L, id -> shoppingList(2f));
+
+        assertThat(same).isNotSameAs(first);
+        assertThat(same.getEtag()).isEqualTo(first.getEtag());
+        assertThat(changed.getEtag()).isNotEqualTo(first.getEtag());
+        assertThat(shoppingListResponseCache.getIfPresent(1L)).isSameAs(changed);
+    }
+
+    @Test
+    void testInvalidate_ConcurrentReadBeforeCommitIsDropped() {
+        EncodedShoppingList before = shoppingListResponseCache.get(1L, id -> shoppingList(0.5f));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            shoppingListResponseCache.invalidate(1L);
+            EncodedShoppingList concurrent = CompletableFuture.supplyAsync(() -> shoppingListResponseCache.get(1L, id -> shoppingList(0.5f))).join();
+            assertThat(concurrent.getEtag()).isEqualTo(before.getEtag());
+            TransactionSynchronizationUtils.triggerAfterCommit();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        EncodedShoppingList after = shoppingListResponseCache.get(1L, id -> shoppingList(2f));
+        assertThat(after.getEtag()).isNotEqualTo(before.getEtag());
+    }
+
+    @Test
+    void testGet_MissingShoppingListIsNotCached() {
+        assertThat(shoppingListResponseCache.get(1L, id -> null)).isNull();
+        assertThat(shoppingListResponseCache.getIfPresent(1L)).isNull();
+    }
+
+    private static ShoppingListDto shoppingList(float amount) {
+        List<ShoppingInventoryDto> shoppingInventoryDtoList = new ArrayList<>();
+        shoppingInventoryDtoList.add(new ShoppingInventoryDto(1L, 1L, "Cola", amount));
+        return new ShoppingListDto(1L, "XXX", shoppingInventoryDtoList);
+    }
+}
@@ -6,10 +6,14 @@ import de.markus.meier.coolschrank.model.dto.FridgeDto;
 import de.markus.meier.coolschrank.model.dto.FridgeInventoryDto;
 import de.markus.meier.coolschrank.model.dto.ShoppingInventoryDto;
 import de.markus.meier.coolschrank.model.dto.ShoppingListDto;
+import de.markus.meier.coolschrank.model.dto.ShoppingListUpdateStatsDto;
 import de.markus.meier.coolschrank.model.model.ShoppingInventoryEntity;
 import de.markus.meier.coolschrank.model.model.ShoppingListEntity;
+import de.markus.meier.coolschrank.repository.ShoppingInventoryRepository;
 import de.markus.meier.coolschrank.repository.ShoppingListRepository;
 import de.markus.meier.coolschrank.util.ShoppingListMapper;
+import de.markus.meier.coolschrank.util.ShoppingListReconciler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -18,7 +22,7 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.dao.DataIntegrityViolationException;
 import reactor.core.publisher.Mono;
 
 import java.io.IOException;
@@ -29,7 +33,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 
-@SpringBootTest(classes = {ShoppingListService.class})
+@SpringBootTest(classes = {ShoppingListService.class, ShoppingListReconciler.class, ShoppingListChangeTracker.class, ServiceMetrics.class, SimpleMeterRegistry.class, ServiceTracing.class})
 public class ShoppingListServiceTest {
 
     @Autowired
@@ -39,11 +43,23 @@ public class ShoppingListServiceTest {
     @MockBean(name = "shoppingListRepository")
     private ShoppingListRepository shoppingListRepository;
 
+    @MockBean(name = "shoppingInventoryRepository")
+    private ShoppingInventoryRepository shoppingInventoryRepository;
+
     @MockBean(name = "shoppingListMapper")
     private ShoppingListMapper shoppingListMapper;
 
     @MockBean
-    private WebClient mockedWebClient;
+    private FridgeService fridgeService;
+
+    @MockBean
+    private JpaScheduler jpaScheduler;
+
+    @MockBean
+    private SecondLevelCacheService secondLevelCacheService;
+
+    @MockBean
+    private ShoppingListResponseCache shoppingListResponseCache;
 
     @BeforeEach
     public void init() {
@@ -60,16 +76,9 @@ public class ShoppingListServiceTest {
         List<ShoppingInventoryDto> shoppingInventoryDtoList = new ArrayList<>();
         ShoppingListDto shoppingListDto = new ShoppingListDto(1L, "XXX", shoppingInventoryDtoList);
 
-        WebClient.RequestHeadersUriSpec requestHeadersUriSpec = Mockito.mock(WebClient.RequestHeadersUriSpec.class);
-        WebClient.RequestHeadersSpec<?> requestHeadersSpec = Mockito.mock(WebClient.RequestHeadersSpec.class);
-        WebClient.ResponseSpec responseSpec = Mockito.mock(WebClient.ResponseSpec.class);
-        Mockito.when(mockedWebClient.get()).thenReturn(requestHeadersUriSpec);
-        Mockito.when(requestHeadersUriSpec.uri(Mockito.anyString())).thenReturn(requestHeadersSpec);
-        Mockito.when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
         String exampleJson = "{\"id\": \"XXX\", \"inventory\": [{\"name\": \"Cola\", \"target\": 0.5, \"actual\": 0.5}]}";
 
-        Mono<String> jsonResponse = Mono.just(exampleJson);
-        Mockito.when(responseSpec.bodyToMono(String.class)).thenReturn(jsonResponse);
+        Mockito.when(fridgeService.getFridge("XXX")).thenReturn(new ObjectMapper().readValue(exampleJson, FridgeDto.class));
         Mockito.when(shoppingListMapper.toShoppingListDto(any())).thenReturn(shoppingListDto);
         Mockito.verify(shoppingListRepository, Mockito.never()).save(shoppingListEntity);
 
@@ -85,15 +94,7 @@ public class ShoppingListServiceTest {
     void testCeateShoppingList_EmptyList() throws IOException {
         String exampleJson = "{\"id\": \"XXX\", \"inventory\": [{\"name\": \"Cola\", \"target\": 0.5, \"actual\": 0.5}]}";
 
-        Mono<String> jsonResponse = Mono.just(exampleJson);
-
-        WebClient.RequestHeadersUriSpec requestHeadersUriSpec = Mockito.mock(WebClient.RequestHeadersUriSpec.class);
-        WebClient.RequestHeadersSpec<?> requestHeadersSpec = Mockito.mock(WebClient.RequestHeadersSpec.class);
-        WebClient.ResponseSpec responseSpec = Mockito.mock(WebClient.ResponseSpec.class);
-        Mockito.when(mockedWebClient.get()).thenReturn(requestHeadersUriSpec);
-        Mockito.when(requestHeadersUriSpec.uri(Mockito.anyString())).thenReturn(requestHeadersSpec);
-        Mockito.when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
-        Mockito.when(responseSpec.bodyToMono(String.class)).thenReturn(jsonResponse);
+        Mockito.when(fridgeService.getFridge("XXX")).thenReturn(new ObjectMapper().readValue(exampleJson, FridgeDto.class));
 
         ObjectMapper objectMapperMock = Mockito.mock(ObjectMapper.class);
         Mockito.when(objectMapperMock.readValue(Mockito.anyString(), Mockito.eq(FridgeDto.class))).thenReturn(null);
@@ -104,9 +105,38 @@ public class ShoppingListServiceTest {
 
     }
 
+    @Test
+    void testCeateShoppingList_FridgeNotFound() throws IOException {
+        Mockito.when(fridgeService.getFridge("XXX")).thenReturn(null);
+        ShoppingListDto result = shoppingListService.createShoppingList("XXX");
+        assertThat(result).isNull();
+        Mockito.verify(shoppingListRepository, Mockito.never()).save(any());
+    }
+
+    @Test
+    void testCeateShoppingList_AlreadyExists() {
+        Mockito.when(shoppingListRepository.existsByFridgeId("XXX")).thenReturn(true);
+        ShoppingListDto result = shoppingListService.createShoppingList("XXX");
+        assertThat(result).isNull();
+        Mockito.verify(fridgeService, Mockito.never()).getFridge(any());
+        Mockito.verify(shoppingListRepository, Mockito.never()).findAll();
+    }
+
+    @Test
+    void testCeateShoppingList_CreatedConcurrently() throws IOException {
+        String exampleJson = "{\"id\": \"XXX\", \"inventory\": [{\"id\": 1, \"name\": \"Cola\", \"target\": 1.0, \"actual\": 0.5}]}";
+
+        Mockito.when(shoppingListRepository.existsByFridgeId("XXX")).thenReturn(false);
+        Mockito.when(fridgeService.getFridge("XXX")).thenReturn(new ObjectMapper().readValue(exampleJson, FridgeDto.class));
+        Mockito.when(shoppingListRepository.save(any())).thenThrow(new DataIntegrityViolationException("ux_shopping_list_fridge_id"));
+
+        ShoppingListDto result = shoppingListService.createShoppingList("XXX");
+        assertThat(result).isNull();
+    }
+
     @Test
     void testAutoUpdateShoppingList_NotFound() throws JsonProcessingException {
-        Mockito.when(shoppingListRepository.findById(any())).thenReturn(Optional.ofNullable(null));
+        Mockito.when(shoppingListRepository.findWithItemsById(any())).thenReturn(Optional.ofNullable(null));
         ShoppingListDto result = shoppingListService.autoUpdateShoppingList(1L, "XXX");
         assertThat(result).isNull();
     }
@@ -116,19 +146,11 @@ public class ShoppingListServiceTest {
         List<ShoppingInventoryEntity> shoppingInventoryEntityList = new ArrayList<>();
         ShoppingListEntity shoppingListEntity = new ShoppingListEntity(1L, "XXX", shoppingInventoryEntityList);
 
-        Mockito.when(shoppingListRepository.findById(any())).thenReturn(Optional.ofNullable(shoppingListEntity));
+        Mockito.when(shoppingListRepository.findWithItemsById(any())).thenReturn(Optional.ofNullable(shoppingListEntity));
 
         String exampleJson = "{\"id\": \"XXX\", \"inventory\": []}";
 
-        Mono<String> jsonResponse = Mono.just(exampleJson);
-
-        WebClient.RequestHeadersUriSpec requestHeadersUriSpec = Mockito.mock(WebClient.RequestHeadersUriSpec.class);
-        WebClient.RequestHeadersSpec<?> requestHeadersSpec = Mockito.mock(WebClient.RequestHeadersSpec.class);
-        WebClient.ResponseSpec responseSpec = Mockito.mock(WebClient.ResponseSpec.class);
-        Mockito.when(mockedWebClient.get()).thenReturn(requestHeadersUriSpec);
-        Mockito.when(requestHeadersUriSpec.uri(Mockito.anyString())).thenReturn(requestHeadersSpec);
-        Mockito.when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
-        Mockito.when(responseSpec.bodyToMono(String.class)).thenReturn(jsonResponse);
+        Mockito.when(fridgeService.getFridge("XXX")).thenReturn(new ObjectMapper().readValue(exampleJson, FridgeDto.class));
 
 
         ShoppingListDto result = shoppingListService.autoUpdateShoppingList(1L, "XXX");
@@ -143,19 +165,11 @@ public class ShoppingListServiceTest {
         List<ShoppingInventoryDto> shoppingInventoryDtoList = new ArrayList<>();
         ShoppingListDto shoppingListDto = new ShoppingListDto(1L, "XXX", shoppingInventoryDtoList);
 
-        Mockito.when(shoppingListRepository.findById(any())).thenReturn(Optional.ofNullable(shoppingListEntity));
+        Mockito.when(shoppingListRepository.findWithItemsById(any())).thenReturn(Optional.ofNullable(shoppingListEntity));
 
         String exampleJson = "{\"id\": \"XXX\", \"inventory\": [{\"name\": \"Cola\", \"target\": 0.5, \"actual\": 0.5}]}";
 
-        Mono<String> jsonResponse = Mono.just(exampleJson);
-
-        WebClient.RequestHeadersUriSpec requestHeadersUriSpec = Mockito.mock(WebClient.RequestHeadersUriSpec.class);
-        WebClient.RequestHeadersSpec<?> requestHeadersSpec = Mockito.mock(WebClient.RequestHeadersSpec.class);
-        WebClient.ResponseSpec responseSpec = Mockito.mock(WebClient.ResponseSpec.class);
-        Mockito.when(mockedWebClient.get()).thenReturn(requestHeadersUriSpec);
-        Mockito.when(requestHeadersUriSpec.uri(Mockito.anyString())).thenReturn(requestHeadersSpec);
-        Mockito.when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
-        Mockito.when(responseSpec.bodyToMono(String.class)).thenReturn(jsonResponse);
+        Mockito.when(fridgeService.getFridge("XXX")).thenReturn(new ObjectMapper().readValue(exampleJson, FridgeDto.class));
 
         Mockito.when(shoppingListRepository.save(any())).thenReturn(shoppingListEntity);
         Mockito.when(shoppingListMapper.toShoppingListDto(any())).thenReturn(shoppingListDto);
@@ -167,6 +181,55 @@ public class ShoppingListServiceTest {
         assertThat(result.getShoppingInventoryDtoList().size()).isEqualTo(0);
     }
 
+    @Test
+    void testAutoUpdateShoppingList_UnchangedFridgeSkipsWrite() throws JsonProcessingException {
+        List<ShoppingInventoryEntity> shoppingInventoryEntityList = new ArrayList<>();
+        ShoppingListEntity shoppingListEntity = new ShoppingListEntity(7L, "XXX", shoppingInventoryEntityList);
+        ShoppingListDto shoppingListDto = new ShoppingListDto(7L, "XXX", new ArrayList<>());
+        String exampleJson = "{\"id\": \"XXX\", \"inventory\": [{\"id\": 1, \"name\": \"Cola\", \"target\": 1.0, \"actual\": 0.5}]}";
+
+        Mockito.when(shoppingListRepository.findWithItemsById(7L)).thenReturn(Optional.of(shoppingListEntity));
+        Mockito.when(fridgeService.getFridge("XXX")).thenAnswer(invocation -> new ObjectMapper().readValue(exampleJson, FridgeDto.class));
+        Mockito.when(shoppingListMapper.toShoppingListDto(any())).thenReturn(shoppingListDto);
+        ShoppingListUpdateStatsDto before = shoppingListService.getUpdateStats();
+
+        assertThat(shoppingListService.autoUpdateShoppingList(7L, "XXX")).isSameAs(shoppingListDto);
+        assertThat(shoppingListService.autoUpdateShoppingList(7L, "XXX")).isSameAs(shoppingListDto);
+
+        Mockito.verify(shoppingListRepository, Mockito.times(1)).save(any());
+        Mockito.verify(shoppingListMapper, Mockito.times(1)).toShoppingListDto(any());
+        ShoppingListUpdateStatsDto after = shoppingListService.getUpdateStats();
+        assertThat(after.getWriteCount() - before.getWriteCount()).isEqualTo(1L);
+        assertThat(after.getSkippedWriteCount() - before.getSkippedWriteCount()).isEqualTo(1L);
+        assertThat(after.getUnchangedFridgeCount() - before.getUnchangedFridgeCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void testAutoUpdateShoppingList_ModifiedListIsReconciledAgain() throws JsonProcessingException {
+        List<ShoppingInventoryEntity> shoppingInventoryEntityList = new ArrayList<>();
+        ShoppingInventoryEntity shoppingInventoryEntity = new ShoppingInventoryEntity(1L, 1L, "Cola", 0.5f);
+        shoppingInventoryEntityList.add(shoppingInventoryEntity);
+        ShoppingListEntity shoppingListEntity = new ShoppingListEntity(8L, "XXX", shoppingInventoryEntityList);
+        String exampleJson = "{\"id\": \"XXX\", \"inventory\": [{\"id\": 1, \"name\": \"Cola\", \"target\": 1.0, \"actual\": 0.5}]}";
+
+        Mockito.when(shoppingListRepository.findWithItemsById(8L)).thenReturn(Optional.of(shoppingListEntity));
+        Mockito.when(fridgeService.getFridge("XXX")).thenAnswer(invocation -> new ObjectMapper().readValue(exampleJson, FridgeDto.class));
+        Mockito.when(shoppingListMapper.toShoppingListDto(any())).thenReturn(new ShoppingListDto(8L, "XXX", new ArrayList<>()));
+        Mockito.when(shoppingInventoryRepository.updateAmount(8L, 1L, 3f)).thenAnswer(invocation -> {
+            shoppingInventoryEntity.setAmount(3f);
+            return Optional.of(shoppingInventoryEntity);
+        });
+
+        shoppingListService.autoUpdateShoppingList(8L, "XXX");
+        shoppingListService.updateShoppingList(8L, new ShoppingInventoryEntity(1L, 1L, "Cola", 3f));
+        shoppingListService.autoUpdateShoppingList(8L, "XXX");
+
+        assertThat(shoppingInventoryEntity.getAmount()).isEqualTo(0.5f);
+        Mockito.verify(shoppingListRepository, Mockito.times(1)).save(any());
+        Mockito.verify(shoppingListResponseCache, Mockito.times(2)).invalidate(8L);
+        Mockito.verify(shoppingListMapper, Mockito.times(2)).toShoppingListDto(any());
+    }
+
     @Test
     void testCheckAndCompleteList_True() {
         List<FridgeInventoryDto> inventory = new ArrayList<>();
@@ -190,21 +253,16 @@ public class ShoppingListServiceTest {
 
     @Test
     void testDeleteShoppingInventory_NotFound() {
-        Mockito.when(shoppingListRepository.existsById(any())).thenReturn(false);
+        Mockito.when(shoppingInventoryRepository.deleteFromShoppingList(any(), any())).thenReturn(Optional.empty());
         ShoppingInventoryDto result = shoppingListService.deleteShoppingInventory(1L, 1L);
         assertThat(result).isNull();
     }
 
     @Test
     void testDeleteShoppingInventory_Found() {
-        List<ShoppingInventoryEntity> shoppingInventoryEntityList = new ArrayList<>();
         ShoppingInventoryEntity shoppingInventoryEntity = new ShoppingInventoryEntity(1L,1L, "Cola", 0.5f);
-        shoppingInventoryEntityList.add(shoppingInventoryEntity);
-        ShoppingListEntity shoppingListEntity = new ShoppingListEntity(1L, "XXX", shoppingInventoryEntityList);
 
-        Mockito.when(shoppingListRepository.existsById(any())).thenReturn(true);
-        Mockito.when(shoppingListRepository.findById(any())).thenReturn(Optional.of(shoppingListEntity));
-        Mockito.when(shoppingListRepository.save(Mockito.any(ShoppingListEntity.class))).thenReturn(shoppingListEntity);
+        Mockito.when(shoppingInventoryRepository.deleteFromShoppingList(1L, 1L)).thenReturn(Optional.of(shoppingInventoryEntity));
         Mockito.when(shoppingListMapper.toShoppingInventoryDto(Mockito.any(ShoppingInventoryEntity.class))).thenReturn(
                 new ShoppingInventoryDto(1L, 1L, "Cola", 0.5f));
 
@@ -215,11 +273,15 @@ public class ShoppingListServiceTest {
         assertThat(result.getFridgeInventoryId()).isEqualTo(1L);
         assertThat(result.getName()).isEqualTo("Cola");
         assertThat(result.getAmount()).isEqualTo(0.5f);
+        Mockito.verify(shoppingListRepository, Mockito.never()).findWithItemsById(any());
+        Mockito.verify(shoppingListRepository, Mockito.never()).save(any());
+        Mockito.verify(secondLevelCacheService).evictShoppingInventory(1L, 1L);
+        Mockito.verify(shoppingListResponseCache).invalidate(1L);
     }
 
     @Test
     void testDeleteShoppingList_NotFound() {
-        Mockito.when(shoppingListRepository.existsById(any())).thenReturn(false);
+        Mockito.when(shoppingListRepository.findWithItemsById(any())).thenReturn(Optional.empty());
         ShoppingListDto result = shoppingListService.deleteShoppingList(1L);
         assertThat(result).isNull();
     }
@@ -231,8 +293,7 @@ public class ShoppingListServiceTest {
         shoppingInventoryEntityList.add(shoppingInventoryEntity);
         ShoppingListEntity shoppingListEntity = new ShoppingListEntity(1L, "XXX", shoppingInventoryEntityList);
 
-        Mockito.when(shoppingListRepository.existsById(1L)).thenReturn(true);
-        Mockito.when(shoppingListRepository.findById(1L)).thenReturn(Optional.of(shoppingListEntity));
+        Mockito.when(shoppingListRepository.findWithItemsById(1L)).thenReturn(Optional.of(shoppingListEntity));
         Mockito.when(shoppingListMapper.toShoppingListDto(Mockito.any(ShoppingListEntity.class))).thenReturn(
                 new ShoppingListDto(1L, "XXX", new ArrayList<>()));
 
@@ -242,56 +303,97 @@ public class ShoppingListServiceTest {
         assertThat(result.getId()).isEqualTo(1L);
         assertThat(result.getFridgeId()).isEqualTo("XXX");
         assertThat(result.getShoppingInventoryDtoList().size()).isEqualTo(0);
+        Mockito.verify(shoppingListResponseCache).invalidate(1L);
     }
 
     @Test
     void testUpdateShoppingList_NotFound() {
         ShoppingInventoryEntity shoppingInventoryEntity = new ShoppingInventoryEntity(1L,1L, "Cola", 0.5f);
-        Mockito.when(shoppingListRepository.existsById(any())).thenReturn(false);
+        Mockito.when(shoppingInventoryRepository.updateAmount(any(), any(), Mockito.anyFloat())).thenReturn(Optional.empty());
         ShoppingInventoryDto result = shoppingListService.updateShoppingList(1L,shoppingInventoryEntity);
         assertThat(result).isNull();
     }
 
     @Test
     void testUpdateShoppingList_Found() {
-        List<ShoppingInventoryEntity> shoppingInventoryEntityList = new ArrayList<>();
-        ShoppingInventoryEntity shoppingInventoryEntity = new ShoppingInventoryEntity(1L,1L, "Cola", 0.5f);
-        shoppingInventoryEntityList.add(shoppingInventoryEntity);
-        ShoppingListEntity shoppingListEntity = new ShoppingListEntity(1L, "XXX", shoppingInventoryEntityList);
+        ShoppingInventoryEntity shoppingInventoryEntity = new ShoppingInventoryEntity(1L,1L, "Cola", 2f);
 
-        Mockito.when(shoppingListRepository.existsById(1L)).thenReturn(true);
-        Mockito.when(shoppingListRepository.findById(1L)).thenReturn(Optional.of(shoppingListEntity));
-        Mockito.when(shoppingListRepository.save(Mockito.any(ShoppingListEntity.class))).thenReturn(shoppingListEntity);
-        Mockito.when(shoppingListMapper.toShoppingListDto(Mockito.any(ShoppingListEntity.class))).thenReturn(
-                new ShoppingListDto(1L,  "XXX", new ArrayList<>()));
+        Mockito.when(shoppingInventoryRepository.updateAmount(1L, 1L, 2f)).thenReturn(Optional.of(shoppingInventoryEntity));
+        Mockito.when(shoppingListMapper.toShoppingInventoryDto(Mockito.any(ShoppingInventoryEntity.class))).thenReturn(
+                new ShoppingInventoryDto(1L, 1L, "Cola", 2f));
         ShoppingInventoryDto result = shoppingListService.updateShoppingList(1L,shoppingInventoryEntity);
-        assertThat(result).isNull();
+
+        assertThat(result).isNotNull();
+        assertThat(result.getAmount()).isEqualTo(2f);
+        Mockito.verify(shoppingListRepository, Mockito.never()).findWithItemsById(any());
+        Mockito.verify(shoppingListRepository, Mockito.never()).save(any());
+        Mockito.verify(secondLevelCacheService).evictShoppingInventory(1L, 1L);
+        Mockito.verify(shoppingListResponseCache).invalidate(1L);
     }
 
     @Test
     void testGetShoppingList_NotFound() {
-        Mockito.when(shoppingListRepository.existsById(any())).thenReturn(false);
+        Mockito.when(shoppingListRepository.findDtoById(any())).thenReturn(Optional.empty());
         ShoppingListDto result = shoppingListService.getShoppingList(1L);
         assertThat(result).isNull();
     }
 
     @Test
     void testGetShoppingList_Found() {
-        List<ShoppingInventoryEntity> shoppingInventoryEntityList = new ArrayList<>();
-        ShoppingInventoryEntity shoppingInventoryEntity = new ShoppingInventoryEntity(1L,1L, "Cola", 0.5f);
-        shoppingInventoryEntityList.add(shoppingInventoryEntity);
-        ShoppingListEntity shoppingListEntity = new ShoppingListEntity(1L, "XXX", shoppingInventoryEntityList);
+        List<ShoppingInventoryDto> shoppingInventoryDtoList = new ArrayList<>();
+        shoppingInventoryDtoList.add(new ShoppingInventoryDto(1L, 1L, "Cola", 0.5f));
 
-        Mockito.when(shoppingListRepository.existsById(1L)).thenReturn(true);
-        Mockito.when(shoppingListRepository.findById(1L)).thenReturn(Optional.of(shoppingListEntity));
-        Mockito.when(shoppingListMapper.toShoppingListDto(Mockito.any(ShoppingListEntity.class))).thenReturn(
-                new ShoppingListDto(1L,  "XXX", new ArrayList<>()));
+        Mockito.when(shoppingListRepository.findDtoById(1L)).thenReturn(Optional.of(new ShoppingListDto(1L, "XXX", shoppingInventoryDtoList)));
 
         ShoppingListDto result = shoppingListService.getShoppingList(1L);
 
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(1L);
-        assertThat(result.getShoppingInventoryDtoList().size()).isEqualTo(0);
+        assertThat(result.getShoppingInventoryDtoList().size()).isEqualTo(1);
+        Mockito.verify(shoppingListRepository, Mockito.never()).findWithItemsById(any());
+        Mockito.verifyNoInteractions(shoppingListMapper);
+    }
+
+    @Test
+    void testCreateShoppingListReactive_Create() throws IOException {
+        ShoppingListDto shoppingListDto = new ShoppingListDto(1L, "XXX", new ArrayList<>());
+        String exampleJson = "{\"id\": \"XXX\", \"inventory\": [{\"id\": 1, \"name\": \"Cola\", \"target\": 1.0, \"actual\": 0.5}]}";
+
+        Mockito.when(jpaScheduler.call(any())).thenAnswer(invocation -> Mono.fromSupplier(invocation.getArgument(0)));
+        Mockito.when(shoppingListRepository.existsByFridgeId("XXX")).thenReturn(false);
+        Mockito.when(fridgeService.getFridgeReactive("XXX")).thenReturn(Mono.just(new ObjectMapper().readValue(exampleJson, FridgeDto.class)));
+        Mockito.when(shoppingListRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        Mockito.when(shoppingListMapper.toShoppingListDto(any())).thenReturn(shoppingListDto);
+
+        ShoppingListDto result = shoppingListService.createShoppingListReactive("XXX").block();
+
+        assertThat(result).isSameAs(shoppingListDto);
+        Mockito.verify(jpaScheduler, Mockito.times(2)).call(any());
+    }
+
+    @Test
+    void testCreateShoppingListReactive_CreatedConcurrently() throws IOException {
+        String exampleJson = "{\"id\": \"XXX\", \"inventory\": [{\"id\": 1, \"name\": \"Cola\", \"target\": 1.0, \"actual\": 0.5}]}";
+
+        Mockito.when(jpaScheduler.call(any())).thenAnswer(invocation -> Mono.fromSupplier(invocation.getArgument(0)));
+        Mockito.when(shoppingListRepository.existsByFridgeId("XXX")).thenReturn(false);
+        Mockito.when(fridgeService.getFridgeReactive("XXX")).thenReturn(Mono.just(new ObjectMapper().readValue(exampleJson, FridgeDto.class)));
+        Mockito.when(shoppingListRepository.save(any())).thenThrow(new DataIntegrityViolationException("ux_shopping_list_fridge_id"));
+
+        ShoppingListDto result = shoppingListService.createShoppingListReactive("XXX").block();
+
+        assertThat(result).isNull();
+    }
+
+    @Test
+    void testAutoUpdateShoppingListReactive_NotFound() {
+        Mockito.when(jpaScheduler.call(any())).thenAnswer(invocation -> Mono.fromSupplier(invocation.getArgument(0)));
+        Mockito.when(shoppingListRepository.existsById(1L)).thenReturn(false);
+
+        ShoppingListDto result = shoppingListService.autoUpdateShoppingListReactive(1L, "XXX").block();
+
+        assertThat(result).isNull();
+        Mockito.verify(fridgeService, Mockito.never()).getFridgeReactive(any());
     }
 
 }
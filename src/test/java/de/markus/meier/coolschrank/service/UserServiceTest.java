@@ -4,6 +4,7 @@ import de.markus.meier.coolschrank.model.dto.UserDto;
 import de.markus.meier.coolschrank.model.model.UserEntity;
 import de.markus.meier.coolschrank.repository.UserRepository;
 import de.markus.meier.coolschrank.util.UserMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -12,13 +13,14 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import reactor.core.publisher.Mono;
 
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 
-@SpringBootTest(classes = {UserService.class})
+@SpringBootTest(classes = {UserService.class, ServiceMetrics.class, SimpleMeterRegistry.class})
 public class UserServiceTest {
 
     @Autowired
@@ -31,6 +33,12 @@ public class UserServiceTest {
     @MockBean(name = "usermapper")
     private UserMapper userMapper;
 
+    @MockBean
+    private SecondLevelCacheService secondLevelCacheService;
+
+    @MockBean
+    private JpaScheduler jpaScheduler;
+
     @BeforeEach
     public void init() {
         MockitoAnnotations.openMocks(this);
@@ -85,4 +93,22 @@ public class UserServiceTest {
         assertThat(result.getUsername()).isEqualTo(userDto.getUsername());
         assertThat(result.getPassword()).isEqualTo(userDto.getPassword());
     }
+
+    @Test
+    void testGetUserReactive_RunsOnJpaScheduler() {
+        UserEntity userEntity = new UserEntity(1l,"Markus","test123","XXX");
+        UserDto userDto = new UserDto(1l,"Markus","test123","XXX");
+        Mockito.when(jpaScheduler.call(any())).thenAnswer(invocation -> Mono.fromSupplier(invocation.getArgument(0)));
+        Mockito.when(userRepository.findById(any())).thenReturn(Optional.ofNullable(userEntity));
+        Mockito.when(userMapper.toUserDto(any())).thenReturn(userDto);
+        assertThat(userService.getUserReactive(1L).block()).isSameAs(userDto);
+        Mockito.verify(jpaScheduler).call(any());
+    }
+
+    @Test
+    void testUpdateFrigdeIdReactive_NotFound() {
+        Mockito.when(jpaScheduler.call(any())).thenAnswer(invocation -> Mono.fromSupplier(invocation.getArgument(0)));
+        Mockito.when(userRepository.findById(any())).thenReturn(Optional.ofNullable(null));
+        assertThat(userService.updateFrigdeIdReactive(1L,"XXX").blockOptional()).isEmpty();
+    }
 }
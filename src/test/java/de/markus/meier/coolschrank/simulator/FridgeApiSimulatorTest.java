@@ -0,0 +1,105 @@
+package de.markus.meier.coolschrank.simulator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.markus.meier.coolschrank.model.dto.FridgeDto;
+import de.markus.meier.coolschrank.model.dto.FridgeInventoryDto;
+import de.markus.meier.coolschrank.model.dto.ShoppingListDto;
+import de.markus.meier.coolschrank.service.FridgeService;
+import de.markus.meier.coolschrank.service.ShoppingListService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:fridge-simulator",
+        "fridge.simulator.latency-median=1ms",
+        "fridge.simulator.latency-p99=1ms",
+        "fridge.simulator.inventory-size=3",
+        "fridge.simulator.auto-create=false"})
+@ActiveProfiles("fridge-simulator")
+public class FridgeApiSimulatorTest {
+
+    @Autowired
+    private FridgeService fridgeService;
+
+    @Autowired
+    private ShoppingListService shoppingListService;
+
+    @Autowired
+    private FridgeApiSimulator fridgeApiSimulator;
+
+    @Test
+    void testCreateFridge_StartsWithGeneratedInventory() {
+        String id = fridgeService.createFridge();
+
+        FridgeDto fridge = fridgeService.getFridge(id);
+
+        assertThat(fridge.getId()).isEqualTo(id);
+        assertThat(fridge.getInventory()).hasSize(3);
+        assertThat(fridgeApiSimulator.getRequestCount()).isPositive();
+    }
+
+    @Test
+    void testGetFridge_Unknown() {
+        assertThat(fridgeService.getFridge("unknown")).isNull();
+    }
+
+    @Test
+    void testAddAndUpdateFridgeInventory() {
+        String id = fridgeService.createFridge();
+        fridgeService.getFridge(id);
+
+        FridgeInventoryDto added = fridgeService.addFridgeInventory(new FridgeInventoryDto("Milch", 0, 2), id);
+        added.setActual(1);
+        FridgeInventoryDto updated = fridgeService.upDateFridgeInventory(added, id);
+
+        assertThat(updated.getActual()).isEqualTo(1);
+        assertThat(fridgeService.getFridge(id).getInventory())
+                .anySatisfy(item -> {
+                    assertThat(item.getName()).isEqualTo("Milch");
+                    assertThat(item.getActual()).isEqualTo(1);
+                });
+    }
+
+    @Test
+    void testUpdateFridgeInventory_UnknownItem() {
+        String id = fridgeService.createFridge();
+
+        assertThatThrownBy(() -> fridgeService.upDateFridgeInventory(new FridgeInventoryDto(999L, "Milch", 1, 2), id))
+                .isInstanceOfSatisfying(WebClientResponseException.class, e -> assertThat(e.getStatusCode().value()).isEqualTo(404));
+    }
+
+    @Test
+    void testCreateShoppingList_FromSimulatedFridge() {
+        String id = fridgeService.createFridge();
+        fridgeService.addFridgeInventory(new FridgeInventoryDto("Butter", 0, 2), id);
+
+        ShoppingListDto shoppingList = shoppingListService.createShoppingList(id);
+
+        assertThat(shoppingList.getShoppingInventoryDtoList())
+                .anySatisfy(item -> assertThat(item.getName()).isEqualTo("Butter"));
+    }
+
+    @Test
+    void testErrorRate_FailsEveryRequest() {
+        FridgeSimulatorProperties properties = new FridgeSimulatorProperties();
+        properties.setLatencyMedian(Duration.ofMillis(1));
+        properties.setErrorRate(1);
+        try (FridgeApiSimulator simulator = new FridgeApiSimulator(properties, new ObjectMapper())) {
+            WebClient webClient = WebClient.create(simulator.baseUrl());
+
+            assertThatThrownBy(() -> webClient.post().uri("/fridge").retrieve().toBodilessEntity().block())
+                    .isInstanceOfSatisfying(WebClientResponseException.class, e -> assertThat(e.getStatusCode().value()).isEqualTo(503));
+            assertThat(simulator.getErrorCount()).isEqualTo(1);
+        }
+    }
+
+}
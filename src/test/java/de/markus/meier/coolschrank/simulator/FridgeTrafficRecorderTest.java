@@ -0,0 +1,99 @@
+package de.markus.meier.coolschrank.simulator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.markus.meier.coolschrank.config.FridgeApiProperties;
+import de.markus.meier.coolschrank.model.dto.FridgeDto;
+import de.markus.meier.coolschrank.model.dto.FridgeInventoryDto;
+import de.markus.meier.coolschrank.model.model.FridgeInventoryEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FridgeTrafficRecorderTest {
+
+    @TempDir
+    private Path directory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private FridgeApiSimulator simulator;
+
+    private FridgeApiProperties fridgeApiProperties;
+
+    @BeforeEach
+    public void init() {
+        FridgeSimulatorProperties properties = new FridgeSimulatorProperties();
+        properties.setLatencyMedian(Duration.ofMillis(5));
+        properties.setInventorySize(2);
+        simulator = new FridgeApiSimulator(properties, objectMapper);
+        fridgeApiProperties = new FridgeApiProperties();
+        fridgeApiProperties.setBaseUrl(simulator.baseUrl());
+    }
+
+    @AfterEach
+    public void close() {
+        simulator.close();
+    }
+
+    @Test
+    void testRecord_CapturesRequestsAndResponses() throws Exception {
+        Path file = directory.resolve("traffic.jsonl.gz");
+        FridgeDto fridge;
+        try (FridgeTrafficRecorder recorder = new FridgeTrafficRecorder(fridgeApiProperties, objectMapper, file)) {
+            WebClient webClient = WebClient.builder().filter(recorder).build();
+            fridge = webClient.post().uri(simulator.baseUrl() + "/fridge").retrieve().bodyToMono(FridgeDto.class).block();
+            FridgeInventoryDto added = webClient.post().uri(simulator.baseUrl() + "/fridge/" + fridge.getId() + "/item")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(new FridgeInventoryEntity("Milch", 2))
+                    .retrieve().bodyToMono(FridgeInventoryDto.class).block();
+
+            assertThat(added.getName()).isEqualTo("Milch");
+            assertThat(recorder.getRecordedCount()).isEqualTo(2);
+        }
+
+        List<RecordedExchange> recording = FridgeTrafficFile.read(file, objectMapper);
+
+        assertThat(recording).hasSize(2);
+        RecordedExchange create = recording.get(0);
+        assertThat(create.getMethod()).isEqualTo("POST");
+        assertThat(create.getPath()).isEqualTo("/fridge");
+        assertThat(create.getStatus()).isEqualTo(200);
+        assertThat(create.getETag()).isNotNull();
+        assertThat(create.getLatencyMicros()).isGreaterThanOrEqualTo(Duration.ofMillis(5).toNanos() / 1000);
+        assertThat(objectMapper.readValue(create.getResponseBody(), FridgeDto.class).getId()).isEqualTo(fridge.getId());
+        RecordedExchange addItem = recording.get(1);
+        assertThat(addItem.getPath()).isEqualTo("/fridge/" + fridge.getId() + "/item");
+        assertThat(addItem.getRequestBody()).contains("\"Milch\"");
+        assertThat(addItem.getOffsetMicros()).isGreaterThanOrEqualTo(create.getOffsetMicros() + create.getLatencyMicros());
+    }
+
+    @Test
+    void testRecord_KeepsNotModifiedResponses() throws Exception {
+        Path file = directory.resolve("traffic.jsonl");
+        try (FridgeTrafficRecorder recorder = new FridgeTrafficRecorder(fridgeApiProperties, objectMapper, file)) {
+            WebClient webClient = WebClient.builder().baseUrl(simulator.baseUrl()).filter(recorder).build();
+            String id = webClient.post().uri("/fridge").retrieve().bodyToMono(FridgeDto.class).block().getId();
+            String eTag = webClient.get().uri("/fridge/" + id).retrieve().toBodilessEntity().block().getHeaders().getETag();
+            int status = webClient.get().uri("/fridge/" + id).ifNoneMatch(eTag).retrieve().toBodilessEntity().block().getStatusCode().value();
+
+            assertThat(status).isEqualTo(304);
+        }
+
+        List<RecordedExchange> recording = FridgeTrafficFile.read(file, objectMapper);
+
+        assertThat(recording).hasSize(3);
+        assertThat(recording.get(2).getStatus()).isEqualTo(304);
+        assertThat(recording.get(2).getIfNoneMatch()).isEqualTo(recording.get(1).getETag());
+        assertThat(recording.get(2).getResponseBody()).isNull();
+    }
+
+}
@@ -0,0 +1,82 @@
+package de.markus.meier.coolschrank.simulator;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class FridgeTrafficReplayServerTest {
+
+    private static final String FRIDGE_JSON = "{\"id\":\"1\",\"inventory\":[]}";
+
+    @Test
+    void testReplay_ServesResponsesInRecordedOrder() {
+        List<RecordedExchange> recording = List.of(
+                new RecordedExchange(0, 1000, "GET", "/fridge/1", null, null, 200, "\"v1\"", FRIDGE_JSON),
+                new RecordedExchange(5000, 1000, "GET", "/fridge/1", null, null, 500, null, null));
+        try (FridgeTrafficReplayServer server = new FridgeTrafficReplayServer(recording, 1)) {
+            WebClient webClient = WebClient.create(server.baseUrl());
+
+            assertThat(status(webClient, HttpMethod.GET, "/fridge/1")).isEqualTo(200);
+            assertThat(status(webClient, HttpMethod.GET, "/fridge/1")).isEqualTo(500);
+            assertThat(status(webClient, HttpMethod.GET, "/fridge/1")).isEqualTo(200);
+            assertThat(server.getServedCount()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    void testReplay_NotModifiedOnlyForMatchingEntityTag() {
+        List<RecordedExchange> recording = List.of(
+                new RecordedExchange(0, 1000, "GET", "/fridge/1", null, null, 200, "\"v1\"", FRIDGE_JSON),
+                new RecordedExchange(5000, 1000, "GET", "/fridge/1", "\"v1\"", null, 304, "\"v1\"", null),
+                new RecordedExchange(9000, 1000, "GET", "/fridge/1", "\"v1\"", null, 304, "\"v1\"", null));
+        try (FridgeTrafficReplayServer server = new FridgeTrafficReplayServer(recording, 1)) {
+            WebClient webClient = WebClient.create(server.baseUrl());
+
+            webClient.get().uri("/fridge/1").retrieve().toBodilessEntity().block();
+            ResponseEntity<String> revalidated = webClient.get().uri("/fridge/1").ifNoneMatch("\"v1\"")
+                    .retrieve().toEntity(String.class).block();
+            ResponseEntity<String> cold = webClient.get().uri("/fridge/1").retrieve().toEntity(String.class).block();
+
+            assertThat(revalidated.getStatusCode().value()).isEqualTo(304);
+            assertThat(cold.getStatusCode().value()).isEqualTo(200);
+            assertThat(cold.getBody()).isEqualTo(FRIDGE_JSON);
+        }
+    }
+
+    @Test
+    void testReplay_Unmatched() {
+        try (FridgeTrafficReplayServer server = new FridgeTrafficReplayServer(List.of(), 1)) {
+            assertThat(status(WebClient.create(server.baseUrl()), HttpMethod.GET, "/fridge/2")).isEqualTo(404);
+            assertThat(server.getUnmatchedCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void testReplay_AcceleratedSpeed() {
+        List<RecordedExchange> recording = List.of(
+                new RecordedExchange(0, Duration.ofSeconds(2).toNanos() / 1000, "POST", "/fridge", null, null, 200, null, FRIDGE_JSON));
+        try (FridgeTrafficReplayServer server = new FridgeTrafficReplayServer(recording, 100)) {
+            long start = System.nanoTime();
+            assertThat(status(WebClient.create(server.baseUrl()), HttpMethod.POST, "/fridge")).isEqualTo(200);
+
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+        }
+        assertThatThrownBy(() -> new FridgeTrafficReplayServer(recording, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static int status(WebClient webClient, HttpMethod method, String path) {
+        return webClient.method(method)
+                .uri(path)
+                .exchangeToMono(response -> response.releaseBody().then(Mono.just(response.statusCode().value())))
+                .block();
+    }
+
+}
@@ -0,0 +1,133 @@
+package de.markus.meier.coolschrank.tracing;
+
+import brave.handler.MutableSpan;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.tracing.brave.bridge.BraveFinishedSpan;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RollingFileSpanReporterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testReport_WritesOneLinePerSpan() throws IOException {
+        Path file = directory.resolve("spans.jsonl");
+        RollingFileSpanReporter reporter = new RollingFileSpanReporter(file, 1024 * 1024, 3, 100, objectMapper);
+
+        reporter.report(span("1", null, "shopping_list.load", 1_000, 1_250));
+        reporter.report(span("2", "1", "fridge.get", 1_300, 2_300));
+        reporter.close();
+
+        List<String> lines = Files.readAllLines(file);
+        assertThat(lines).hasSize(2);
+        ExportedSpan first = objectMapper.readValue(lines.get(0), ExportedSpan.class);
+        assertThat(first.getTraceId()).isEqualTo("000000000000000a");
+        assertThat(first.getSpanId()).isEqualTo("0000000000000001");
+        assertThat(first.getParentId()).isNull();
+        assertThat(first.getName()).isEqualTo("shopping_list.load");
+        assertThat(first.getStartMicros()).isEqualTo(1_000);
+        assertThat(first.getDurationMicros()).isEqualTo(250);
+        assertThat(first.getTags()).containsEntry("stage", "shopping_list.load");
+        ExportedSpan second = objectMapper.readValue(lines.get(1), ExportedSpan.class);
+        assertThat(second.getParentId()).isEqualTo("0000000000000001");
+        assertThat(second.getDurationMicros()).isEqualTo(1_000);
+        assertThat(reporter.getExportedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void testReport_RollsAndKeepsMaxFiles() throws IOException {
+        Path file = directory.resolve("spans.jsonl");
+        RollingFileSpanReporter reporter = new RollingFileSpanReporter(file, 200, 3, 100, objectMapper);
+
+        for (int i = 1; i <= 20; i++) {
+            reporter.report(span(Integer.toHexString(i), null, "stage-" + i, i * 1_000L, i * 1_000L + 10));
+        }
+        reporter.close();
+
+        assertThat(file).exists();
+        assertThat(directory.resolve("spans.jsonl.1")).exists();
+        assertThat(directory.resolve("spans.jsonl.2")).exists();
+        assertThat(directory.resolve("spans.jsonl.3")).doesNotExist();
+        assertThat(Files.size(file)).isLessThanOrEqualTo(200);
+        List<String> newest = Files.readAllLines(file);
+        assertThat(objectMapper.readValue(newest.get(newest.size() - 1), ExportedSpan.class).getName()).isEqualTo("stage-20");
+        assertThat(reporter.getExportedCount()).isEqualTo(20);
+    }
+
+    @Test
+    void testReport_AppendsAfterRestart() throws IOException {
+        Path file = directory.resolve("spans.jsonl");
+        RollingFileSpanReporter before = new RollingFileSpanReporter(file, 1024 * 1024, 3, 100, objectMapper);
+        before.report(span("1", null, "before-restart", 1_000, 2_000));
+        before.close();
+
+        RollingFileSpanReporter after = new RollingFileSpanReporter(file, 1024 * 1024, 3, 100, objectMapper);
+        after.report(span("2", null, "after-restart", 3_000, 4_000));
+        after.close();
+
+        assertThat(Files.readAllLines(file)).extracting(line -> objectMapper.readValue(line, ExportedSpan.class).getName())
+                .containsExactly("before-restart", "after-restart");
+    }
+
+    @Test
+    void testReport_KeepsWritingAfterFailedRoll() throws Exception {
+        Path file = directory.resolve("spans.jsonl");
+        Path blocker = Files.createDirectories(directory.resolve("spans.jsonl.1"));
+        Files.createFile(blocker.resolve("in-the-way"));
+        RollingFileSpanReporter reporter = new RollingFileSpanReporter(file, 200, 2, 100, objectMapper);
+
+        reporter.report(span("1", null, "stage-1", 1_000, 1_010));
+        reporter.report(span("2", null, "stage-2", 2_000, 2_010));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (reporter.getFailedCount() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(reporter.getFailedCount()).isEqualTo(1);
+        Files.delete(blocker.resolve("in-the-way"));
+        Files.delete(blocker);
+
+        reporter.report(span("3", null, "stage-3", 3_000, 3_010));
+        reporter.close();
+
+        assertThat(Files.readAllLines(directory.resolve("spans.jsonl.1"))).hasSize(1).first().asString().contains("stage-1");
+        assertThat(Files.readAllLines(file)).hasSize(1).first().asString().contains("stage-3");
+        assertThat(reporter.getExportedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void testReport_DropsWhenClosed() throws IOException {
+        RollingFileSpanReporter reporter = new RollingFileSpanReporter(directory.resolve("spans.jsonl"), 1024, 2, 100, objectMapper);
+        reporter.close();
+
+        reporter.report(span("1", null, "late", 1_000, 2_000));
+
+        assertThat(reporter.getDroppedCount()).isEqualTo(1);
+        assertThat(reporter.getExportedCount()).isZero();
+    }
+
+    private static BraveFinishedSpan span(String id, String parentId, String name, long startMicros, long finishMicros) {
+        MutableSpan span = new MutableSpan();
+        span.traceId("a");
+        span.id(id);
+        if (parentId != null) {
+            span.parentId(parentId);
+        }
+        span.name(name);
+        span.startTimestamp(startMicros);
+        span.finishTimestamp(finishMicros);
+        span.tag("stage", name);
+        return new BraveFinishedSpan(span);
+    }
+}
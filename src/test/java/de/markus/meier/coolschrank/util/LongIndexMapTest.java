@@ -0,0 +1,29 @@
+package de.markus.meier.coolschrank.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LongIndexMapTest {
+
+    @Test
+    void testPutIfAbsentAndGet() {
+        LongIndexMap longIndexMap = new LongIndexMap(1_000);
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(longIndexMap.putIfAbsent(Long.MAX_VALUE - i * 1024L, i)).isTrue();
+        }
+        assertThat(longIndexMap.putIfAbsent(Long.MAX_VALUE, 5)).isFalse();
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(longIndexMap.get(Long.MAX_VALUE - i * 1024L)).isEqualTo(i);
+        }
+        assertThat(longIndexMap.get(42L)).isEqualTo(-1);
+    }
+
+    @Test
+    void testEmpty() {
+        LongIndexMap longIndexMap = new LongIndexMap(0);
+        assertThat(longIndexMap.get(0L)).isEqualTo(-1);
+        assertThat(longIndexMap.putIfAbsent(0L, 0)).isTrue();
+        assertThat(longIndexMap.get(0L)).isEqualTo(0);
+    }
+}
@@ -0,0 +1,74 @@
+package de.markus.meier.coolschrank.util;
+
+import de.markus.meier.coolschrank.model.dto.FridgeInventoryDto;
+import de.markus.meier.coolschrank.model.model.ShoppingInventoryEntity;
+import de.markus.meier.coolschrank.model.model.ShoppingListEntity;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = {ShoppingListReconciler.class})
+public class ShoppingListReconcilerTest {
+
+    @Autowired
+    private ShoppingListReconciler shoppingListReconciler;
+
+    @Test
+    void testReconcile_AddedChangedRemoved() {
+        List<FridgeInventoryDto> inventory = new ArrayList<>();
+        inventory.add(new FridgeInventoryDto(1L, "Cola", 1f, 3f));
+        inventory.add(new FridgeInventoryDto(2L, "Milch", 0f, 2f));
+        inventory.add(new FridgeInventoryDto(3L, "Butter", 1f, 1f));
+        List<ShoppingInventoryEntity> shoppingInventoryEntityList = new ArrayList<>();
+        ShoppingInventoryEntity cola = new ShoppingInventoryEntity(10L, 1L, "Cola", 1f);
+        ShoppingInventoryEntity wasser = new ShoppingInventoryEntity(11L, 4L, "Wasser", 1f);
+        shoppingInventoryEntityList.add(cola);
+        shoppingInventoryEntityList.add(wasser);
+
+        ShoppingListReconciler.Reconciliation result = shoppingListReconciler.reconcile(shoppingInventoryEntityList, inventory);
+
+        assertThat(result.hasChanges()).isTrue();
+        assertThat(result.getAdded()).extracting(ShoppingInventoryEntity::getFridgeInventoryId).containsExactly(2L);
+        assertThat(result.getChanged()).extracting(ShoppingListReconciler.AmountChange::getShoppingInventoryEntity).containsExactly(cola);
+        assertThat(result.getChanged().get(0).getAmount()).isEqualTo(2f);
+        assertThat(result.getRemoved()).containsExactly(wasser);
+        assertThat(cola.getAmount()).isEqualTo(1f);
+
+        ShoppingListEntity shoppingListEntity = new ShoppingListEntity(1L, "XXX", shoppingInventoryEntityList);
+        result.applyTo(shoppingListEntity);
+
+        assertThat(shoppingInventoryEntityList).extracting(ShoppingInventoryEntity::getFridgeInventoryId).containsExactly(1L, 2L);
+        assertThat(shoppingInventoryEntityList).allMatch(shoppingInventoryEntity -> shoppingInventoryEntity.getShoppingList() == shoppingListEntity);
+        assertThat(cola.getAmount()).isEqualTo(2f);
+    }
+
+    @Test
+    void testReconcile_LargeIdsMatch() {
+        List<FridgeInventoryDto> inventory = new ArrayList<>();
+        inventory.add(new FridgeInventoryDto(5_000_000_000L, "Cola", 1f, 3f));
+        List<ShoppingInventoryEntity> shoppingInventoryEntityList = new ArrayList<>();
+        shoppingInventoryEntityList.add(new ShoppingInventoryEntity(1L, Long.valueOf(5_000_000_000L), "Cola", 2f));
+
+        ShoppingListReconciler.Reconciliation result = shoppingListReconciler.reconcile(shoppingInventoryEntityList, inventory);
+
+        assertThat(result.hasChanges()).isFalse();
+    }
+
+    @Test
+    void testReconcile_AmountNeverNegative() {
+        List<FridgeInventoryDto> inventory = new ArrayList<>();
+        inventory.add(new FridgeInventoryDto(1000L, "Cola", 5f, 3f));
+        List<ShoppingInventoryEntity> shoppingInventoryEntityList = new ArrayList<>();
+        shoppingInventoryEntityList.add(new ShoppingInventoryEntity(1L, 1000L, "Cola", 2f));
+
+        ShoppingListReconciler.Reconciliation result = shoppingListReconciler.reconcile(shoppingInventoryEntityList, inventory);
+        result.applyTo(new ShoppingListEntity(1L, "XXX", shoppingInventoryEntityList));
+
+        assertThat(shoppingInventoryEntityList.get(0).getAmount()).isEqualTo(0f);
+    }
+}
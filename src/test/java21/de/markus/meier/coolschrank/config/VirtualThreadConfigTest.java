@@ -0,0 +1,22 @@
+package de.markus.meier.coolschrank.config;
+
+import org.apache.coyote.http11.Http11NioProtocol;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class VirtualThreadConfigTest {
+
+    @Test
+    void testCustomizer_RunsRequestsOnVirtualThreads() throws Exception {
+        Http11NioProtocol protocol = new Http11NioProtocol();
+        new VirtualThreadConfig().virtualThreadProtocolHandlerCustomizer().customize(protocol);
+
+        CompletableFuture<Boolean> virtual = new CompletableFuture<>();
+        protocol.getExecutor().execute(() -> virtual.complete(Thread.currentThread().isVirtual()));
+        assertThat(virtual.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+}